@@ -0,0 +1,136 @@
+package com.sourav.enterprise.sanitizer.batch.config;
+
+import com.sourav.enterprise.sanitizer.BatchDataSanitizerApplication;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvGenerator;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvSpec;
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The whole sanitization job as built by SanitizationJobFactory, one
+ * operation per job run over a 200,000-row file with MASK, HASH, NULLIFY and
+ * RANDOMIZE rules. The application context starts without the web layer, on
+ * an in-memory job repository database. Reports rows/s and input MB/s next
+ * to jobs/s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SanitizationJobBenchmark {
+
+    @Param({ "opencsv", "mapped", "simd" })
+    public String readerEngine;
+
+    @Param({ "opencsv", "nio" })
+    public String writerEngine;
+
+    @Param({ "full", "lightweight" })
+    public String repositoryMode;
+
+    @Param({ "200000" })
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private SanitizationJobFactory jobFactory;
+    private JobLauncher jobLauncher;
+    private Path input;
+    private Path output;
+    private long inputSize;
+
+    /**
+     * Rows and input bytes sanitized, per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        public long rows;
+        public long bytes;
+
+        public double megabytes() {
+            return bytes / 1_000_000.0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        input = Files.createTempFile("sanitize-job-in-", ".csv");
+        output = Files.createTempFile("sanitize-job-out-", ".csv");
+        new SyntheticCsvGenerator(SyntheticCsvSpec.builder().rows(rows).columns(8).build()).write(input);
+        inputSize = Files.size(input);
+
+        context = new SpringApplicationBuilder(BatchDataSanitizerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "sanitizer.batch.reader-engine=" + readerEngine,
+                        "sanitizer.batch.writer-engine=" + writerEngine,
+                        "sanitizer.batch.repository-mode=" + repositoryMode,
+                        "logging.level.root=WARN")
+                .run();
+        jobFactory = context.getBean(SanitizationJobFactory.class);
+        jobLauncher = context.getBean(JobLauncher.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public void sanitize(Throughput throughput) throws Exception {
+        Map<String, SanitizationOperation> rules = new LinkedHashMap<>();
+        rules.put("email", SanitizationOperation.HASH);
+        rules.put("phone", SanitizationOperation.MASK);
+        rules.put("address", SanitizationOperation.MASK);
+        rules.put("ssn", SanitizationOperation.NULLIFY);
+        rules.put("name", SanitizationOperation.RANDOMIZE);
+        SanitizationConfig config = SanitizationConfig.builder().columns(rules).build();
+        JobConfig jobConfig = JobConfig.create(input.toString(), output.toString(), rules, "{}", 1000, 100);
+
+        JobExecution execution = jobLauncher.run(jobFactory.createJob(jobConfig, config), new JobParametersBuilder()
+                .addString("inputFile", input.toString())
+                .addString("outputFile", output.toString())
+                .addString("rulesJson", "{}")
+                .addString("jobId", jobConfig.getJobId())
+                .toJobParameters());
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("Job ended " + execution.getStatus() + ": "
+                    + execution.getExitStatus().getExitDescription());
+        }
+        throughput.rows += rows;
+        throughput.bytes += inputSize;
+    }
+}
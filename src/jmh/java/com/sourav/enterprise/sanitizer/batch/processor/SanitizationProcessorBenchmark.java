@@ -0,0 +1,125 @@
+package com.sourav.enterprise.sanitizer.batch.processor;
+
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvGenerator;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvSpec;
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import com.sourav.enterprise.sanitizer.strategy.HashStrategy;
+import com.sourav.enterprise.sanitizer.strategy.MaskStrategy;
+import com.sourav.enterprise.sanitizer.strategy.NullifyStrategy;
+import com.sourav.enterprise.sanitizer.strategy.RandomizeStrategy;
+import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategyFactory;
+import com.sourav.enterprise.sanitizer.strategy.ValueClassifier;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One row through the processor with MASK, HASH and NULLIFY rules, per record
+ * representation: decoded Strings (opencsv reader), unescaped byte slices, and
+ * raw encoded slices (passthrough). With -prof gc, gc.alloc.rate.norm is the
+ * allocation per row of each path. strategySampleRate compares the processor
+ * without metrics (-1) and with strategy timing off (0) or on one row in 64.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizationProcessorBenchmark {
+    private static final int ROWS = 1024;
+
+    @Param({ "strings", "bytes", "encoded" })
+    public String records;
+
+    /**
+     * Adds RANDOMIZE on the name column, which always takes the String path
+     */
+    @Param({ "false", "true" })
+    public boolean randomize;
+
+    @Param({ "0", "10000" })
+    public int memoCacheSize;
+
+    @Param({ "-1", "0", "64" })
+    public int strategySampleRate;
+
+    private SanitizationProcessor processor;
+    private CsvRecord[] rows;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCsvGenerator generator = new SyntheticCsvGenerator(SyntheticCsvSpec.builder().columns(6).build());
+        CsvSchema schema = new CsvSchema(generator.getHeaders());
+        Map<String, SanitizationOperation> rules = new LinkedHashMap<>();
+        rules.put("email", SanitizationOperation.HASH);
+        rules.put("phone", SanitizationOperation.MASK);
+        rules.put("address", SanitizationOperation.MASK);
+        rules.put("ssn", SanitizationOperation.NULLIFY);
+        if (randomize) {
+            rules.put("name", SanitizationOperation.RANDOMIZE);
+        }
+        SanitizationStrategyFactory strategies = new SanitizationStrategyFactory(new MaskStrategy('*', 4),
+                new HashStrategy("SHA-256"), new NullifyStrategy(""), new RandomizeStrategy());
+        SanitizationPlan plan = SanitizationPlan.compile(SanitizationConfig.builder().columns(rules).build(),
+                schema, strategies);
+
+        rows = new CsvRecord[ROWS];
+        SemanticType[] types = new SemanticType[schema.size()];
+        FieldBuffer buffer = new FieldBuffer();
+        for (int i = 0; i < ROWS; i++) {
+            String[] values = generator.nextRow();
+            buffer.reset();
+            for (int c = 0; c < values.length; c++) {
+                SemanticType type = ValueClassifier.classify(values[c]);
+                types[c] = types[c] == null || types[c] == type ? type : SemanticType.MIXED;
+                if (records.equals("encoded")) {
+                    buffer.writeQuoted(values[c]);
+                } else {
+                    buffer.write(values[c].getBytes(StandardCharsets.UTF_8));
+                }
+                buffer.endField();
+            }
+            rows[i] = switch (records) {
+                case "strings" -> new CsvRecord(i + 1, schema, values);
+                case "bytes" -> new CsvRecord(i + 1, schema, buffer.toByteFields());
+                case "encoded" -> new CsvRecord(i + 1, schema, buffer.toEncodedFields());
+                default -> throw new IllegalArgumentException(records);
+            };
+        }
+        processor = strategySampleRate < 0
+                ? new SanitizationProcessor(plan.withTypes(types), memoCacheSize)
+                : new SanitizationProcessor(plan.withTypes(types), memoCacheSize,
+                        new PipelineMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), strategySampleRate));
+    }
+
+    @Benchmark
+    public CsvRecord process() throws Exception {
+        CsvRecord row = rows[next];
+        next = (next + 1) & (ROWS - 1);
+        return processor.process(row);
+    }
+}
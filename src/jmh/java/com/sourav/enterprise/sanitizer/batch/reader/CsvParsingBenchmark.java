@@ -0,0 +1,116 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokenizer throughput over one in-cache CSV file, one operation per full pass:
+ * opencsv, the byte-by-byte tokenizer, and the structural index with scalar
+ * and vector block scanners. Records are tokenized; only opencsv decodes fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class CsvParsingBenchmark {
+
+    /**
+     * plain: short unquoted fields; quoted: every other field quoted, 10% with
+     * escapes and newlines; long: plain with a 200-byte free-text column
+     */
+    @Param({ "plain", "quoted", "long" })
+    public String shape;
+
+    @Param({ "200000" })
+    public int rows;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        file = Files.createTempFile("csv-parsing-", ".csv");
+        Random random = new Random(42);
+        boolean quoted = shape.equals("quoted");
+        String text = shape.equals("long") ? "lorem ipsum dolor sit amet ".repeat(8).substring(0, 200) : "plain note";
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("id,name,email,phone,address,notes,amount,country\n");
+            for (int i = 0; i < rows; i++) {
+                String name = "John Smith" + random.nextInt(500);
+                String address = random.nextInt(999) + " Main St.";
+                String notes = random.nextInt(10) == 0 ? "\"multi\nline, \"\"q\"\"\"" : "plain note";
+                out.write(i + "," + (quoted ? '"' + name + '"' : name)
+                        + ",user" + random.nextInt(10000) + "@example.com,555-" + (100 + random.nextInt(900))
+                        + "-" + (1000 + random.nextInt(9000)) + "," + (quoted ? '"' + address + '"' : address)
+                        + "," + (quoted ? notes : text) + "," + random.nextInt(100000) + ",US\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long opencsv() throws Exception {
+        long fields = 0;
+        try (CSVReader reader = new CSVReaderBuilder(Files.newBufferedReader(file, StandardCharsets.UTF_8)).build()) {
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                fields += row.length;
+            }
+        }
+        return fields;
+    }
+
+    @Benchmark
+    public long byteScan() throws IOException {
+        return tokenize(null);
+    }
+
+    @Benchmark
+    public long scalarIndex() throws IOException {
+        return tokenize(new ScalarBlockScanner());
+    }
+
+    @Benchmark
+    public long vectorIndex() throws IOException {
+        return tokenize(new VectorBlockScanner());
+    }
+
+    private long tokenize(BlockScanner scanner) throws IOException {
+        long fields = 0;
+        try (MappedFileWindow window = new MappedFileWindow(file, MappedFileWindow.DEFAULT_WINDOW_SIZE)) {
+            CsvByteTokenizer tokenizer = scanner == null
+                    ? new CsvByteTokenizer(window)
+                    : new CsvByteTokenizer(window, new StructuralIndex(scanner));
+            while (tokenizer.nextRecord()) {
+                fields += tokenizer.fieldCount();
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,98 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvGenerator;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvSpec;
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item reader throughput, one operation per full pass over an in-cache file of
+ * about 2 million cells, for each reader engine and row width. Records are
+ * read the way a chunk step reads them: byte-slice records for the mapped
+ * engines, Strings for opencsv. Reports rows/s and MB/s next to passes/s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class CsvReaderBenchmark {
+    private static final int CELLS = 2_000_000;
+
+    @Param({ "OPENCSV", "MAPPED", "SIMD" })
+    public CsvReaderEngine engine;
+
+    @Param({ "8", "32", "128" })
+    public int columns;
+
+    private Path file;
+    private long fileSize;
+
+    /**
+     * Rows and input bytes read, per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        public long rows;
+        public long bytes;
+
+        public double megabytes() {
+            return bytes / 1_000_000.0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        file = Files.createTempFile("csv-reader-", ".csv");
+        SyntheticCsvSpec spec = SyntheticCsvSpec.builder().rows(CELLS / columns).columns(columns).build();
+        new SyntheticCsvGenerator(spec).write(file);
+        fileSize = Files.size(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void read(Throughput throughput, Blackhole blackhole) throws Exception {
+        CsvRecordReader reader = switch (engine) {
+            case OPENCSV -> new CsvItemReader(file.toString());
+            case MAPPED -> new MappedCsvItemReader(file.toString());
+            case SIMD -> new MappedCsvItemReader(file.toString(), CsvByteRange.WHOLE_FILE, true);
+        };
+        reader.setByteFields(true);
+        try {
+            reader.open(new ExecutionContext());
+            for (CsvRecord record; (record = reader.read()) != null; ) {
+                blackhole.consume(record);
+                throughput.rows++;
+            }
+        } finally {
+            reader.close();
+        }
+        throughput.bytes += fileSize;
+    }
+}
@@ -0,0 +1,128 @@
+package com.sourav.enterprise.sanitizer.batch.writer;
+
+import com.sourav.enterprise.sanitizer.batch.reader.MappedCsvItemReader;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvGenerator;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvSpec;
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item writer throughput, one operation per output file of about 1 million
+ * cells written in chunks of 1000, for each writer engine and row width.
+ * Records are held in memory the way each engine receives them in a chunk
+ * step: byte slices for nio, Strings for opencsv. Reports rows/s and MB/s
+ * of output next to files/s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvWriterBenchmark {
+    private static final int CELLS = 1_000_000;
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({ "OPENCSV", "NIO" })
+    public CsvWriterEngine engine;
+
+    @Param({ "8", "32", "128" })
+    public int columns;
+
+    private Path output;
+    private String[] headers;
+    private List<Chunk<CsvRecord>> chunks;
+
+    /**
+     * Rows and output bytes written, per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        public long rows;
+        public long bytes;
+
+        public double megabytes() {
+            return bytes / 1_000_000.0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void load() throws Exception {
+        Path input = Files.createTempFile("csv-writer-in-", ".csv");
+        output = Files.createTempFile("csv-writer-out-", ".csv");
+        try {
+            SyntheticCsvSpec spec = SyntheticCsvSpec.builder().rows(CELLS / columns).columns(columns).build();
+            new SyntheticCsvGenerator(spec).write(input);
+            MappedCsvItemReader reader = new MappedCsvItemReader(input.toString());
+            reader.setByteFields(engine.supportsByteFields());
+            chunks = new ArrayList<>();
+            try {
+                reader.open(new ExecutionContext());
+                headers = reader.getHeaders();
+                Chunk<CsvRecord> chunk = new Chunk<>();
+                for (CsvRecord record; (record = reader.read()) != null; ) {
+                    chunk.add(record);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        chunks.add(chunk);
+                        chunk = new Chunk<>();
+                    }
+                }
+                chunks.add(chunk);
+            } finally {
+                reader.close();
+            }
+        } finally {
+            Files.deleteIfExists(input);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public void write(Throughput throughput) throws Exception {
+        ItemStreamWriter<CsvRecord> writer = switch (engine) {
+            case OPENCSV -> new CsvItemWriter(output.toString(), headers, true);
+            case NIO -> new NioCsvItemWriter(output.toString(), headers, true, FlushPolicy.CHUNK_COMMIT, 1 << 20);
+        };
+        ExecutionContext context = new ExecutionContext();
+        try {
+            writer.open(context);
+            for (Chunk<CsvRecord> chunk : chunks) {
+                writer.write(chunk);
+                // What the step does at every commit
+                writer.update(context);
+                throughput.rows += chunk.size();
+            }
+        } finally {
+            writer.close();
+        }
+        throughput.bytes += Files.size(output);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sourav.enterprise.sanitizer.strategy;
+
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvGenerator;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvSpec;
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One strategy applied to one value, cycling through 1024 generated values of
+ * a column. The string path is apply(value, type) as the processor calls it
+ * for String records; the bytes path is the byte-slice contract (RANDOMIZE
+ * through StringStrategyAdapter) writing into a reused buffer. Run with
+ * -prof gc for the bytes allocated per value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizationStrategyBenchmark {
+    private static final int VALUES = 1024;
+
+    @Param({ "MASK", "HASH", "NULLIFY", "RANDOMIZE" })
+    public SanitizationOperation operation;
+
+    /**
+     * A PII column of the synthetic CSV files
+     */
+    @Param({ "email", "phone", "ssn", "name", "address" })
+    public String column;
+
+    private SanitizationStrategy strategy;
+    private ByteSanitizationStrategy byteStrategy;
+    private SemanticType type;
+    private String[] values;
+    private byte[][] bytes;
+    private final FieldBuffer out = new FieldBuffer();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        strategy = new SanitizationStrategyFactory(new MaskStrategy('*', 4), new HashStrategy("SHA-256"),
+                new NullifyStrategy(""), new RandomizeStrategy()).getStrategy(operation);
+        byteStrategy = strategy instanceof ByteSanitizationStrategy direct
+                ? direct
+                : new StringStrategyAdapter(strategy);
+
+        SyntheticCsvGenerator generator = new SyntheticCsvGenerator(SyntheticCsvSpec.builder().columns(6).build());
+        int position = Arrays.asList(generator.getHeaders()).indexOf(column);
+        values = new String[VALUES];
+        bytes = new byte[VALUES][];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = generator.nextRow()[position];
+            bytes[i] = values[i].getBytes(StandardCharsets.UTF_8);
+            // The column type the profiler would detect
+            SemanticType detected = ValueClassifier.classify(values[i]);
+            type = type == null || type == detected ? detected : SemanticType.MIXED;
+        }
+    }
+
+    @Benchmark
+    public String string() {
+        String value = values[next];
+        next = (next + 1) & (VALUES - 1);
+        return strategy.apply(value, type);
+    }
+
+    @Benchmark
+    public int bytes() {
+        byte[] value = bytes[next];
+        next = (next + 1) & (VALUES - 1);
+        out.reset();
+        byteStrategy.apply(value, 0, value.length, type, out);
+        return out.length();
+    }
+}
@@ -0,0 +1,44 @@
+package com.sourav.enterprise.sanitizer.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects the latencies of one endpoint across all load test workers.
+ */
+final class LatencyRecorder {
+    private long[] nanos = new long[1024];
+    private int count;
+
+    synchronized void record(long latencyNanos) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = latencyNanos;
+    }
+
+    /**
+     * Count, mean and percentiles in milliseconds.
+     */
+    synchronized LoadTestReport.Latency summary() {
+        if (count == 0) {
+            return new LoadTestReport.Latency(0, 0, 0, 0, 0, 0);
+        }
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        return new LoadTestReport.Latency(count,
+                millis(Arrays.stream(sorted).sum() / count),
+                millis(percentile(sorted, 50)),
+                millis(percentile(sorted, 95)),
+                millis(percentile(sorted, 99)),
+                millis(sorted[count - 1]));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
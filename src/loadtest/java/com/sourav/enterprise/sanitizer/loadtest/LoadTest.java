@@ -0,0 +1,335 @@
+package com.sourav.enterprise.sanitizer.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvGenerator;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvSpec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load Test - Generates synthetic CSV files and drives the REST API of a
+ * running sanitizer with concurrent jobs.
+ *
+ * Commands:
+ * - generate: writes one synthetic file
+ * - run: uploads a file (given or generated) as several jobs, polls their
+ *   status and downloads their results, then reports throughput, endpoint
+ *   latencies, and the server's peak heap and disk use from its actuator
+ *   metrics; fails when throughput falls too far below a stored baseline
+ *
+ * Exit codes: 0 passed, 1 throughput regression, 2 failed jobs, 64 bad usage.
+ */
+public final class LoadTest {
+    private static final String USAGE = """
+            Usage:
+              generate --output FILE [generator options]
+              run --url URL [--input FILE | generator options] [--jobs 4] [--concurrency 4]
+                  [--config JSON] [--poll-millis 500] [--report FILE]
+                  [--baseline FILE] [--max-regression 10] [--save-baseline FILE]
+
+            Generator options:
+              --rows 1000000 | --size 10GB, --columns 8, --cardinality 100000, --skew 0,
+              --quoted-rate 0.05, --malformed-rate 0, --seed 42
+            """;
+    private static final String DEFAULT_CONFIG = """
+            {"columns":{"name":"RANDOMIZE","email":"HASH","phone":"MASK","address":"MASK","ssn":"NULLIFY"}}""";
+    private static final Set<String> FINISHED = Set.of("COMPLETED", "FAILED", "STOPPED", "ABANDONED");
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String url;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+
+    private LoadTest(String url) {
+        this.url = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        for (String endpoint : List.of("upload", "status", "download")) {
+            latencies.put(endpoint, new LatencyRecorder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0 || !(args[0].equals("generate") || args[0].equals("run"))) {
+            System.err.print(USAGE);
+            System.exit(64);
+        }
+        Map<String, String> options = options(args);
+        if (args[0].equals("generate")) {
+            Path output = Path.of(required(options, "output"));
+            long start = System.nanoTime();
+            SyntheticCsvGenerator.Result result = new SyntheticCsvGenerator(spec(options)).write(output);
+            System.out.printf("Wrote %s: %d rows (%d malformed), %d bytes in %.1f s%n", output, result.rows(),
+                    result.malformedRows(), result.bytes(), (System.nanoTime() - start) / 1e9);
+            return;
+        }
+        System.exit(new LoadTest(required(options, "url")).run(options));
+    }
+
+    private int run(Map<String, String> options) throws Exception {
+        Path input;
+        boolean generated = !options.containsKey("input");
+        if (generated) {
+            input = Files.createTempFile("loadtest-", ".csv");
+            SyntheticCsvGenerator.Result result = new SyntheticCsvGenerator(spec(options)).write(input);
+            System.out.printf("Generated %d rows (%d bytes)%n", result.rows(), result.bytes());
+        } else {
+            input = Path.of(options.get("input"));
+        }
+
+        int jobs = Integer.parseInt(options.getOrDefault("jobs", "4"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", String.valueOf(jobs)));
+        String config = options.getOrDefault("config", DEFAULT_CONFIG);
+        long pollMillis = Long.parseLong(options.getOrDefault("poll-millis", "500"));
+
+        ServerSampler sampler = new ServerSampler();
+        ScheduledExecutorService sampling = Executors.newSingleThreadScheduledExecutor();
+        sampler.sample();
+        sampling.scheduleAtFixedRate(sampler::sample, 1, 1, TimeUnit.SECONDS);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        List<Future<JsonNode>> results = new ArrayList<>();
+        for (int i = 0; i < jobs; i++) {
+            results.add(workers.submit(() -> runJob(input, config, pollMillis)));
+        }
+        long rows = 0;
+        int failed = 0;
+        for (Future<JsonNode> result : results) {
+            try {
+                JsonNode status = result.get();
+                if (status.path("status").asText().equals("COMPLETED")) {
+                    rows += status.path("rowsProcessed").asLong();
+                } else {
+                    failed++;
+                    System.err.printf("Job %s ended %s: %s%n", status.path("jobExecutionId").asText(),
+                            status.path("status").asText(), status.path("exitDescription").asText());
+                }
+            } catch (Exception e) {
+                failed++;
+                System.err.println("Job failed: " + e.getCause());
+            }
+        }
+        double wallSeconds = (System.nanoTime() - start) / 1e9;
+        workers.shutdown();
+        sampling.shutdownNow();
+        sampler.sample();
+        long inputBytes = Files.size(input);
+        if (generated) {
+            Files.deleteIfExists(input);
+        }
+
+        Map<String, LoadTestReport.Latency> summaries = new LinkedHashMap<>();
+        latencies.forEach((endpoint, recorder) -> summaries.put(endpoint, recorder.summary()));
+        LoadTestReport report = new LoadTestReport(jobs, failed, inputBytes, rows, round(wallSeconds),
+                round(rows / wallSeconds), round(inputBytes * (double) jobs / 1e6 / wallSeconds), summaries,
+                sampler.peakHeapMegabytes(), sampler.peakDiskMegabytes());
+        System.out.print(report.describe());
+
+        if (options.containsKey("report")) {
+            JSON.writeValue(Path.of(options.get("report")).toFile(), report);
+        }
+        if (options.containsKey("save-baseline")) {
+            JSON.writeValue(Path.of(options.get("save-baseline")).toFile(), report);
+            System.out.println("Saved baseline " + options.get("save-baseline"));
+        }
+        if (failed > 0) {
+            return 2;
+        }
+        if (options.containsKey("baseline")) {
+            double baseline = JSON.readTree(Path.of(options.get("baseline")).toFile()).path("rowsPerSecond").asDouble();
+            double maxRegression = Double.parseDouble(options.getOrDefault("max-regression", "10"));
+            double change = (report.rowsPerSecond() - baseline) / baseline * 100;
+            System.out.printf("Against baseline: %.0f rows/s, %+.1f%% (allowed -%.1f%%)%n", baseline, change,
+                    maxRegression);
+            if (change < -maxRegression) {
+                System.out.println("FAILED: throughput regressed");
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Uploads the input as one job, polls it until it ends and downloads its output.
+     *
+     * @return the last status of the job
+     */
+    private JsonNode runJob(Path input, String config, long pollMillis) throws Exception {
+        String boundary = "loadtest-" + UUID.randomUUID();
+        String head = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"config\"\r\n\r\n" + config + "\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + input.getFileName() + "\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n";
+        String tail = "\r\n--" + boundary + "--\r\n";
+        HttpRequest upload = HttpRequest.newBuilder(URI.create(url + "/api/v1/sanitize"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.concat(
+                        HttpRequest.BodyPublishers.ofString(head),
+                        HttpRequest.BodyPublishers.ofFile(input),
+                        HttpRequest.BodyPublishers.ofString(tail)))
+                .build();
+        JsonNode status = send("upload", upload);
+        long id = status.path("jobExecutionId").asLong();
+
+        HttpRequest poll = HttpRequest.newBuilder(URI.create(url + "/api/v1/jobs/" + id)).GET().build();
+        while (!FINISHED.contains(status.path("status").asText())) {
+            Thread.sleep(pollMillis);
+            status = send("status", poll);
+        }
+
+        if (status.path("status").asText().equals("COMPLETED")) {
+            HttpRequest download = HttpRequest.newBuilder(URI.create(url + "/api/v1/jobs/" + id + "/download"))
+                    .GET().build();
+            long started = System.nanoTime();
+            HttpResponse<InputStream> response = http.send(download, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            latencies.get("download").record(System.nanoTime() - started);
+            if (response.statusCode() != 200) {
+                throw new IOException("Download of job " + id + " returned " + response.statusCode());
+            }
+        }
+        return status;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) throws Exception {
+        long started = System.nanoTime();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        latencies.get(endpoint).record(System.nanoTime() - started);
+        if (response.statusCode() >= 300) {
+            throw new IOException(request.method() + " " + request.uri() + " returned " + response.statusCode()
+                    + ": " + response.body());
+        }
+        return JSON.readTree(response.body());
+    }
+
+    /**
+     * Polls the server's actuator metrics for its heap use and free disk space.
+     */
+    private final class ServerSampler {
+        private double peakHeap = -1;
+        private double initialFreeDisk = -1;
+        private double minFreeDisk = -1;
+
+        synchronized void sample() {
+            double heap = metric("jvm.memory.used?tag=area:heap");
+            if (heap >= 0) {
+                peakHeap = Math.max(peakHeap, heap);
+            }
+            double freeDisk = metric("disk.free");
+            if (freeDisk >= 0) {
+                initialFreeDisk = initialFreeDisk < 0 ? freeDisk : initialFreeDisk;
+                minFreeDisk = minFreeDisk < 0 ? freeDisk : Math.min(minFreeDisk, freeDisk);
+            }
+        }
+
+        private double metric(String query) {
+            try {
+                HttpResponse<String> response = http.send(
+                        HttpRequest.newBuilder(URI.create(url + "/actuator/metrics/" + query))
+                                .timeout(Duration.ofSeconds(5)).GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    return -1;
+                }
+                return JSON.readTree(response.body()).path("measurements").path(0).path("value").asDouble(-1);
+            } catch (IOException e) {
+                return -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        }
+
+        synchronized double peakHeapMegabytes() {
+            return peakHeap < 0 ? -1 : round(peakHeap / 1e6);
+        }
+
+        synchronized double peakDiskMegabytes() {
+            return minFreeDisk < 0 ? -1 : round((initialFreeDisk - minFreeDisk) / 1e6);
+        }
+    }
+
+    private static SyntheticCsvSpec spec(Map<String, String> options) {
+        SyntheticCsvSpec.SyntheticCsvSpecBuilder spec = SyntheticCsvSpec.builder()
+                .rows(Long.parseLong(options.getOrDefault("rows", "1000000")))
+                .columns(Integer.parseInt(options.getOrDefault("columns", "8")))
+                .cardinality(Long.parseLong(options.getOrDefault("cardinality", "100000")))
+                .skew(Double.parseDouble(options.getOrDefault("skew", "0")))
+                .quotedRate(Double.parseDouble(options.getOrDefault("quoted-rate", "0.05")))
+                .malformedRate(Double.parseDouble(options.getOrDefault("malformed-rate", "0")))
+                .seed(Long.parseLong(options.getOrDefault("seed", "42")));
+        if (options.containsKey("size")) {
+            spec.targetBytes(size(options.get("size")));
+        }
+        return spec.build();
+    }
+
+    /**
+     * Parses a size such as 500MB or 10GB (decimal units) or a plain byte count.
+     */
+    private static long size(String text) {
+        String upper = text.trim().toUpperCase(Locale.ROOT);
+        Map<String, Long> units = Map.of("KB", 1_000L, "MB", 1_000_000L, "GB", 1_000_000_000L);
+        for (Map.Entry<String, Long> unit : units.entrySet()) {
+            if (upper.endsWith(unit.getKey())) {
+                return (long) (Double.parseDouble(upper.substring(0, upper.length() - 2)) * unit.getValue());
+            }
+        }
+        return Long.parseLong(upper);
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                System.err.println("Expected --option value at " + args[i]);
+                System.err.print(USAGE);
+                System.exit(64);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            System.err.println("Missing --" + name);
+            System.err.print(USAGE);
+            System.exit(64);
+        }
+        return value;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.sourav.enterprise.sanitizer.loadtest;
+
+import java.util.Map;
+
+/**
+ * Results of one load test run; also the format of stored baselines.
+ *
+ * @param jobs             jobs submitted
+ * @param failedJobs       jobs that did not complete
+ * @param inputBytes       bytes of one input file
+ * @param rows             rows processed, summed over all completed jobs
+ * @param wallSeconds      from the first upload to the last download
+ * @param rowsPerSecond    rows over wall time, the figure baselines are compared on
+ * @param megabytesPerSecond input megabytes of all jobs over wall time
+ * @param latencies        per endpoint: upload, status, download
+ * @param peakHeapMegabytes highest server heap use seen, -1 when not exposed
+ * @param peakDiskMegabytes highest drop in server free disk space, -1 when not exposed
+ */
+record LoadTestReport(
+        int jobs,
+        int failedJobs,
+        long inputBytes,
+        long rows,
+        double wallSeconds,
+        double rowsPerSecond,
+        double megabytesPerSecond,
+        Map<String, Latency> latencies,
+        double peakHeapMegabytes,
+        double peakDiskMegabytes) {
+
+    /**
+     * Latency summary of one endpoint, in milliseconds.
+     */
+    record Latency(int count, double mean, double p50, double p95, double p99, double max) {
+    }
+
+    String describe() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Jobs:        %d (%d failed)%n", jobs, failedJobs));
+        text.append(String.format("Rows:        %d in %.1f s%n", rows, wallSeconds));
+        text.append(String.format("Throughput:  %.0f rows/s, %.1f MB/s%n", rowsPerSecond, megabytesPerSecond));
+        text.append(String.format("Peak heap:   %s%n", megabytes(peakHeapMegabytes)));
+        text.append(String.format("Peak disk:   %s%n", megabytes(peakDiskMegabytes)));
+        text.append(String.format("%-10s %7s %9s %9s %9s %9s %9s%n", "Endpoint", "Calls", "Mean ms", "p50", "p95",
+                "p99", "Max"));
+        latencies.forEach((endpoint, latency) -> text.append(String.format("%-10s %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, latency.count(), latency.mean(), latency.p50(), latency.p95(), latency.p99(),
+                latency.max())));
+        return text.toString();
+    }
+
+    private static String megabytes(double value) {
+        return value < 0 ? "not exposed by the server" : String.format("%.0f MB", value);
+    }
+}
@@ -1,11 +1,18 @@
 package com.sourav.enterprise.sanitizer;
 
+import com.sourav.enterprise.sanitizer.cli.SanitizeCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 public class BatchDataSanitizerApplication {
     public static void main(String[] args) {
+        // "sanitize ..." processes one file without the web stack and exits
+        if (args.length > 0 && SanitizeCommand.NAME.equals(args[0])) {
+            System.exit(SanitizeCommand.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
         SpringApplication.run(BatchDataSanitizerApplication.class, args);
     }
 }
@@ -0,0 +1,242 @@
+package com.sourav.enterprise.sanitizer.batch.chunk;
+
+import com.sourav.enterprise.sanitizer.batch.reader.CsvRecordReader;
+import com.sourav.enterprise.sanitizer.storage.GzipFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Adaptive Chunk Size Policy - Resizes the chunks of a step from their measured
+ * cost and memory footprint.
+ *
+ * Features:
+ * - Starts from the configured chunk size, capped by the memory budget for
+ *   rows of the size sampled from the head of the input
+ * - Refines the row size from the input bytes the reader actually consumed
+ * - Grows chunks that commit well under the target latency and shrinks
+ *   chunks that take longer
+ * - Halves chunks when little heap is left after garbage collection
+ * - Never exceeds this step's share of the budget shared by all running
+ *   steps, even if that means chunks below the configured minimum
+ * - Records the initial, smallest, largest and last size in the step
+ *   execution context
+ *
+ * One instance per step; registered as the step's completion policy and listener.
+ */
+public class AdaptiveChunkSizePolicy extends SimpleCompletionPolicy implements StepExecutionListener, ChunkListener {
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveChunkSizePolicy.class);
+
+    public static final String INITIAL_SIZE_KEY = "chunk.size.initial";
+    public static final String MIN_SIZE_KEY = "chunk.size.min";
+    public static final String MAX_SIZE_KEY = "chunk.size.max";
+    public static final String LAST_SIZE_KEY = "chunk.size.last";
+    public static final String ROW_BYTES_KEY = "chunk.row.bytes";
+
+    private static final int SAMPLE_BYTES = 64 * 1024;
+    private static final int MAX_SAMPLE_BYTES = 4 * 1024 * 1024;
+    private static final int SAMPLE_ROWS = 8;
+    // Rough heap cost of a decoded field and a record beyond their text
+    private static final int FIELD_OVERHEAD = 48;
+    private static final int RECORD_OVERHEAD = 64;
+    // Read buffers, the record read, its decoded values and the sanitized record
+    private static final int TEXT_COPIES = 4;
+    private static final double MIN_HEADROOM = 0.2;
+
+    private final ChunkMemoryBudget budget;
+    private final int minSize;
+    private final int maxSize;
+    private final long targetMillis;
+    private final int columns;
+
+    private long inputBytesPerRow;
+    private StepExecution stepExecution;
+    private long chunkStart;
+    private long lastOffset = -1;
+    private long lastReadCount;
+    private long measuredBytes;
+    private long measuredRows;
+
+    /**
+     * @param sample       row size and column count sampled from the input
+     * @param initialSize  starting chunk size, before the memory cap
+     * @param targetMillis chunk latency (read, process, write and commit) to aim for
+     */
+    public AdaptiveChunkSizePolicy(ChunkMemoryBudget budget, RowSample sample, int initialSize,
+            int minSize, int maxSize, long targetMillis) {
+        super(initialSize);
+        this.budget = budget;
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.targetMillis = targetMillis;
+        this.columns = sample.columns();
+        this.inputBytesPerRow = sample.bytesPerRow();
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        budget.acquire();
+
+        int size = clamp(getChunkSize(), capacity());
+        setChunkSize(size);
+        ExecutionContext context = stepExecution.getExecutionContext();
+        if (!context.containsKey(INITIAL_SIZE_KEY)) {
+            // Kept from the first run on restarts
+            context.putInt(INITIAL_SIZE_KEY, size);
+        }
+        record(size);
+        log.info("📐 Adaptive chunks for {}: starting at {} rows (~{} bytes per row in memory, {} MB share)",
+                stepExecution.getStepName(), size, heapBytesPerRow(), budget.share() >> 20);
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        long elapsedMillis = (System.nanoTime() - chunkStart) / 1_000_000;
+        measureRowSize();
+
+        int size = nextSize(getChunkSize(), elapsedMillis, targetMillis, budget.heapHeadroom());
+        size = clamp(size, capacity());
+        if (size != getChunkSize()) {
+            log.debug("Chunk size {} -> {} ({} ms, {} bytes per row in memory)",
+                    getChunkSize(), size, elapsedMillis, heapBytesPerRow());
+            setChunkSize(size);
+        }
+        record(size);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        budget.release();
+        log.info("📐 Adaptive chunks for {}: {} to {} rows, ended at {}", stepExecution.getStepName(),
+                stepExecution.getExecutionContext().getInt(MIN_SIZE_KEY),
+                stepExecution.getExecutionContext().getInt(MAX_SIZE_KEY), getChunkSize());
+        return null;
+    }
+
+    /**
+     * Computes the next chunk size from the latency of the last chunk and the
+     * heap headroom, before the memory cap.
+     */
+    static int nextSize(int size, long elapsedMillis, long targetMillis, double headroom) {
+        long next = size;
+        if (elapsedMillis > targetMillis) {
+            // Proportional to the overshoot, at most halving
+            next = Math.max(size / 2, size * targetMillis / elapsedMillis);
+        } else if (elapsedMillis * 2 < targetMillis) {
+            next = size + size / 2 + 1;
+        }
+        if (headroom < MIN_HEADROOM) {
+            next /= 2;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, next);
+    }
+
+    /**
+     * Uses the input bytes the reader consumed per row, once rows have been read.
+     */
+    private void measureRowSize() {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        long offset = context.getLong(CsvRecordReader.CURRENT_OFFSET_KEY, -1L);
+        long readCount = stepExecution.getReadCount();
+        if (offset >= 0 && lastOffset >= 0 && offset > lastOffset && readCount > lastReadCount) {
+            measuredBytes += offset - lastOffset;
+            measuredRows += readCount - lastReadCount;
+            inputBytesPerRow = Math.max(1, measuredBytes / measuredRows);
+        }
+        lastOffset = offset;
+        lastReadCount = readCount;
+    }
+
+    /**
+     * Estimates the heap held per row of a chunk, from copies of its text and
+     * the objects of the record read and the sanitized record.
+     */
+    long heapBytesPerRow() {
+        return TEXT_COPIES * inputBytesPerRow + 2 * ((long) columns * FIELD_OVERHEAD + RECORD_OVERHEAD);
+    }
+
+    /**
+     * Gets the rows that fit in this step's share of the memory budget.
+     */
+    private long capacity() {
+        return budget.share() / heapBytesPerRow();
+    }
+
+    private int clamp(int size, long capacity) {
+        long upper = Math.max(1, Math.min(maxSize, capacity));
+        long lower = Math.min(minSize, upper);
+        return (int) Math.max(lower, Math.min(upper, size));
+    }
+
+    private void record(int size) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putInt(MIN_SIZE_KEY, Math.min(size, context.getInt(MIN_SIZE_KEY, size)));
+        context.putInt(MAX_SIZE_KEY, Math.max(size, context.getInt(MAX_SIZE_KEY, size)));
+        context.putInt(LAST_SIZE_KEY, size);
+        context.putLong(ROW_BYTES_KEY, heapBytesPerRow());
+    }
+
+    /**
+     * Row size and column count sampled from the head of an input file.
+     */
+    public record RowSample(long bytesPerRow, int columns) {
+
+        /**
+         * Samples the header and the first rows of a (possibly gzip) CSV file:
+         * 64 KB, or more until a few rows are complete, up to 4 MB.
+         * Rows are counted by line breaks, so rows with quoted line breaks
+         * only make the first estimate smaller.
+         */
+        public static RowSample of(Path inputFile) {
+            int columns = 1;
+            int lineBreaks = 0;
+            long headerBytes = -1;
+            long sampled = 0;
+            byte[] chunk = new byte[SAMPLE_BYTES];
+            try (InputStream in = GzipFiles.newInputStream(inputFile)) {
+                while (sampled < MAX_SAMPLE_BYTES && lineBreaks <= SAMPLE_ROWS) {
+                    int n = in.readNBytes(chunk, 0, chunk.length);
+                    for (int i = 0; i < n; i++) {
+                        if (chunk[i] == '\n') {
+                            if (lineBreaks++ == 0) {
+                                headerBytes = sampled + i + 1;
+                            }
+                        } else if (chunk[i] == ',' && lineBreaks == 0) {
+                            columns++;
+                        }
+                    }
+                    sampled += n;
+                    if (n < chunk.length) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                // Left to the reader, which reports the unreadable file when opened
+                return new RowSample(256, 1);
+            }
+
+            long rows = lineBreaks - 1;
+            if (headerBytes < 0 || rows <= 0) {
+                // Not even one complete row: rows are at least as long as what was read
+                return new RowSample(Math.max(256, sampled - Math.max(0, headerBytes)), columns);
+            }
+            return new RowSample(Math.max(1, (sampled - headerBytes) / rows), columns);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.sourav.enterprise.sanitizer.batch.chunk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chunk Memory Budget - Heap that the in-flight chunks of all running steps may use.
+ *
+ * Features:
+ * - Split evenly between the chunk steps currently running, across jobs
+ *   and partitions
+ * - Defaults to a quarter of the maximum heap
+ * - Reports heap headroom from the usage left after the last garbage
+ *   collection, so short-lived garbage does not count as pressure
+ */
+@Component
+public class ChunkMemoryBudget {
+    private static final Logger log = LoggerFactory.getLogger(ChunkMemoryBudget.class);
+
+    private final long budgetBytes;
+    private final AtomicInteger activeSteps = new AtomicInteger();
+
+    public ChunkMemoryBudget(@Value("${sanitizer.batch.chunk-memory-budget:0}") long budgetBytes) {
+        this.budgetBytes = budgetBytes > 0 ? budgetBytes : Runtime.getRuntime().maxMemory() / 4;
+        log.debug("Chunk memory budget: {} MB", this.budgetBytes >> 20);
+    }
+
+    /**
+     * Counts a chunk step as running until {@link #release()}.
+     */
+    public void acquire() {
+        activeSteps.incrementAndGet();
+    }
+
+    public void release() {
+        activeSteps.decrementAndGet();
+    }
+
+    /**
+     * Gets the bytes each running step may hold in its current chunk.
+     */
+    public long share() {
+        return budgetBytes / Math.max(1, activeSteps.get());
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Gets the fraction of the maximum heap still free after the last collection.
+     */
+    public double heapHeadroom() {
+        long max = Runtime.getRuntime().maxMemory();
+        long live = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (afterGc != null) {
+                live += afterGc.getUsed();
+            }
+        }
+        return 1.0 - (double) live / max;
+    }
+}
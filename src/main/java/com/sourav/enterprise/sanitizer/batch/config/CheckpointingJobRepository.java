@@ -0,0 +1,201 @@
+package com.sourav.enterprise.sanitizer.batch.config;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checkpointing Job Repository - Writes chunk step progress to the job
+ * repository at most every N chunks or seconds.
+ *
+ * Features:
+ * - A chunk commit normally updates the step execution and serializes its
+ *   execution context; between checkpoints both stay in memory only
+ * - A checkpoint writes the context and the counts of the same chunk in one
+ *   transaction, so the stored reader and writer offsets always match
+ * - Status changes (step start and end) are always written, together with
+ *   the latest context, so completed steps and final counts are exact
+ * - Everything else, including job executions, passes straight through
+ *
+ * Stop requests are noticed at the next checkpoint, when the step execution is
+ * written and its job's status is read back.
+ */
+public class CheckpointingJobRepository implements JobRepository {
+    private final JobRepository delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final int intervalChunks;
+    private final long intervalNanos;
+    private final Map<Long, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+
+    public CheckpointingJobRepository(JobRepository delegate, PlatformTransactionManager transactionManager,
+            int intervalChunks, int intervalSeconds) {
+        this.delegate = delegate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.intervalChunks = Math.max(1, intervalChunks);
+        this.intervalNanos = intervalSeconds * 1_000_000_000L;
+    }
+
+    @Override
+    public void updateExecutionContext(StepExecution stepExecution) {
+        Checkpoint checkpoint = checkpoints.get(stepExecution.getId());
+        if (checkpoint == null || !checkpoint.opened || stepExecution.getStatus() != BatchStatus.STARTED) {
+            // The context saved once the step has opened its streams, and the final one
+            delegate.updateExecutionContext(stepExecution);
+            if (checkpoint != null) {
+                checkpoint.opened = true;
+                checkpoint.contextPending = false;
+            }
+            return;
+        }
+        // Written by the update() that follows at the end of each chunk, when a checkpoint is due
+        checkpoint.contextPending = true;
+    }
+
+    @Override
+    public void update(StepExecution stepExecution) {
+        BatchStatus status = stepExecution.getStatus();
+        if (status != BatchStatus.STARTED) {
+            Checkpoint checkpoint = checkpoints.remove(stepExecution.getId());
+            write(stepExecution, checkpoint != null && checkpoint.contextPending);
+            return;
+        }
+
+        Checkpoint checkpoint = checkpoints.get(stepExecution.getId());
+        if (checkpoint == null) {
+            // The step just started
+            delegate.update(stepExecution);
+            checkpoints.put(stepExecution.getId(), new Checkpoint(System.nanoTime()));
+            return;
+        }
+
+        checkpoint.chunks++;
+        long now = System.nanoTime();
+        if (checkpoint.chunks >= intervalChunks || now - checkpoint.writtenAt >= intervalNanos) {
+            write(stepExecution, checkpoint.contextPending);
+            checkpoint.chunks = 0;
+            checkpoint.writtenAt = now;
+            checkpoint.contextPending = false;
+        }
+    }
+
+    private void write(StepExecution stepExecution, boolean withContext) {
+        if (!withContext) {
+            delegate.update(stepExecution);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            delegate.updateExecutionContext(stepExecution);
+            delegate.update(stepExecution);
+        });
+    }
+
+    @Override
+    public List<String> getJobNames() {
+        return delegate.getJobNames();
+    }
+
+    @Override
+    public List<JobInstance> findJobInstancesByName(String jobName, int start, int count) {
+        return delegate.findJobInstancesByName(jobName, start, count);
+    }
+
+    @Override
+    public List<JobExecution> findJobExecutions(JobInstance jobInstance) {
+        return delegate.findJobExecutions(jobInstance);
+    }
+
+    @Override
+    public boolean isJobInstanceExists(String jobName, JobParameters jobParameters) {
+        return delegate.isJobInstanceExists(jobName, jobParameters);
+    }
+
+    @Override
+    public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+        return delegate.createJobInstance(jobName, jobParameters);
+    }
+
+    @Override
+    public JobExecution createJobExecution(String jobName, JobParameters jobParameters)
+            throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        return delegate.createJobExecution(jobName, jobParameters);
+    }
+
+    @Override
+    public void update(JobExecution jobExecution) {
+        delegate.update(jobExecution);
+    }
+
+    @Override
+    public void add(StepExecution stepExecution) {
+        delegate.add(stepExecution);
+    }
+
+    @Override
+    public void addAll(Collection<StepExecution> stepExecutions) {
+        delegate.addAll(stepExecutions);
+    }
+
+    @Override
+    public void updateExecutionContext(JobExecution jobExecution) {
+        delegate.updateExecutionContext(jobExecution);
+    }
+
+    @Override
+    public JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+        return delegate.getJobInstance(jobName, jobParameters);
+    }
+
+    @Override
+    public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+        return delegate.getLastStepExecution(jobInstance, stepName);
+    }
+
+    @Override
+    public long getStepExecutionCount(JobInstance jobInstance, String stepName) {
+        return delegate.getStepExecutionCount(jobInstance, stepName);
+    }
+
+    @Override
+    public JobExecution getLastJobExecution(String jobName, JobParameters jobParameters) {
+        return delegate.getLastJobExecution(jobName, jobParameters);
+    }
+
+    @Override
+    public void deleteStepExecution(StepExecution stepExecution) {
+        delegate.deleteStepExecution(stepExecution);
+    }
+
+    @Override
+    public void deleteJobExecution(JobExecution jobExecution) {
+        delegate.deleteJobExecution(jobExecution);
+    }
+
+    @Override
+    public void deleteJobInstance(JobInstance jobInstance) {
+        delegate.deleteJobInstance(jobInstance);
+    }
+
+    private static final class Checkpoint {
+        private int chunks;
+        private long writtenAt;
+        private boolean opened;
+        private boolean contextPending;
+
+        private Checkpoint(long writtenAt) {
+            this.writtenAt = writtenAt;
+        }
+    }
+}
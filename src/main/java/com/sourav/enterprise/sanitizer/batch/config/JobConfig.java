@@ -3,7 +3,11 @@ package com.sourav.enterprise.sanitizer.batch.config;
 import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
 import lombok.Builder;
 import lombok.Data;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import java.util.UUID;
 
@@ -50,10 +54,21 @@ public class JobConfig {
             Map<String, SanitizationOperation> columnRules, String rulesJson,
             int chunkSize, int skipLimit) {
         String uuid = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        String jobName = "SANITIZE-" + uuid;
+        return restore(uuid, inputFilePath, outputFilePath, columnRules, rulesJson, chunkSize, skipLimit);
+    }
+
+    /**
+     * Recreates the JobConfig of an existing job from its UUID.
+     * Job and step names derive from the UUID, so a restarted job resumes
+     * the same job instance and step execution contexts.
+     */
+    public static JobConfig restore(String jobId, String inputFilePath, String outputFilePath,
+            Map<String, SanitizationOperation> columnRules, String rulesJson,
+            int chunkSize, int skipLimit) {
+        String jobName = "SANITIZE-" + jobId;
 
         return JobConfig.builder()
-                .jobId(uuid)
+                .jobId(jobId)
                 .jobName(jobName)
                 .inputFilePath(inputFilePath)
                 .outputFilePath(outputFilePath)
@@ -65,6 +80,22 @@ public class JobConfig {
                 .build();
     }
 
+    /**
+     * Builds the parameters of a new execution of this job. A restarted job
+     * reuses the parameters of its failed execution instead.
+     */
+    public JobParameters toJobParameters() {
+        return new JobParametersBuilder()
+                .addString("inputFile", inputFilePath)
+                .addString("outputFile", outputFilePath)
+                .addString("rulesJson", rulesJson)
+                .addString("jobId", jobId)
+                .addString("timestamp", LocalDateTime.now().format(
+                        DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")))
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+    }
+
     /**
      * Gets a display-friendly description of the job.
      */
@@ -0,0 +1,22 @@
+package com.sourav.enterprise.sanitizer.batch.config;
+
+/**
+ * How chunk steps record their progress in the job repository, selectable via
+ * {@code sanitizer.batch.repository-mode}.
+ */
+public enum JobRepositoryMode {
+    /**
+     * Every chunk commit writes the step execution and its execution context
+     * in one database transaction. A restart repeats at most the chunk that
+     * was in flight.
+     */
+    FULL,
+    /**
+     * Chunks run under a resourceless transaction manager and progress is
+     * checkpointed every checkpoint-interval-chunks chunks or
+     * checkpoint-interval-seconds seconds. A restart after a crash repeats
+     * the chunks since the last checkpoint; a failure or stop the step
+     * survives still saves its latest chunk.
+     */
+    LIGHTWEIGHT
+}
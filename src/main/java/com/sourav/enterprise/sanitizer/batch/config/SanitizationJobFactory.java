@@ -1,25 +1,68 @@
 package com.sourav.enterprise.sanitizer.batch.config;
 
+import com.sourav.enterprise.sanitizer.batch.chunk.AdaptiveChunkSizePolicy;
+import com.sourav.enterprise.sanitizer.batch.chunk.ChunkMemoryBudget;
+import com.sourav.enterprise.sanitizer.batch.listener.ChunkMetricsListener;
 import com.sourav.enterprise.sanitizer.batch.listener.ChunkProgressListener;
+import com.sourav.enterprise.sanitizer.batch.listener.ColumnProfileListener;
 import com.sourav.enterprise.sanitizer.batch.listener.JobAuditListener;
 import com.sourav.enterprise.sanitizer.batch.listener.SkipRecordListener;
+import com.sourav.enterprise.sanitizer.batch.partition.ByteRangePartitioner;
+import com.sourav.enterprise.sanitizer.batch.partition.PartitionStitchTasklet;
+import com.sourav.enterprise.sanitizer.batch.partition.PerPartitionStepHandler;
+import com.sourav.enterprise.sanitizer.batch.processor.AsyncSanitizationProcessor;
+import com.sourav.enterprise.sanitizer.batch.processor.ColumnProfiler;
+import com.sourav.enterprise.sanitizer.batch.processor.SanitizationPlan;
 import com.sourav.enterprise.sanitizer.batch.processor.SanitizationProcessor;
+import com.sourav.enterprise.sanitizer.batch.reader.CsvByteRange;
 import com.sourav.enterprise.sanitizer.batch.reader.CsvItemReader;
+import com.sourav.enterprise.sanitizer.batch.reader.CsvReaderEngine;
+import com.sourav.enterprise.sanitizer.batch.reader.CsvRecordReader;
+import com.sourav.enterprise.sanitizer.batch.reader.MappedCsvItemReader;
 import com.sourav.enterprise.sanitizer.batch.writer.CsvItemWriter;
+import com.sourav.enterprise.sanitizer.batch.writer.CsvWriterEngine;
+import com.sourav.enterprise.sanitizer.batch.writer.FlushPolicy;
+import com.sourav.enterprise.sanitizer.batch.writer.GzipCompressTasklet;
+import com.sourav.enterprise.sanitizer.batch.writer.NioCsvItemWriter;
 import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
 import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import com.sourav.enterprise.sanitizer.service.LiveJobRegistry;
+import com.sourav.enterprise.sanitizer.storage.GzipFiles;
 import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategyFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Factory for creating Spring Batch Job and Step configurations.
  * Centralizes all batch job creation logic for better maintainability.
@@ -32,15 +75,101 @@ public class SanitizationJobFactory {
     private final PlatformTransactionManager transactionManager;
     private final SanitizationStrategyFactory strategyFactory;
     private final JobAuditListener jobAuditListener;
+    private final LiveJobRegistry liveJobRegistry;
+    private final PipelineMetrics pipelineMetrics;
+    private final CsvReaderEngine readerEngine;
+    private final int processingThreads;
+    private final int partitions;
+    private final int profileSampleRows;
+    private final int memoCacheSize;
+    private final boolean passthrough;
+    private final CsvWriterEngine writerEngine;
+    private final FlushPolicy flushPolicy;
+    private final int writerBufferSize;
+    private final int gzipThreads;
+    private final int gzipBlockSize;
+    private final JobRepository chunkJobRepository;
+    private final PlatformTransactionManager chunkTransactionManager;
+    private final ChunkMemoryBudget chunkMemoryBudget;
+    private final boolean adaptiveChunkSize;
+    private final int chunkSizeMin;
+    private final int chunkSizeMax;
+    private final long chunkTargetMillis;
+    private final ExecutorService workerPool;
 
     public SanitizationJobFactory(JobRepository jobRepository,
             PlatformTransactionManager transactionManager,
             SanitizationStrategyFactory strategyFactory,
-            JobAuditListener jobAuditListener) {
+            JobAuditListener jobAuditListener,
+            LiveJobRegistry liveJobRegistry,
+            PipelineMetrics pipelineMetrics,
+            @Value("${sanitizer.batch.reader-engine:opencsv}") CsvReaderEngine readerEngine,
+            @Value("${sanitizer.batch.processing-threads:1}") int processingThreads,
+            @Value("${sanitizer.batch.partitions:1}") int partitions,
+            @Value("${sanitizer.batch.profile-sample-rows:1000}") int profileSampleRows,
+            @Value("${sanitizer.batch.memo-cache-size:10000}") int memoCacheSize,
+            @Value("${sanitizer.batch.passthrough:false}") boolean passthrough,
+            @Value("${sanitizer.batch.writer-engine:opencsv}") CsvWriterEngine writerEngine,
+            @Value("${sanitizer.batch.writer-flush-policy:chunk-commit}") FlushPolicy flushPolicy,
+            @Value("${sanitizer.batch.writer-buffer-size:1048576}") int writerBufferSize,
+            @Value("${sanitizer.batch.gzip-threads:0}") int gzipThreads,
+            @Value("${sanitizer.batch.gzip-block-size:1048576}") int gzipBlockSize,
+            @Value("${sanitizer.batch.repository-mode:full}") JobRepositoryMode repositoryMode,
+            @Value("${sanitizer.batch.checkpoint-interval-chunks:100}") int checkpointIntervalChunks,
+            @Value("${sanitizer.batch.checkpoint-interval-seconds:10}") int checkpointIntervalSeconds,
+            ChunkMemoryBudget chunkMemoryBudget,
+            @Value("${sanitizer.batch.adaptive-chunk-size:false}") boolean adaptiveChunkSize,
+            @Value("${sanitizer.batch.chunk-size-min:100}") int chunkSizeMin,
+            @Value("${sanitizer.batch.chunk-size-max:50000}") int chunkSizeMax,
+            @Value("${sanitizer.batch.chunk-target-millis:500}") long chunkTargetMillis) {
         this.jobRepository = jobRepository;
         this.transactionManager = transactionManager;
         this.strategyFactory = strategyFactory;
         this.jobAuditListener = jobAuditListener;
+        this.liveJobRegistry = liveJobRegistry;
+        this.pipelineMetrics = pipelineMetrics;
+        this.readerEngine = readerEngine;
+        this.processingThreads = processingThreads;
+        this.partitions = partitions;
+        this.profileSampleRows = profileSampleRows;
+        this.memoCacheSize = memoCacheSize;
+        this.passthrough = passthrough;
+        this.writerEngine = writerEngine;
+        this.flushPolicy = flushPolicy;
+        this.writerBufferSize = writerBufferSize;
+        this.gzipThreads = gzipThreads;
+        this.gzipBlockSize = gzipBlockSize;
+        if (repositoryMode == JobRepositoryMode.LIGHTWEIGHT) {
+            // Chunks only touch files; the job repository commits checkpoints in its own transactions
+            this.chunkJobRepository = new CheckpointingJobRepository(jobRepository, transactionManager,
+                    checkpointIntervalChunks, checkpointIntervalSeconds);
+            this.chunkTransactionManager = new ResourcelessTransactionManager();
+            log.info("🪶 Lightweight job repository: checkpoints every {} chunks or {} s",
+                    checkpointIntervalChunks, checkpointIntervalSeconds);
+        } else {
+            this.chunkJobRepository = jobRepository;
+            this.chunkTransactionManager = transactionManager;
+        }
+        this.chunkMemoryBudget = chunkMemoryBudget;
+        this.adaptiveChunkSize = adaptiveChunkSize;
+        this.chunkSizeMin = chunkSizeMin;
+        this.chunkSizeMax = chunkSizeMax;
+        this.chunkTargetMillis = chunkTargetMillis;
+        if (passthrough && !readerEngine.isMapped()) {
+            log.warn("⚠️ Passthrough needs the mapped reader engine; {} decodes every column", readerEngine);
+        }
+        // Shared by all running jobs; single-threaded mode processes on the step thread
+        this.workerPool = processingThreads > 1
+                ? Executors.newFixedThreadPool(processingThreads,
+                        Thread.ofPlatform().name("sanitize-worker-", 1).daemon(true).factory())
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workerPool != null) {
+            workerPool.shutdownNow();
+        }
     }
 
     /**
@@ -53,31 +182,211 @@ public class SanitizationJobFactory {
     public Job createJob(JobConfig jobConfig, SanitizationConfig sanitizationConfig) {
         log.info("Creating job: {} [{}]", jobConfig.getJobName(), jobConfig.getJobId());
 
-        Step sanitizeStep = createSanitizationStep(jobConfig, sanitizationConfig);
+        // Read headers from input file
+        String[] headers = readHeaders(jobConfig.getInputFilePath());
+        SanitizationPlan plan = createPlan(jobConfig.getInputFilePath(), sanitizationConfig, headers);
 
-        return new JobBuilder(jobConfig.getJobName(), jobRepository)
+        JobBuilder jobBuilder = new JobBuilder(jobConfig.getJobName(), jobRepository)
                 .listener(jobAuditListener)
-                .start(sanitizeStep)
-                .build();
+                .listener((JobExecutionListener) liveJobRegistry)
+                .listener(new ColumnProfileListener(plan.getColumnTypes()));
+
+        boolean partitioned = partitions > 1;
+        if (partitioned && isGzip(jobConfig.getInputFilePath())) {
+            // A gzip stream cannot be split into byte ranges
+            log.warn("⚠️ Input is gzip-compressed; sanitizing it in a single step instead of {} partitions",
+                    partitions);
+            partitioned = false;
+        }
+
+        SimpleJobBuilder steps = partitioned
+                ? jobBuilder
+                        .start(createPartitionedStep(jobConfig, plan, headers))
+                        .next(createStitchStep(jobConfig))
+                : jobBuilder
+                        .start(createSanitizationStep(jobConfig, plan, headers));
+
+        if (GzipFiles.isGzipName(jobConfig.getOutputFilePath())) {
+            steps = steps.next(createCompressStep(jobConfig));
+        }
+
+        return steps.build();
     }
 
     /**
-     * Creates the main sanitization step with reader, processor, and writer.
+     * Runs the reader, processor and writer that jobs use over a file, one
+     * chunk at a time on the calling thread, so that the JIT compiles the
+     * sanitization path before the first job. Nothing is recorded in the job
+     * repository, the live job registry or the metrics.
+     *
+     * @return rows written
      */
-    private Step createSanitizationStep(JobConfig jobConfig, SanitizationConfig sanitizationConfig) {
-        // Read headers from input file
-        String[] headers = readHeaders(jobConfig.getInputFilePath());
+    public long warmUp(String inputFilePath, String outputFilePath, SanitizationConfig sanitizationConfig,
+            int chunkSize) throws Exception {
+        String[] headers = readHeaders(inputFilePath);
+        SanitizationPlan plan = createPlan(inputFilePath, sanitizationConfig, headers);
+        CsvRecordReader reader = createStepReader(inputFilePath, CsvByteRange.WHOLE_FILE);
+        SanitizationProcessor processor = new SanitizationProcessor(plan, memoCacheSize, null);
+        ItemStreamWriter<CsvRecord> writer = createWriter(outputFilePath, headers, true);
+        long rows = 0;
+        try {
+            reader.open(new ExecutionContext());
+            writer.open(new ExecutionContext());
+            Chunk<CsvRecord> chunk = new Chunk<>();
+            for (CsvRecord record = reader.read(); record != null; record = reader.read()) {
+                chunk.add(processor.process(record));
+                if (chunk.size() == chunkSize) {
+                    writer.write(chunk);
+                    rows += chunk.size();
+                    chunk.clear();
+                }
+            }
+            writer.write(chunk);
+            rows += chunk.size();
+        } finally {
+            reader.close();
+            writer.close();
+        }
+        return rows;
+    }
+
+    /**
+     * Compiles the column rules against the header (fails fast on unknown columns)
+     * and profiles the semantic type of each sanitized column.
+     */
+    private SanitizationPlan createPlan(String inputFilePath, SanitizationConfig sanitizationConfig, String[] headers) {
+        SanitizationPlan plan = SanitizationPlan.compile(sanitizationConfig, new CsvSchema(headers), strategyFactory);
+        if (profileSampleRows <= 0) {
+            return plan;
+        }
+        return ColumnProfiler.profile(plan, createReader(inputFilePath, CsvByteRange.WHOLE_FILE),
+                profileSampleRows);
+    }
 
+    /**
+     * Creates the main sanitization step with reader, processor, and writer.
+     */
+    private Step createSanitizationStep(JobConfig jobConfig, SanitizationPlan plan, String[] headers) {
         // Create components
-        CsvItemReader reader = createReader(jobConfig.getInputFilePath());
-        SanitizationProcessor processor = createProcessor(sanitizationConfig);
-        CsvItemWriter writer = createWriter(jobConfig.getOutputFilePath(), headers);
+        CsvRecordReader reader = createStepReader(jobConfig.getInputFilePath(), CsvByteRange.WHOLE_FILE);
+        SanitizationProcessor processor = createProcessor(plan);
+        ItemStreamWriter<CsvRecord> writer = createWriter(sanitizedPath(jobConfig), headers, true);
 
-        log.debug("Step config: chunkSize={}, skipLimit={}, columns={}",
-                jobConfig.getChunkSize(), jobConfig.getSkipLimit(), headers.length);
+        log.debug("Step config: chunkSize={}, skipLimit={}, columns={}, readerEngine={}, writerEngine={}, processingThreads={}",
+                jobConfig.getChunkSize(), jobConfig.getSkipLimit(), headers.length, readerEngine, writerEngine,
+                processingThreads);
+
+        return createChunkStep("sanitizeStep-" + jobConfig.getJobId(), jobConfig, reader, processor, writer);
+    }
+
+    /**
+     * Creates a partition manager step that sanitizes byte ranges of the input
+     * in parallel, each range into its own part file.
+     * Worker steps are named "sanitizeStep-{jobId}:partition-NNNN" and restart
+     * independently from their own execution contexts.
+     */
+    private Step createPartitionedStep(JobConfig jobConfig, SanitizationPlan plan, String[] headers) {
+        log.debug("Step config: chunkSize={}, skipLimit={}, columns={}, readerEngine={}, writerEngine={}, processingThreads={}, partitions={}",
+                jobConfig.getChunkSize(), jobConfig.getSkipLimit(), headers.length, readerEngine, writerEngine,
+                processingThreads, partitions);
+
+        SimpleAsyncTaskExecutor partitionExecutor = new SimpleAsyncTaskExecutor("sanitize-partition-");
+        partitionExecutor.setConcurrencyLimit(partitions);
+
+        PerPartitionStepHandler partitionHandler = new PerPartitionStepHandler(
+                partition -> createPartitionWorkerStep(partition.getStepName(), jobConfig, plan, headers,
+                        partition.getExecutionContext()),
+                partitionExecutor);
+        partitionHandler.setGridSize(partitions);
+
+        String stepName = "sanitizeStep-" + jobConfig.getJobId();
+        return new StepBuilder(stepName, jobRepository)
+                .listener((StepExecutionListener) liveJobRegistry)
+                .partitioner(stepName, new ByteRangePartitioner(jobConfig.getInputFilePath()))
+                .partitionHandler(partitionHandler)
+                .build();
+    }
 
-        return new StepBuilder("sanitizeStep-" + jobConfig.getJobId(), jobRepository)
-                .<CsvRecord, CsvRecord>chunk(jobConfig.getChunkSize(), transactionManager)
+    /**
+     * Creates the worker step of one partition: its byte range of the input
+     * into its own part file. Only the first part carries the header.
+     */
+    private Step createPartitionWorkerStep(String stepName, JobConfig jobConfig, SanitizationPlan plan,
+            String[] headers, ExecutionContext partitionContext) {
+        int index = ByteRangePartitioner.indexOf(partitionContext);
+        CsvRecordReader reader = createStepReader(jobConfig.getInputFilePath(),
+                ByteRangePartitioner.rangeOf(partitionContext));
+        ItemStreamWriter<CsvRecord> writer = createWriter(
+                PartitionStitchTasklet.partPath(sanitizedPath(jobConfig), index).toString(), headers, index == 0);
+
+        return createChunkStep(stepName, jobConfig, reader, createProcessor(plan), writer);
+    }
+
+    /**
+     * Creates the step that concatenates the part files into the output file.
+     */
+    private Step createStitchStep(JobConfig jobConfig) {
+        return new StepBuilder("stitchStep-" + jobConfig.getJobId(), jobRepository)
+                .listener((StepExecutionListener) liveJobRegistry)
+                .tasklet(new PartitionStitchTasklet(sanitizedPath(jobConfig)), transactionManager)
+                .build();
+    }
+
+    /**
+     * Creates the step that gzip-compresses the sanitized file into the output file.
+     */
+    private Step createCompressStep(JobConfig jobConfig) {
+        return new StepBuilder("compressStep-" + jobConfig.getJobId(), jobRepository)
+                .listener((StepExecutionListener) liveJobRegistry)
+                .tasklet(new GzipCompressTasklet(sanitizedPath(jobConfig), jobConfig.getOutputFilePath(),
+                        gzipThreads, gzipBlockSize), transactionManager)
+                .build();
+    }
+
+    /**
+     * Gets the file the sanitize steps write to: the output file itself, or a
+     * plain file compressed by the last step when the output ends with ".gz".
+     */
+    private static String sanitizedPath(JobConfig jobConfig) {
+        String outputFilePath = jobConfig.getOutputFilePath();
+        return GzipFiles.isGzipName(outputFilePath) ? GzipCompressTasklet.plainPath(outputFilePath) : outputFilePath;
+    }
+
+    /**
+     * Creates a chunk step, sanitizing in parallel when a worker pool is configured.
+     */
+    private Step createChunkStep(String stepName, JobConfig jobConfig, CsvRecordReader reader,
+            SanitizationProcessor processor, ItemStreamWriter<CsvRecord> writer) {
+        if (workerPool != null) {
+            // Items of each chunk are sanitized in parallel from the moment they are read
+            return buildStep(stepName, jobConfig, reader,
+                    new AsyncSanitizationProcessor(processor, workerPool), writer, processor);
+        }
+        return buildStep(stepName, jobConfig, reader, processor, writer, processor);
+    }
+
+    /**
+     * Builds a fault-tolerant chunk step from its components, recording its
+     * progress as the job repository mode requires. Chunks have the configured
+     * size, or are resized while the step runs in adaptive mode.
+     * The sanitization processor is registered as a stream so that its cache
+     * statistics are saved with every chunk, even when it is wrapped.
+     */
+    private <O> Step buildStep(String stepName, JobConfig jobConfig, CsvRecordReader reader,
+            ItemProcessor<CsvRecord, O> processor, ItemWriter<O> writer, SanitizationProcessor sanitizationProcessor) {
+        StepBuilder stepBuilder = new StepBuilder(stepName, chunkJobRepository);
+        AdaptiveChunkSizePolicy chunkSizePolicy = null;
+        SimpleStepBuilder<CsvRecord, O> chunkBuilder;
+        if (adaptiveChunkSize) {
+            chunkSizePolicy = new AdaptiveChunkSizePolicy(chunkMemoryBudget,
+                    AdaptiveChunkSizePolicy.RowSample.of(Path.of(jobConfig.getInputFilePath())),
+                    jobConfig.getChunkSize(), chunkSizeMin, chunkSizeMax, chunkTargetMillis);
+            chunkBuilder = stepBuilder.<CsvRecord, O>chunk(chunkSizePolicy, chunkTransactionManager);
+        } else {
+            chunkBuilder = stepBuilder.<CsvRecord, O>chunk(jobConfig.getChunkSize(), chunkTransactionManager);
+        }
+
+        FaultTolerantStepBuilder<CsvRecord, O> faultTolerantBuilder = chunkBuilder
                 .reader(reader)
                 .processor(processor)
                 .writer(writer)
@@ -85,36 +394,80 @@ public class SanitizationJobFactory {
                 .skipLimit(jobConfig.getSkipLimit())
                 .skip(Exception.class)
                 .listener(new SkipRecordListener())
-                .listener(new ChunkProgressListener())
+                .listener(new ChunkProgressListener(liveJobRegistry));
+        faultTolerantBuilder.listener((StepExecutionListener) liveJobRegistry);
+        ChunkMetricsListener metricsListener = new ChunkMetricsListener(pipelineMetrics);
+        faultTolerantBuilder.listener((ChunkListener) metricsListener);
+        faultTolerantBuilder.listener((ItemProcessListener<Object, Object>) metricsListener);
+        faultTolerantBuilder.listener((ItemWriteListener<Object>) metricsListener);
+        if (chunkSizePolicy != null) {
+            faultTolerantBuilder
+                    .listener((StepExecutionListener) chunkSizePolicy)
+                    .listener((ChunkListener) chunkSizePolicy);
+        }
+        return faultTolerantBuilder
+                .stream(sanitizationProcessor)
                 .build();
     }
 
     /**
-     * Creates a CSV item reader for the input file.
+     * Creates a CSV item reader for a byte range of the input file using the configured engine.
+     * Gzip input cannot be memory-mapped and is always streamed through the opencsv engine.
+     */
+    private CsvRecordReader createReader(String inputFilePath, CsvByteRange range) {
+        CsvReaderEngine engine = isGzip(inputFilePath) ? CsvReaderEngine.OPENCSV : readerEngine;
+        return switch (engine) {
+            case OPENCSV -> new CsvItemReader(inputFilePath, range);
+            case MAPPED -> new MappedCsvItemReader(inputFilePath, range);
+            case SIMD -> new MappedCsvItemReader(inputFilePath, range, true);
+        };
+    }
+
+    /**
+     * Checks the input for the gzip magic bytes.
+     */
+    private static boolean isGzip(String inputFilePath) {
+        try {
+            return GzipFiles.isGzip(Path.of(inputFilePath));
+        } catch (IOException e) {
+            // Left to the reader, which reports the unreadable file when opened
+            return false;
+        }
+    }
+
+    /**
+     * Creates the reader of a chunk step, with raw passthrough records when enabled
+     * and byte-slice records when the writer engine can take them.
      */
-    private CsvItemReader createReader(String inputFilePath) {
-        return new CsvItemReader(inputFilePath);
+    private CsvRecordReader createStepReader(String inputFilePath, CsvByteRange range) {
+        CsvRecordReader reader = createReader(inputFilePath, range);
+        reader.setPassthrough(passthrough);
+        reader.setByteFields(writerEngine.supportsByteFields());
+        return reader;
     }
 
     /**
-     * Creates the sanitization processor with configured strategies.
+     * Creates the sanitization processor for the compiled plan.
      */
-    private SanitizationProcessor createProcessor(SanitizationConfig config) {
-        return new SanitizationProcessor(config, strategyFactory);
+    private SanitizationProcessor createProcessor(SanitizationPlan plan) {
+        return new SanitizationProcessor(plan, memoCacheSize, pipelineMetrics);
     }
 
     /**
-     * Creates a CSV item writer for the output file.
+     * Creates a CSV item writer for the output file using the configured engine.
      */
-    private CsvItemWriter createWriter(String outputFilePath, String[] headers) {
-        return new CsvItemWriter(outputFilePath, headers);
+    private ItemStreamWriter<CsvRecord> createWriter(String outputFilePath, String[] headers, boolean writeHeader) {
+        return switch (writerEngine) {
+            case OPENCSV -> new CsvItemWriter(outputFilePath, headers, writeHeader);
+            case NIO -> new NioCsvItemWriter(outputFilePath, headers, writeHeader, flushPolicy, writerBufferSize);
+        };
     }
 
     /**
      * Reads CSV headers from the input file.
      */
     private String[] readHeaders(String inputFilePath) {
-        CsvItemReader tempReader = new CsvItemReader(inputFilePath);
+        CsvRecordReader tempReader = createReader(inputFilePath, CsvByteRange.WHOLE_FILE);
         try {
             tempReader.open(new ExecutionContext());
             return tempReader.getHeaders();
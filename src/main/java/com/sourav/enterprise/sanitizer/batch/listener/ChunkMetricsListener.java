@@ -0,0 +1,106 @@
+package com.sourav.enterprise.sanitizer.batch.listener;
+
+import com.sourav.enterprise.sanitizer.batch.partition.ByteRangePartitioner;
+import com.sourav.enterprise.sanitizer.batch.reader.CsvRecordReader;
+import com.sourav.enterprise.sanitizer.batch.writer.CsvItemWriter;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Chunk Metrics Listener - Feeds the pipeline metrics from a chunk step.
+ *
+ * Features:
+ * - Splits each chunk's time into read, process and write stages: a chunk
+ *   reads all its items before processing them, and processes them all
+ *   before writing
+ * - Counts the rows and the input and output bytes of each committed chunk
+ *   from the step's counts and reader and writer offsets
+ * - Per item, only remembers whether processing has started; chunks that
+ *   roll back are not recorded
+ *
+ * One instance per step. With parallel processing, items are sanitized from
+ * the moment they are read, so that time is split between read and process.
+ */
+public class ChunkMetricsListener implements ChunkListener, ItemProcessListener<Object, Object>,
+        ItemWriteListener<Object> {
+
+    private final PipelineMetrics metrics;
+    private long chunkStart;
+    private long processStart;
+    private long writeStart;
+    private long writeEnd;
+    private long lastRead;
+    private long lastWritten;
+    private long lastSkipped;
+    private long lastInputOffset = -1;
+    private long lastOutputOffset = -1;
+
+    public ChunkMetricsListener(PipelineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        if (lastInputOffset < 0) {
+            // Where this run of the step starts, resumed or fresh
+            ExecutionContext stepContext = context.getStepContext().getStepExecution().getExecutionContext();
+            lastInputOffset = stepContext.getLong(CsvRecordReader.CURRENT_OFFSET_KEY,
+                    ByteRangePartitioner.startOf(stepContext));
+            lastOutputOffset = stepContext.getLong(CsvItemWriter.OUTPUT_OFFSET_KEY, 0L);
+        }
+        processStart = 0;
+        writeStart = 0;
+        writeEnd = 0;
+        chunkStart = System.nanoTime();
+    }
+
+    @Override
+    public void beforeProcess(Object item) {
+        if (processStart == 0) {
+            processStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        if (writeStart == 0) {
+            writeStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        writeEnd = System.nanoTime();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        long end = System.nanoTime();
+        long writeFrom = writeStart != 0 ? writeStart : end;
+        long processFrom = processStart != 0 ? processStart : writeFrom;
+        metrics.chunk(processFrom - chunkStart, writeFrom - processFrom,
+                (writeEnd != 0 ? writeEnd : end) - writeFrom);
+
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        long read = stepExecution.getReadCount();
+        long written = stepExecution.getWriteCount();
+        long skipped = stepExecution.getSkipCount();
+        metrics.rows(read - lastRead, written - lastWritten, skipped - lastSkipped);
+        lastRead = read;
+        lastWritten = written;
+        lastSkipped = skipped;
+
+        ExecutionContext stepContext = stepExecution.getExecutionContext();
+        long inputOffset = stepContext.getLong(CsvRecordReader.CURRENT_OFFSET_KEY, lastInputOffset);
+        long outputOffset = stepContext.getLong(CsvItemWriter.OUTPUT_OFFSET_KEY, lastOutputOffset);
+        metrics.bytes(Math.max(0, inputOffset - lastInputOffset), Math.max(0, outputOffset - lastOutputOffset));
+        lastInputOffset = inputOffset;
+        lastOutputOffset = outputOffset;
+    }
+}
@@ -1,14 +1,17 @@
 package com.sourav.enterprise.sanitizer.batch.listener;
 
+import com.sourav.enterprise.sanitizer.service.LiveJobRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 
 /**
- * Chunk Progress Listener - Logs processing progress at chunk boundaries.
- * 
+ * Chunk Progress Listener - Reports processing progress at chunk boundaries.
+ *
  * Features:
+ * - Feeds every committed chunk to the live job registry
  * - Logs progress every chunk
  * - Shows running totals
  * - Useful for monitoring long-running jobs
@@ -16,9 +19,14 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 public class ChunkProgressListener implements ChunkListener {
     private static final Logger log = LoggerFactory.getLogger(ChunkProgressListener.class);
 
+    private final LiveJobRegistry liveJobRegistry;
     private long totalProcessed = 0;
     private long startTime = 0;
 
+    public ChunkProgressListener(LiveJobRegistry liveJobRegistry) {
+        this.liveJobRegistry = liveJobRegistry;
+    }
+
     @Override
     public void beforeChunk(ChunkContext context) {
         if (startTime == 0) {
@@ -28,7 +36,10 @@ public class ChunkProgressListener implements ChunkListener {
 
     @Override
     public void afterChunk(ChunkContext context) {
-        long readCount = context.getStepContext().getStepExecution().getReadCount();
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        liveJobRegistry.chunkCommitted(stepExecution);
+
+        long readCount = stepExecution.getReadCount();
         totalProcessed = readCount;
 
         long elapsed = System.currentTimeMillis() - startTime;
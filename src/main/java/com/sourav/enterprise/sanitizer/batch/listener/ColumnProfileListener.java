@@ -0,0 +1,31 @@
+package com.sourav.enterprise.sanitizer.batch.listener;
+
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Column Profile Listener - Publishes a job's inferred column types.
+ *
+ * Features:
+ * - Stores column name -> semantic type in the job execution context
+ * - Read back by JobAuditListener when the job completes
+ */
+public class ColumnProfileListener implements JobExecutionListener {
+    public static final String COLUMN_TYPES_KEY = "column.types";
+
+    private final Map<String, String> columnTypes;
+
+    public ColumnProfileListener(Map<String, SemanticType> columnTypes) {
+        this.columnTypes = new LinkedHashMap<>();
+        columnTypes.forEach((column, type) -> this.columnTypes.put(column, String.valueOf(type)));
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        jobExecution.getExecutionContext().put(COLUMN_TYPES_KEY, new LinkedHashMap<>(columnTypes));
+    }
+}
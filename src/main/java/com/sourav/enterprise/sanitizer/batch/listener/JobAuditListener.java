@@ -1,5 +1,8 @@
 package com.sourav.enterprise.sanitizer.batch.listener;
 
+import com.sourav.enterprise.sanitizer.batch.chunk.AdaptiveChunkSizePolicy;
+import com.sourav.enterprise.sanitizer.batch.partition.PartitionSteps;
+import com.sourav.enterprise.sanitizer.batch.processor.SanitizationProcessor;
 import com.sourav.enterprise.sanitizer.domain.entity.JobAudit;
 import com.sourav.enterprise.sanitizer.domain.enums.JobStatus;
 import com.sourav.enterprise.sanitizer.repository.JobAuditRepository;
@@ -10,10 +13,12 @@ import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 
 /**
  * Job Audit Listener - Records job execution details for audit and history.
@@ -21,6 +26,10 @@ import java.time.LocalDateTime;
  * Features:
  * - Creates audit record when job starts
  * - Updates audit with final statistics when job completes
+ * - Sums counts across partition worker steps for partitioned jobs
+ * - Records the column types inferred by the column profiler
+ * - Records memoization cache hit/miss/eviction counts
+ * - Records the chunk sizes chosen by adaptive chunk sizing
  * - Calculates processing rate and duration
  * - Captures error messages for failed jobs
  */
@@ -85,16 +94,33 @@ public class JobAuditListener implements JobExecutionListener {
             audit.setEndTime(endTime);
             audit.setStatus(status);
 
-            // Aggregate statistics from all steps
+            // Aggregate statistics from all steps (partition workers instead of their manager)
             long totalRead = 0;
             long totalSkipped = 0;
-            for (StepExecution step : jobExecution.getStepExecutions()) {
+            for (StepExecution step : PartitionSteps.countable(jobExecution.getStepExecutions())) {
                 totalRead += step.getReadCount();
                 totalSkipped += step.getSkipCount();
             }
             audit.setRowsProcessed(totalRead);
             audit.setRowsSkipped(totalSkipped);
 
+            // Memoization cache statistics saved by the sanitization processors
+            var steps = jobExecution.getStepExecutions();
+            audit.setCacheHits(PartitionSteps.sumCounter(steps, SanitizationProcessor.CACHE_HITS_KEY));
+            audit.setCacheMisses(PartitionSteps.sumCounter(steps, SanitizationProcessor.CACHE_MISSES_KEY));
+            audit.setCacheEvictions(PartitionSteps.sumCounter(steps, SanitizationProcessor.CACHE_EVICTIONS_KEY));
+
+            recordChunkSizes(audit, steps);
+
+            Object columnTypes = jobExecution.getExecutionContext().get(ColumnProfileListener.COLUMN_TYPES_KEY);
+            if (columnTypes != null) {
+                try {
+                    audit.setColumnTypes(objectMapper.writeValueAsString(columnTypes));
+                } catch (Exception e) {
+                    log.warn("Could not serialize inferred column types");
+                }
+            }
+
             // Calculate duration and processing rate
             if (audit.getStartTime() != null && endTime != null) {
                 long durationMs = Duration.between(audit.getStartTime(), endTime).toMillis();
@@ -126,6 +152,29 @@ public class JobAuditListener implements JobExecutionListener {
         });
     }
 
+    /**
+     * Records the first step's initial chunk size and the range used by all
+     * steps, when chunks were sized adaptively.
+     */
+    private void recordChunkSizes(JobAudit audit, Collection<StepExecution> steps) {
+        for (StepExecution step : PartitionSteps.countable(steps)) {
+            ExecutionContext context = step.getExecutionContext();
+            if (!context.containsKey(AdaptiveChunkSizePolicy.INITIAL_SIZE_KEY)) {
+                continue;
+            }
+            int min = context.getInt(AdaptiveChunkSizePolicy.MIN_SIZE_KEY);
+            int max = context.getInt(AdaptiveChunkSizePolicy.MAX_SIZE_KEY);
+            if (audit.getChunkSizeInitial() == null) {
+                audit.setChunkSizeInitial(context.getInt(AdaptiveChunkSizePolicy.INITIAL_SIZE_KEY));
+                audit.setChunkSizeMin(min);
+                audit.setChunkSizeMax(max);
+            } else {
+                audit.setChunkSizeMin(Math.min(audit.getChunkSizeMin(), min));
+                audit.setChunkSizeMax(Math.max(audit.getChunkSizeMax(), max));
+            }
+        }
+    }
+
     private JobStatus mapBatchStatus(BatchStatus status) {
         return switch (status) {
             case COMPLETED -> JobStatus.SUCCESS;
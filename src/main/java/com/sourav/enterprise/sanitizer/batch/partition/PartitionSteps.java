@@ -0,0 +1,48 @@
+package com.sourav.enterprise.sanitizer.batch.partition;
+
+import org.springframework.batch.core.StepExecution;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Partition Steps - Selects the step executions that carry a job's row counts.
+ *
+ * A partition manager step rolls up its workers' counts when it finishes, so
+ * summing every step execution would count partitioned rows twice. Workers
+ * are named "manager:partition"; their manager is left out.
+ */
+public final class PartitionSteps {
+
+    private PartitionSteps() {
+    }
+
+    /**
+     * Gets the step executions whose read/write/skip counts add up to the job totals.
+     */
+    public static List<StepExecution> countable(Collection<StepExecution> stepExecutions) {
+        Set<String> managers = new HashSet<>();
+        for (StepExecution step : stepExecutions) {
+            int separator = step.getStepName().indexOf(':');
+            if (separator > 0) {
+                managers.add(step.getStepName().substring(0, separator));
+            }
+        }
+        return stepExecutions.stream()
+                .filter(step -> !managers.contains(step.getStepName()))
+                .toList();
+    }
+
+    /**
+     * Sums a counter saved in the execution contexts of the countable steps.
+     */
+    public static long sumCounter(Collection<StepExecution> stepExecutions, String key) {
+        long total = 0;
+        for (StepExecution step : countable(stepExecutions)) {
+            total += step.getExecutionContext().getLong(key, 0L);
+        }
+        return total;
+    }
+}
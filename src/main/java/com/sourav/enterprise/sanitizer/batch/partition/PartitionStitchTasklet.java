@@ -0,0 +1,74 @@
+package com.sourav.enterprise.sanitizer.batch.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partition Stitch Tasklet - Concatenates partition part files into the output file.
+ *
+ * Features:
+ * - Copies parts in partition order with FileChannel.transferTo
+ * - The header comes from part 0, the only part written with one
+ * - Rewrites the output from scratch, so a failed stitch can simply be rerun
+ * - Deletes the part files once the output is complete
+ */
+public class PartitionStitchTasklet implements Tasklet {
+    private static final Logger log = LoggerFactory.getLogger(PartitionStitchTasklet.class);
+
+    private final String outputFilePath;
+
+    public PartitionStitchTasklet(String outputFilePath) {
+        this.outputFilePath = outputFilePath;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        List<Path> parts = new ArrayList<>();
+        for (Path part = partPath(outputFilePath, 0); Files.exists(part); part = partPath(outputFilePath, parts.size())) {
+            parts.add(part);
+        }
+        if (parts.isEmpty()) {
+            throw new IOException("No part files found for output file: " + outputFilePath);
+        }
+
+        long bytes = 0;
+        try (FileChannel out = FileChannel.open(Path.of(outputFilePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path part : parts) {
+                try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    for (long position = 0; position < size;) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                    bytes += size;
+                }
+            }
+        }
+
+        for (Path part : parts) {
+            Files.delete(part);
+        }
+        log.info("🧵 Stitched {} parts into {} ({} bytes)", parts.size(),
+                outputFilePath.substring(outputFilePath.lastIndexOf('/') + 1), bytes);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * Gets the part file a partition writes to.
+     */
+    public static Path partPath(String outputFilePath, int partitionIndex) {
+        return Path.of(String.format("%s.part-%04d", outputFilePath, partitionIndex));
+    }
+}
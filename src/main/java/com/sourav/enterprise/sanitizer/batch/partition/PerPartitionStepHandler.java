@@ -0,0 +1,61 @@
+package com.sourav.enterprise.sanitizer.batch.partition;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+/**
+ * Per Partition Step Handler - Runs every partition with a step built for it.
+ *
+ * The stock TaskExecutorPartitionHandler runs one shared worker step for all
+ * partitions, which needs step-scoped reader and writer beans. Jobs here are
+ * assembled programmatically, so each partition gets its own step with its
+ * own reader, processor and writer instead.
+ */
+public class PerPartitionStepHandler extends AbstractPartitionHandler {
+    private final Function<StepExecution, Step> workerStepFactory;
+    private final TaskExecutor taskExecutor;
+
+    public PerPartitionStepHandler(Function<StepExecution, Step> workerStepFactory, TaskExecutor taskExecutor) {
+        this.workerStepFactory = workerStepFactory;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    protected Set<StepExecution> doHandle(StepExecution managerStepExecution,
+            Set<StepExecution> partitionStepExecutions) throws Exception {
+        Set<Future<StepExecution>> tasks = new HashSet<>();
+        Set<StepExecution> result = new HashSet<>();
+
+        for (StepExecution partition : partitionStepExecutions) {
+            Step step = workerStepFactory.apply(partition);
+            FutureTask<StepExecution> task = new FutureTask<>(() -> {
+                step.execute(partition);
+                return partition;
+            });
+            try {
+                taskExecutor.execute(task);
+                tasks.add(task);
+            } catch (TaskRejectedException e) {
+                partition.setStatus(BatchStatus.FAILED);
+                partition.setExitStatus(ExitStatus.FAILED.addExitDescription(e));
+                result.add(partition);
+            }
+        }
+
+        for (Future<StepExecution> task : tasks) {
+            result.add(task.get());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package com.sourav.enterprise.sanitizer.batch.processor;
+
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Async Sanitization Processor - Sanitizes the items of a chunk on a worker pool.
+ *
+ * Features:
+ * - Submits each item to the pool as soon as it is read; the step reads a
+ *   whole chunk before processing it, so all its items are sanitized in parallel
+ * - process() waits for the item's own result, so output stays in input order
+ * - Rethrows the original sanitization failure from process(), so the
+ *   fault-tolerant step counts and reports it as a process skip
+ * - Results are kept until the chunk commits, so a chunk processed again
+ *   after a rollback (such as a process skip) reuses them
+ *
+ * Registered by the step builder as a read and chunk listener because it
+ * implements both interfaces. Not thread-safe; use one instance per step.
+ */
+public class AsyncSanitizationProcessor implements ItemProcessor<CsvRecord, CsvRecord>,
+        ItemReadListener<CsvRecord>, ChunkListener {
+    private final ItemProcessor<CsvRecord, CsvRecord> delegate;
+    private final ExecutorService workerPool;
+    private final Map<CsvRecord, Future<CsvRecord>> pending = new IdentityHashMap<>();
+
+    public AsyncSanitizationProcessor(ItemProcessor<CsvRecord, CsvRecord> delegate, ExecutorService workerPool) {
+        this.delegate = delegate;
+        this.workerPool = workerPool;
+    }
+
+    @Override
+    public void afterRead(CsvRecord item) {
+        pending.put(item, workerPool.submit(() -> delegate.process(item)));
+    }
+
+    @Override
+    public CsvRecord process(CsvRecord item) throws Exception {
+        Future<CsvRecord> result = pending.get(item);
+        if (result == null) {
+            return delegate.process(item);
+        }
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        pending.values().forEach(result -> result.cancel(false));
+        pending.clear();
+    }
+}
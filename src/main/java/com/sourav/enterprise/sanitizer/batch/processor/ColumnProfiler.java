@@ -0,0 +1,91 @@
+package com.sourav.enterprise.sanitizer.batch.processor;
+
+import com.sourav.enterprise.sanitizer.batch.reader.CsvRecordReader;
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.exception.JobExecutionException;
+import com.sourav.enterprise.sanitizer.strategy.ValueClassifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Column Profiler - Infers the semantic type of each sanitized column from a sample.
+ *
+ * Features:
+ * - Reads only the first N data rows of the input, once per job, or takes
+ *   rows already read from a stream
+ * - A column gets a type only if every non-empty sampled value agrees
+ * - Columns with disagreeing or no sampled values come out MIXED and keep
+ *   per-value detection in the strategies
+ * - Types are hints: strategies still check that a value looks like its
+ *   column's type, since rows after the sample may not
+ */
+public final class ColumnProfiler {
+    private static final Logger log = LoggerFactory.getLogger(ColumnProfiler.class);
+
+    private ColumnProfiler() {
+    }
+
+    /**
+     * Profiles the columns of the plan and returns the plan with their types.
+     */
+    public static SanitizationPlan profile(SanitizationPlan plan, CsvRecordReader reader, int sampleRows) {
+        SemanticType[] types = new SemanticType[plan.getSchema().size()];
+
+        int sampled = 0;
+        try {
+            reader.open(new ExecutionContext());
+            for (CsvRecord record; sampled < sampleRows && (record = reader.read()) != null; sampled++) {
+                classify(plan.getPositions(), types, record);
+            }
+        } catch (Exception e) {
+            throw new JobExecutionException("Failed to profile input columns", e);
+        } finally {
+            reader.close();
+        }
+        return withTypes(plan, types, sampled);
+    }
+
+    /**
+     * Profiles the columns of the plan from rows already read, for input that
+     * can only be read once, and returns the plan with their types.
+     */
+    public static SanitizationPlan profile(SanitizationPlan plan, Iterable<CsvRecord> sample) {
+        SemanticType[] types = new SemanticType[plan.getSchema().size()];
+
+        int sampled = 0;
+        for (CsvRecord record : sample) {
+            classify(plan.getPositions(), types, record);
+            sampled++;
+        }
+        return withTypes(plan, types, sampled);
+    }
+
+    private static void classify(int[] positions, SemanticType[] types, CsvRecord record) {
+        for (int position : positions) {
+            String value = record.getValue(position);
+            if (value == null || value.isEmpty() || types[position] == SemanticType.MIXED) {
+                continue;
+            }
+            SemanticType type = ValueClassifier.classify(value);
+            if (types[position] == null) {
+                types[position] = type;
+            } else if (types[position] != type) {
+                types[position] = SemanticType.MIXED;
+            }
+        }
+    }
+
+    private static SanitizationPlan withTypes(SanitizationPlan plan, SemanticType[] types, int sampled) {
+        for (int position : plan.getPositions()) {
+            if (types[position] == null) {
+                types[position] = SemanticType.MIXED;
+            }
+        }
+
+        SanitizationPlan profiled = plan.withTypes(types);
+        log.info("🔎 Inferred column types from {} rows: {}", sampled, profiled.getColumnTypes());
+        return profiled;
+    }
+}
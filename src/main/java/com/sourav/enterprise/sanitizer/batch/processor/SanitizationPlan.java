@@ -0,0 +1,137 @@
+package com.sourav.enterprise.sanitizer.batch.processor;
+
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.exception.InvalidConfigurationException;
+import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategy;
+import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategyFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sanitization Plan - Column rules compiled against the actual CSV header.
+ *
+ * Features:
+ * - Strategies indexed by column position
+ * - Dense list of the positions that have a rule
+ * - Optional semantic type per column, inferred by ColumnProfiler
+ * - Fails fast when a rule names a column missing from the header
+ */
+public final class SanitizationPlan {
+    private final CsvSchema schema;
+    private final SanitizationStrategy[] strategies;
+    private final SanitizationOperation[] operations;
+    private final int[] positions;
+    private final SemanticType[] types;
+
+    private SanitizationPlan(CsvSchema schema, SanitizationStrategy[] strategies,
+            SanitizationOperation[] operations, int[] positions, SemanticType[] types) {
+        this.schema = schema;
+        this.strategies = strategies;
+        this.operations = operations;
+        this.positions = positions;
+        this.types = types;
+    }
+
+    /**
+     * Compiles the column rules against the header schema.
+     *
+     * @throws InvalidConfigurationException if a rule names an unknown column
+     */
+    public static SanitizationPlan compile(SanitizationConfig config, CsvSchema schema,
+            SanitizationStrategyFactory strategyFactory) {
+        Map<String, SanitizationOperation> rules = config.getColumns();
+
+        List<String> missing = new ArrayList<>();
+        for (String column : rules.keySet()) {
+            if (!schema.hasColumn(column)) {
+                missing.add(column);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new InvalidConfigurationException("Columns not found in CSV header: " + missing
+                    + " (available: " + schema.getColumns() + ")");
+        }
+
+        SanitizationStrategy[] strategies = new SanitizationStrategy[schema.size()];
+        SanitizationOperation[] operations = new SanitizationOperation[schema.size()];
+        int[] positions = new int[schema.size()];
+        int count = 0;
+        for (int i = 0; i < schema.size(); i++) {
+            SanitizationOperation operation = rules.get(schema.getColumn(i));
+            if (operation != null) {
+                strategies[i] = strategyFactory.getStrategy(operation);
+                operations[i] = operation;
+                positions[count++] = i;
+            }
+        }
+        return new SanitizationPlan(schema, strategies, operations, Arrays.copyOf(positions, count),
+                new SemanticType[schema.size()]);
+    }
+
+    /**
+     * Returns a copy of this plan with a semantic type per column position.
+     */
+    public SanitizationPlan withTypes(SemanticType[] columnTypes) {
+        return new SanitizationPlan(schema, strategies, operations, positions, columnTypes.clone());
+    }
+
+    /**
+     * Gets the schema this plan was compiled against.
+     */
+    public CsvSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Gets the column positions that have a rule, in column order.
+     */
+    public int[] getPositions() {
+        return positions;
+    }
+
+    /**
+     * Gets the strategy for a column position, or null if it has no rule.
+     */
+    public SanitizationStrategy getStrategy(int position) {
+        return strategies[position];
+    }
+
+    /**
+     * Gets the operation for a column position, or null if it has no rule.
+     */
+    public SanitizationOperation getOperation(int position) {
+        return operations[position];
+    }
+
+    /**
+     * Gets the semantic type of a column position, or null if it was not profiled.
+     */
+    public SemanticType getType(int position) {
+        return types[position];
+    }
+
+    /**
+     * Gets the semantic type of each column with a rule, in column order.
+     */
+    public Map<String, SemanticType> getColumnTypes() {
+        Map<String, SemanticType> columnTypes = new LinkedHashMap<>();
+        for (int position : positions) {
+            columnTypes.put(schema.getColumn(position), types[position]);
+        }
+        return columnTypes;
+    }
+
+    /**
+     * Gets the number of columns with a rule.
+     */
+    public int size() {
+        return positions.length;
+    }
+}
@@ -1,93 +1,289 @@
 package com.sourav.enterprise.sanitizer.batch.processor;
 
+import com.sourav.enterprise.sanitizer.domain.model.ByteFields;
 import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
-import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
-
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import com.sourav.enterprise.sanitizer.strategy.ByteSanitizationStrategy;
+import com.sourav.enterprise.sanitizer.strategy.MemoizingStrategy;
 import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategy;
-import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategyFactory;
+import com.sourav.enterprise.sanitizer.strategy.StringStrategyAdapter;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStream;
 
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Sanitization Processor - Applies sanitization rules to CSV records.
- * 
+ *
  * Features:
  * - Strategy pattern for different sanitization operations
- * - Caches strategies for performance
+ * - Visits only the column positions compiled into the plan
+ * - Passes each column's inferred semantic type to its strategy
  * - Preserves column order in output
- * - Tracks sanitization statistics
+ * - Memoizes deterministic strategies (HASH, RANDOMIZE) per column in a bounded cache
+ * - Sanitizes records read as UTF-8 byte slices through the byte strategy
+ *   contract, adapting String-only strategies transparently
+ * - Passthrough records: columns without rules are copied as raw CSV bytes,
+ *   only sanitized columns are unquoted and re-quoted
+ * - Tracks sanitization statistics (thread-safe for parallel processing)
+ * - Publishes cache hit/miss/eviction counts in the step execution context,
+ *   continuing from the counts saved by a previous run when the step restarts
+ * - Times the strategies of one record in N for the strategy latency metrics
  */
-public class SanitizationProcessor implements ItemProcessor<CsvRecord, CsvRecord> {
+public class SanitizationProcessor implements ItemProcessor<CsvRecord, CsvRecord>, ItemStream {
     private static final Logger log = LoggerFactory.getLogger(SanitizationProcessor.class);
+    public static final String CACHE_HITS_KEY = "memo.hits";
+    public static final String CACHE_MISSES_KEY = "memo.misses";
+    public static final String CACHE_EVICTIONS_KEY = "memo.evictions";
+
+    private final SanitizationPlan plan;
+    private final int[] positions;
+    private final SanitizationStrategy[] strategies;
+    private final ByteSanitizationStrategy[] byteStrategies;
+    private final ThreadLocal<Buffers> buffers;
+    private final List<MemoizingStrategy> memoized;
+    private final LongAdder processedCount;
+    private final LongAdder sanitizedFieldCount;
+    private final Timer[] applyTimers;
+    private final int sampleRate;
+    private int sampleCountdown;
+    private CacheStats restoredStats = CacheStats.empty();
 
-    private final SanitizationConfig config;
-    private final SanitizationStrategyFactory strategyFactory;
-    private final Map<String, SanitizationStrategy> strategyCache;
-    private long processedCount;
-    private long sanitizedFieldCount;
-
-    public SanitizationProcessor(SanitizationConfig config, SanitizationStrategyFactory strategyFactory) {
-        this.config = config;
-        this.strategyFactory = strategyFactory;
-        this.strategyCache = new HashMap<>();
-        this.processedCount = 0;
-        this.sanitizedFieldCount = 0;
-
-        // Pre-cache strategies for configured columns
-        initializeStrategies();
+    public SanitizationProcessor(SanitizationPlan plan) {
+        this(plan, 0);
     }
 
-    private void initializeStrategies() {
-        config.getColumns().forEach((column, operation) -> {
-            strategyCache.put(column, strategyFactory.getStrategy(operation));
-        });
-        log.debug("🔧 Initialized {} sanitization strategies", strategyCache.size());
+    public SanitizationProcessor(SanitizationPlan plan, long memoCacheSize) {
+        this(plan, memoCacheSize, null);
+    }
+
+    /**
+     * @param memoCacheSize maximum cached values per memoizable column, 0 to disable
+     * @param metrics       receives sampled strategy latencies, null to disable
+     */
+    public SanitizationProcessor(SanitizationPlan plan, long memoCacheSize, PipelineMetrics metrics) {
+        this.plan = plan;
+        this.positions = plan.getPositions();
+        this.strategies = new SanitizationStrategy[plan.getSchema().size()];
+        this.byteStrategies = new ByteSanitizationStrategy[strategies.length];
+        this.memoized = new ArrayList<>();
+        for (int position : positions) {
+            SanitizationStrategy strategy = plan.getStrategy(position);
+            if (memoCacheSize > 0 && plan.getOperation(position).isMemoizable()) {
+                MemoizingStrategy memo = new MemoizingStrategy(strategy, memoCacheSize);
+                memoized.add(memo);
+                strategy = memo;
+            }
+            strategies[position] = strategy;
+            // Native byte implementations are allocation-free and skip the cache
+            byteStrategies[position] = plan.getStrategy(position) instanceof ByteSanitizationStrategy bytes
+                    ? bytes
+                    : new StringStrategyAdapter(strategy);
+        }
+        this.sampleRate = metrics != null ? metrics.getStrategySampleRate() : 0;
+        this.applyTimers = sampleRate > 0 ? new Timer[strategies.length] : null;
+        if (applyTimers != null) {
+            for (int position : positions) {
+                applyTimers[position] = metrics.strategyTimer(plan.getOperation(position));
+            }
+        }
+        this.sampleCountdown = sampleRate;
+        this.buffers = ThreadLocal.withInitial(Buffers::new);
+        this.processedCount = new LongAdder();
+        this.sanitizedFieldCount = new LongAdder();
+        log.debug("🔧 Initialized {} sanitization strategies ({} memoized)", plan.size(), memoized.size());
     }
 
     @Override
     public CsvRecord process(CsvRecord item) throws Exception {
-        Map<String, String> sanitizedData = new LinkedHashMap<>();
+        ByteFields input = item.getFields();
+        if (input != null) {
+            return processBytes(item, input);
+        }
 
-        for (Map.Entry<String, String> entry : item.getData().entrySet()) {
-            String column = entry.getKey();
-            String value = entry.getValue();
+        // Non-configured columns keep their original value
+        String[] sanitized = item.getValues().clone();
 
-            if (strategyCache.containsKey(column) && value != null && !value.isEmpty()) {
+        boolean sampled = sampleNext();
+        int fields = 0;
+        for (int position : positions) {
+            String value = sanitized[position];
+            if (value != null && !value.isEmpty()) {
                 // Apply sanitization strategy
-                SanitizationStrategy strategy = strategyCache.get(column);
-                String sanitizedValue = strategy.apply(value);
-                sanitizedData.put(column, sanitizedValue);
-                sanitizedFieldCount++;
+                long start = sampled ? System.nanoTime() : 0;
+                sanitized[position] = strategies[position].apply(value, plan.getType(position));
+                if (sampled) {
+                    recordApply(position, start);
+                }
+                fields++;
+            }
+        }
+
+        sanitizedFieldCount.add(fields);
+        processedCount.increment();
+
+        return new CsvRecord(item.getLineNumber(), item.getSchema(), sanitized);
+    }
+
+    private CsvRecord processBytes(CsvRecord item, ByteFields input) {
+        if (input.isEncoded()) {
+            return processEncoded(item, input);
+        }
+        FieldBuffer out = buffers.get().out;
+        out.reset();
+        byte[] data = input.data();
+
+        boolean sampled = sampleNext();
+        int fields = 0;
+        for (int i = 0; i < byteStrategies.length; i++) {
+            int start = input.start(i);
+            int length = input.length(i);
+            ByteSanitizationStrategy strategy = byteStrategies[i];
+            if (strategy != null && length > 0) {
+                long applyStart = sampled ? System.nanoTime() : 0;
+                strategy.apply(data, start, length, plan.getType(i), out);
+                if (sampled) {
+                    recordApply(i, applyStart);
+                }
+                fields++;
             } else {
-                // Keep original value for non-configured columns
-                sanitizedData.put(column, value);
+                // Non-configured and empty columns are copied as is
+                out.write(data, start, length);
+            }
+            out.endField();
+        }
+
+        sanitizedFieldCount.add(fields);
+        processedCount.increment();
+
+        return new CsvRecord(item.getLineNumber(), item.getSchema(), out.toByteFields());
+    }
+
+    private CsvRecord processEncoded(CsvRecord item, ByteFields input) {
+        Buffers buffers = this.buffers.get();
+        FieldBuffer out = buffers.out;
+        out.reset();
+        byte[] data = input.data();
+
+        boolean sampled = sampleNext();
+        int fields = 0;
+        for (int i = 0; i < byteStrategies.length; i++) {
+            ByteSanitizationStrategy strategy = byteStrategies[i];
+            if (strategy != null) {
+                FieldBuffer content = buffers.content;
+                content.reset();
+                input.copyContent(i, content);
+                if (content.length() > 0) {
+                    FieldBuffer result = buffers.result;
+                    result.reset();
+                    long start = sampled ? System.nanoTime() : 0;
+                    strategy.apply(content.array(), 0, content.length(), plan.getType(i), result);
+                    if (sampled) {
+                        recordApply(i, start);
+                    }
+                    out.writeQuoted(result.array(), 0, result.length());
+                    out.endField();
+                    fields++;
+                    continue;
+                }
             }
+            // Raw bytes as read, original quoting included
+            out.write(data, input.start(i), input.length(i));
+            out.endField();
         }
 
-        processedCount++;
+        sanitizedFieldCount.add(fields);
+        processedCount.increment();
 
-        return CsvRecord.builder()
-                .lineNumber(item.getLineNumber())
-                .data(sanitizedData)
-                .build();
+        return new CsvRecord(item.getLineNumber(), item.getSchema(), out.toEncodedFields());
+    }
+
+    /**
+     * Decides whether the strategies of the next record are timed.
+     */
+    private boolean sampleNext() {
+        if (applyTimers == null) {
+            return false;
+        }
+        // Unsynchronized across processing threads: a lost update only shifts the sample
+        if (--sampleCountdown > 0) {
+            return false;
+        }
+        sampleCountdown = sampleRate;
+        return true;
+    }
+
+    private void recordApply(int position, long start) {
+        applyTimers[position].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (memoized.isEmpty() || !executionContext.containsKey(CACHE_HITS_KEY)) {
+            return;
+        }
+        // The cache itself starts empty, only the counts carry over
+        restoredStats = CacheStats.of(
+                executionContext.getLong(CACHE_HITS_KEY, 0L),
+                executionContext.getLong(CACHE_MISSES_KEY, 0L),
+                0, 0, 0,
+                executionContext.getLong(CACHE_EVICTIONS_KEY, 0L),
+                0);
+        log.debug("🔁 Restored memo cache statistics: {}", restoredStats);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (memoized.isEmpty()) {
+            return;
+        }
+        CacheStats stats = getCacheStats();
+        executionContext.putLong(CACHE_HITS_KEY, stats.hitCount());
+        executionContext.putLong(CACHE_MISSES_KEY, stats.missCount());
+        executionContext.putLong(CACHE_EVICTIONS_KEY, stats.evictionCount());
+    }
+
+    /**
+     * Gets the combined cache statistics of all memoized columns, including
+     * those restored from a previous run of the step.
+     */
+    public CacheStats getCacheStats() {
+        CacheStats total = restoredStats;
+        for (MemoizingStrategy memo : memoized) {
+            total = total.plus(memo.stats());
+        }
+        return total;
     }
 
     /**
      * Gets the total number of records processed.
      */
     public long getProcessedCount() {
-        return processedCount;
+        return processedCount.sum();
     }
 
     /**
      * Gets the total number of fields sanitized.
      */
     public long getSanitizedFieldCount() {
-        return sanitizedFieldCount;
+        return sanitizedFieldCount.sum();
+    }
+
+    /**
+     * Per-thread scratch buffers, reused across records.
+     */
+    private static final class Buffers {
+        final FieldBuffer out = new FieldBuffer();
+        final FieldBuffer content = new FieldBuffer();
+        final FieldBuffer result = new FieldBuffer();
     }
 }
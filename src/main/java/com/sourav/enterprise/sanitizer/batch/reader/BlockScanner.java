@@ -0,0 +1,38 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+/**
+ * Block Scanner - Classifies the bytes of a chunk into per-64-byte bitmasks.
+ *
+ * Bit i of block k stands for byte 64 * k + i of the chunk. The chunk is
+ * zero-padded to whole blocks, and zero bytes match no mask.
+ */
+interface BlockScanner {
+    int BLOCK_SIZE = 64;
+
+    /**
+     * Fills one mask per block for quotes, commas, line ends (CR or LF) and CRs.
+     *
+     * @param chunk  bytes to scan, a whole number of blocks long
+     * @param blocks number of blocks to scan
+     */
+    void scan(byte[] chunk, int blocks, long[] quotes, long[] commas, long[] lineEnds, long[] crs);
+
+    /**
+     * Gets the fastest scanner this JVM supports: vector compares when the
+     * jdk.incubator.vector module is present, a scalar loop otherwise.
+     */
+    static BlockScanner preferred() {
+        return VectorSupport.AVAILABLE ? new VectorBlockScanner() : new ScalarBlockScanner();
+    }
+
+    /**
+     * Whether the vector scanner can be used. Checked before VectorBlockScanner
+     * is loaded, since it links against the incubator module.
+     */
+    final class VectorSupport {
+        static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+        private VectorSupport() {
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+/**
+ * CSV Byte Range - The slice of an input file a reader is limited to.
+ *
+ * Start and end are record boundaries. linesBefore is the number of data
+ * records preceding start, so records keep their line numbers from the whole file.
+ */
+public record CsvByteRange(long start, long end, long linesBefore) {
+
+    /** The whole file, starting right after the header */
+    public static final CsvByteRange WHOLE_FILE = new CsvByteRange(0, Long.MAX_VALUE, 0);
+}
@@ -0,0 +1,357 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * CSV Byte Tokenizer - RFC 4180 tokenizer over UTF-8 bytes.
+ *
+ * Features:
+ * - Splits records into field slices without decoding them
+ * - Quoted fields, escaped quotes ("") and embedded newlines
+ * - CR, LF and CRLF record terminators
+ * - Decodes a field to a String only when it is requested
+ * - Copies unescaped or raw field bytes into a reusable FieldBuffer without decoding
+ * - Optionally finds field boundaries through a StructuralIndex instead of a
+ *   byte-by-byte state machine; records with escaped or stray quotes fall
+ *   back to the byte-by-byte path
+ *
+ * Newlines inside quoted fields are normalized to LF on decode, matching the
+ * opencsv reader. Backslash escapes (an opencsv extension) are not interpreted.
+ */
+final class CsvByteTokenizer {
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private static final byte QUOTED = 1;
+    private static final byte NEEDS_UNESCAPE = 2;
+
+    private static final int NEED_MORE = -1;
+    private static final int UNTERMINATED = -2;
+
+    private final MappedFileWindow window;
+    private final StructuralIndex index;
+    private long position;
+    private int fieldCount;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private byte[] flags = new byte[16];
+    private byte[] scratch = new byte[256];
+
+    CsvByteTokenizer(MappedFileWindow window) {
+        this(window, null);
+    }
+
+    /**
+     * @param index structural index to find field boundaries with, or null
+     *              to scan every byte
+     */
+    CsvByteTokenizer(MappedFileWindow window, StructuralIndex index) {
+        this.window = window;
+        this.index = index;
+        this.position = window.windowStart();
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return false at end of input
+     * @throws IOException if the input ends inside a quoted field
+     */
+    boolean nextRecord() throws IOException {
+        long size = window.size();
+        if (position >= size) {
+            return false;
+        }
+        while (true) {
+            long base = window.windowStart();
+            int end = index != null
+                    ? tokenizeIndexed(window.buffer(), (int) (position - base), window.atEof())
+                    : tokenize(window.buffer(), (int) (position - base), window.atEof());
+            if (end >= 0) {
+                position = base + end;
+                return true;
+            }
+            if (end == UNTERMINATED) {
+                long start = position;
+                position = size;
+                throw new IOException("Unterminated quoted field starting at byte " + start);
+            }
+            window.slide(position);
+        }
+    }
+
+    private int tokenize(ByteBuffer buf, int p, boolean eof) {
+        int limit = buf.limit();
+        fieldCount = 0;
+        while (true) {
+            int fieldStart = p;
+            byte flag = 0;
+
+            if (p < limit && buf.get(p) == QUOTE) {
+                flag = QUOTED;
+                p++;
+                while (true) {
+                    if (p >= limit) {
+                        return eof ? UNTERMINATED : NEED_MORE;
+                    }
+                    byte b = buf.get(p);
+                    if (b == QUOTE) {
+                        if (p + 1 >= limit && !eof) {
+                            return NEED_MORE;
+                        }
+                        if (p + 1 < limit && buf.get(p + 1) == QUOTE) {
+                            flag |= NEEDS_UNESCAPE;
+                            p += 2;
+                            continue;
+                        }
+                        p++;
+                        break;
+                    }
+                    if (b == CR) {
+                        flag |= NEEDS_UNESCAPE;
+                    }
+                    p++;
+                }
+            }
+
+            while (p < limit) {
+                byte b = buf.get(p);
+                if (b == COMMA || b == LF || b == CR) {
+                    break;
+                }
+                if (flag != 0) {
+                    // Text after the closing quote is kept, as opencsv does
+                    flag |= NEEDS_UNESCAPE;
+                }
+                p++;
+            }
+            addField(fieldStart, p, flag);
+
+            if (p >= limit) {
+                return eof ? p : NEED_MORE;
+            }
+            byte b = buf.get(p);
+            if (b == COMMA) {
+                p++;
+                continue;
+            }
+            if (b == CR) {
+                if (p + 1 < limit) {
+                    return buf.get(p + 1) == LF ? p + 2 : p + 1;
+                }
+                return eof ? p + 1 : NEED_MORE;
+            }
+            return p + 1;
+        }
+    }
+
+    /**
+     * Tokenizes a record from the separators of the structural index.
+     * Unquoted fields and fields quoted without escapes are taken as indexed;
+     * any other quoting re-parses the record byte by byte.
+     */
+    private int tokenizeIndexed(ByteBuffer buf, int p, boolean eof) {
+        if (index.buffer() != buf) {
+            // The window moved; records start outside quotes
+            index.reset(buf, p, eof);
+        }
+        int recordStart = p;
+        int limit = buf.limit();
+        fieldCount = 0;
+        while (true) {
+            if (!index.seekTo(p)) {
+                return NEED_MORE;
+            }
+            int end = index.position();
+            int quotes = index.quoteCount();
+            byte flag;
+            if (quotes == 0) {
+                flag = 0;
+            } else if (quotes == 2 && end - p >= 2 && buf.get(p) == QUOTE && buf.get(end - 1) == QUOTE) {
+                flag = index.quotedCr() ? QUOTED | NEEDS_UNESCAPE : QUOTED;
+            } else {
+                return tokenizeFallback(buf, recordStart, eof);
+            }
+            index.advance();
+            addField(p, end, flag);
+
+            if (end >= limit) {
+                return end; // Last record of the input
+            }
+            byte b = buf.get(end);
+            if (b == COMMA) {
+                p = end + 1;
+                continue;
+            }
+            if (b == CR) {
+                if (end + 1 < limit) {
+                    return buf.get(end + 1) == LF ? end + 2 : end + 1;
+                }
+                return eof ? end + 1 : NEED_MORE;
+            }
+            return end + 1;
+        }
+    }
+
+    /**
+     * Re-parses a record byte by byte and re-indexes after it unless the index
+     * already ends a record at the same position.
+     */
+    private int tokenizeFallback(ByteBuffer buf, int recordStart, boolean eof) {
+        int end = tokenize(buf, recordStart, eof);
+        if (end > 0 && !(index.seekTo(end - 1) && index.position() == end - 1)) {
+            index.reset(buf, end, eof);
+        }
+        return end;
+    }
+
+    private void addField(int start, int end, byte flag) {
+        if (fieldCount == starts.length) {
+            int capacity = fieldCount * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        flags[fieldCount] = flag;
+        fieldCount++;
+    }
+
+    /**
+     * Number of fields in the current record.
+     */
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Decodes a field of the current record.
+     */
+    String field(int index) {
+        ByteBuffer buf = window.buffer();
+        int start = starts[index];
+        int end = ends[index];
+        byte flag = flags[index];
+
+        if (flag == QUOTED) {
+            return decode(buf, start + 1, end - 1);
+        }
+        if (flag == 0) {
+            return decode(buf, start, end);
+        }
+        return unescape(buf, start, end);
+    }
+
+    /**
+     * Appends the unescaped UTF-8 bytes of a field of the current record.
+     * Produces the same content as field(index) without decoding it.
+     */
+    void copyField(int index, FieldBuffer out) {
+        ByteBuffer buf = window.buffer();
+        int start = starts[index];
+        int end = ends[index];
+        byte flag = flags[index];
+
+        if (flag == QUOTED) {
+            out.write(buf, start + 1, end - start - 2);
+            return;
+        }
+        if (flag == 0) {
+            out.write(buf, start, end - start);
+            return;
+        }
+        boolean inQuotes = false;
+        for (int i = start; i < end; i++) {
+            byte b = buf.get(i);
+            if (b == QUOTE) {
+                if (inQuotes && i + 1 < end && buf.get(i + 1) == QUOTE) {
+                    out.write(QUOTE);
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (b == CR && inQuotes) {
+                out.write(LF);
+                if (i + 1 < end && buf.get(i + 1) == LF) {
+                    i++;
+                }
+            } else {
+                out.write(b);
+            }
+        }
+    }
+
+    /**
+     * Appends the bytes of a field of the current record exactly as they
+     * appear in the file, quotes included.
+     */
+    void copyRawField(int index, FieldBuffer out) {
+        out.write(window.buffer(), starts[index], ends[index] - starts[index]);
+    }
+
+    private String decode(ByteBuffer buf, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return "";
+        }
+        byte[] bytes = scratch(length);
+        buf.get(start, bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private String unescape(ByteBuffer buf, int start, int end) {
+        byte[] bytes = scratch(end - start);
+        int n = 0;
+        boolean inQuotes = false;
+        for (int i = start; i < end; i++) {
+            byte b = buf.get(i);
+            if (b == QUOTE) {
+                if (inQuotes && i + 1 < end && buf.get(i + 1) == QUOTE) {
+                    bytes[n++] = QUOTE;
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (b == CR && inQuotes) {
+                bytes[n++] = LF;
+                if (i + 1 < end && buf.get(i + 1) == LF) {
+                    i++;
+                }
+            } else {
+                bytes[n++] = b;
+            }
+        }
+        return new String(bytes, 0, n, StandardCharsets.UTF_8);
+    }
+
+    private byte[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        return scratch;
+    }
+
+    /**
+     * Moves to the record starting at the given absolute byte offset.
+     */
+    void seek(long offset) throws IOException {
+        window.moveTo(offset);
+        position = window.windowStart();
+        fieldCount = 0;
+    }
+
+    /**
+     * Absolute byte offset of the next record.
+     */
+    long position() {
+        return position;
+    }
+}
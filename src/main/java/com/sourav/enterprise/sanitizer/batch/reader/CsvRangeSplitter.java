@@ -0,0 +1,324 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * CSV Range Splitter - Splits a CSV file into byte ranges on record boundaries.
+ *
+ * Features:
+ * - Scans the file in equal segments in parallel, one per range, instead of
+ *   tokenizing it from the start up to the last cut on one thread
+ * - Each segment is scanned from every parse state it could start in, since
+ *   that state depends on the bytes before it; the scans usually converge
+ *   within the first record, after which a single one continues
+ * - The segments' end states and record counts are then chained from the
+ *   start of the data, which places each cut on the first record boundary
+ *   after its target and keeps line numbers absolute without counting serially
+ * - Quoted fields with embedded newlines never straddle two ranges
+ *
+ * Boundaries follow RFC 4180 quoting as parsed by CsvByteTokenizer: a quote
+ * opens a quoted field only at the start of a field, and CR, LF and CRLF end
+ * records.
+ */
+public final class CsvRangeSplitter {
+    private static final Logger log = LoggerFactory.getLogger(CsvRangeSplitter.class);
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    // Parse states, at a byte position before the byte is consumed
+    private static final int RECORD_START = 0;
+    private static final int AFTER_CR = 1;
+    private static final int FIELD_START = 2;
+    private static final int UNQUOTED = 3;
+    private static final int QUOTED = 4;
+    private static final int QUOTE_IN_QUOTED = 5;
+    private static final int STATES = 6;
+
+    // Byte classes
+    private static final int OTHER = 0;
+    private static final int COMMA = 1;
+    private static final int QUOTE = 2;
+    private static final int CR = 3;
+    private static final int LF = 4;
+    private static final int CLASSES = 5;
+
+    private static final byte[] CLASS = new byte[256];
+    private static final byte[] NEXT = new byte[STATES * CLASSES];
+    private static final byte[] ENDS_RECORD = new byte[STATES * CLASSES];
+
+    static {
+        CLASS[','] = COMMA;
+        CLASS['"'] = QUOTE;
+        CLASS['\r'] = CR;
+        CLASS['\n'] = LF;
+        for (int state : new int[] { RECORD_START, AFTER_CR, FIELD_START }) {
+            transition(state, OTHER, UNQUOTED, false);
+            transition(state, COMMA, FIELD_START, false);
+            transition(state, QUOTE, QUOTED, false);
+            transition(state, CR, AFTER_CR, true);
+            transition(state, LF, RECORD_START, true);
+        }
+        // The LF of a CRLF belongs to the record the CR ended
+        transition(AFTER_CR, LF, RECORD_START, false);
+        // Text after a closing quote is kept like unquoted text, stray quotes included
+        for (int state : new int[] { UNQUOTED, QUOTE_IN_QUOTED }) {
+            transition(state, OTHER, UNQUOTED, false);
+            transition(state, COMMA, FIELD_START, false);
+            transition(state, QUOTE, UNQUOTED, false);
+            transition(state, CR, AFTER_CR, true);
+            transition(state, LF, RECORD_START, true);
+        }
+        transition(QUOTE_IN_QUOTED, QUOTE, QUOTED, false);
+        for (int cls = 0; cls < CLASSES; cls++) {
+            transition(QUOTED, cls, cls == QUOTE ? QUOTE_IN_QUOTED : QUOTED, false);
+        }
+    }
+
+    private static void transition(int state, int cls, int next, boolean endsRecord) {
+        NEXT[state * CLASSES + cls] = (byte) next;
+        ENDS_RECORD[state * CLASSES + cls] = (byte) (endsRecord ? 1 : 0);
+    }
+
+    private CsvRangeSplitter() {
+    }
+
+    /**
+     * Splits the data records of a file into at most the given number of ranges
+     * of roughly equal byte size. The header is excluded from every range.
+     */
+    public static List<CsvByteRange> split(String filePath, int parts) throws IOException {
+        long dataStart;
+        long size;
+        try (MappedFileWindow window = new MappedFileWindow(Path.of(filePath), MappedFileWindow.DEFAULT_WINDOW_SIZE)) {
+            CsvByteTokenizer tokenizer = new CsvByteTokenizer(window);
+            if (!tokenizer.nextRecord()) {
+                return List.of();
+            }
+            dataStart = tokenizer.position();
+            size = window.size();
+        }
+        if (parts <= 1 || dataStart >= size) {
+            return List.of(new CsvByteRange(dataStart, size, 0));
+        }
+
+        long dataLength = size - dataStart;
+        long[] segmentStarts = new long[parts + 1];
+        for (int i = 0; i <= parts; i++) {
+            segmentStarts[i] = dataStart + dataLength * i / parts;
+        }
+        Segment[] segments = scan(Path.of(filePath), segmentStarts);
+
+        // Chain the segments from the start of the data, whose state is known
+        int[] startStates = new int[parts];
+        long[] recordsBefore = new long[parts];
+        int state = RECORD_START;
+        long records = 0;
+        for (int i = 0; i < parts; i++) {
+            startStates[i] = state;
+            recordsBefore[i] = records;
+            records += segments[i].records[state];
+            state = segments[i].endStates[state];
+        }
+        if (state == QUOTED) {
+            // The last range runs to the end and its reader reports the error
+            log.warn("Input {} ends inside a quoted field; no cut after its opening quote", filePath);
+        }
+
+        List<long[]> cuts = new ArrayList<>();
+        cuts.add(new long[] { dataStart, 0 });
+        for (int i = 1; i < parts; i++) {
+            long[] cut = firstBoundary(segments, startStates, recordsBefore, i);
+            if (cut == null) {
+                break;
+            }
+            if (cut[0] > cuts.get(cuts.size() - 1)[0]) {
+                cuts.add(cut);
+            }
+        }
+
+        List<CsvByteRange> ranges = new ArrayList<>(cuts.size());
+        for (int i = 0; i < cuts.size(); i++) {
+            long end = i + 1 < cuts.size() ? cuts.get(i + 1)[0] : size;
+            ranges.add(new CsvByteRange(cuts.get(i)[0], end, cuts.get(i)[1]));
+        }
+        return ranges;
+    }
+
+    /**
+     * Finds the first record boundary at or after the start of a segment,
+     * looking into the following segments when a record spans it.
+     *
+     * @return the boundary and the number of records before it, or null if
+     *         no record starts after the segment start
+     */
+    private static long[] firstBoundary(Segment[] segments, int[] startStates, long[] recordsBefore, int from) {
+        for (int i = from; i < segments.length; i++) {
+            int state = startStates[i];
+            if (segments[i].boundaries[state] >= 0) {
+                return new long[] { segments[i].boundaries[state],
+                        recordsBefore[i] + segments[i].recordsBeforeBoundary[state] };
+            }
+        }
+        return null;
+    }
+
+    private static Segment[] scan(Path file, long[] segmentStarts) throws IOException {
+        int parts = segmentStarts.length - 1;
+        int threads = Math.min(parts, Runtime.getRuntime().availableProcessors());
+        ExecutorService pool = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("split-worker-", 1).daemon(true).factory());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<Future<Segment>> futures = new ArrayList<>(parts);
+            for (int i = 0; i < parts; i++) {
+                long from = segmentStarts[i];
+                long to = segmentStarts[i + 1];
+                // Only the first segment's start state is known before scanning
+                int lanes = i == 0 ? 1 : STATES;
+                futures.add(pool.submit(() -> Segment.scan(channel, from, to, lanes)));
+            }
+            Segment[] segments = new Segment[parts];
+            for (int i = 0; i < parts; i++) {
+                segments[i] = futures.get(i).get();
+            }
+            return segments;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Failed to scan " + file + ": " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scanning " + file, e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * The outcome of scanning one segment, for each state it may start in.
+     */
+    private static final class Segment {
+        final int[] endStates = new int[STATES];
+        final long[] records = new long[STATES];
+        final long[] boundaries = new long[STATES];
+        final long[] recordsBeforeBoundary = new long[STATES];
+
+        /**
+         * Scans a segment once for each of its first {@code lanes} start
+         * states, RECORD_START first. The lanes advance byte by byte together
+         * until they reach the same state; from then on they share one scan.
+         */
+        static Segment scan(FileChannel channel, long from, long to, int lanes) throws IOException {
+            Segment segment = new Segment();
+            int[] states = new int[lanes];
+            for (int lane = 0; lane < lanes; lane++) {
+                states[lane] = lane;
+            }
+            Arrays.fill(segment.boundaries, -1);
+            boolean converged = lanes == 1;
+            int state = RECORD_START;
+            long shared = 0;
+            long sharedBoundary = -1;
+            long sharedBeforeBoundary = 0;
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, Math.max(1, to - from)));
+            byte[] bytes = buffer.array();
+            for (long position = from; position < to; ) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), to - position));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        throw new IOException("File shrank while splitting at byte " + (position + buffer.position()));
+                    }
+                }
+                int n = buffer.limit();
+                int i = 0;
+                for (; i < n && !converged; i++) {
+                    int cls = CLASS[bytes[i] & 0xFF];
+                    for (int lane = 0; lane < lanes; lane++) {
+                        int current = states[lane];
+                        if (segment.boundaries[lane] < 0 && isBoundary(current, cls)) {
+                            segment.boundaries[lane] = position + i;
+                            segment.recordsBeforeBoundary[lane] = segment.records[lane];
+                        }
+                        int t = current * CLASSES + cls;
+                        segment.records[lane] += ENDS_RECORD[t];
+                        states[lane] = NEXT[t];
+                    }
+                    converged = allEqual(states);
+                    state = states[0];
+                }
+                // Converged lanes behave the same from here on: one scan stands for all of them
+                boolean searching = sharedBoundary < 0;
+                for (; i < n; i++) {
+                    // Skip the bytes that leave a quoted or unquoted field's state unchanged
+                    if (state == QUOTED) {
+                        while (i < n && bytes[i] != '"') {
+                            i++;
+                        }
+                    } else if (state == UNQUOTED) {
+                        while (i < n && bytes[i] != ',' && bytes[i] != '\n' && bytes[i] != '\r') {
+                            i++;
+                        }
+                    }
+                    if (i == n) {
+                        break;
+                    }
+                    int cls = CLASS[bytes[i] & 0xFF];
+                    if (searching && isBoundary(state, cls)) {
+                        sharedBoundary = position + i;
+                        sharedBeforeBoundary = shared;
+                        searching = false;
+                    }
+                    int t = state * CLASSES + cls;
+                    shared += ENDS_RECORD[t];
+                    state = NEXT[t];
+                }
+                position += n;
+            }
+            if (!converged) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    segment.endStates[lane] = states[lane];
+                }
+                return segment;
+            }
+            for (int lane = 0; lane < lanes; lane++) {
+                if (segment.boundaries[lane] < 0 && sharedBoundary >= 0) {
+                    segment.boundaries[lane] = sharedBoundary;
+                    segment.recordsBeforeBoundary[lane] = segment.records[lane] + sharedBeforeBoundary;
+                }
+                segment.records[lane] += shared;
+                segment.endStates[lane] = state;
+            }
+            return segment;
+        }
+
+        /**
+         * Whether a record starts at a byte of the given class reached in the given state.
+         */
+        private static boolean isBoundary(int state, int cls) {
+            return state == RECORD_START || state == AFTER_CR && cls != LF;
+        }
+
+        private static boolean allEqual(int[] states) {
+            for (int i = 1; i < states.length; i++) {
+                if (states[i] != states[0]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+/**
+ * CSV reader engines selectable via {@code sanitizer.batch.reader-engine}.
+ */
+public enum CsvReaderEngine {
+    /** opencsv over a character stream */
+    OPENCSV(false),
+    /** Memory-mapped RFC 4180 tokenizer working directly on UTF-8 bytes */
+    MAPPED(true),
+    /**
+     * Memory-mapped tokenizer finding field boundaries through a structural
+     * index built with JDK Vector API compares; falls back to a scalar index
+     * when the JVM runs without {@code --add-modules jdk.incubator.vector}
+     */
+    SIMD(true);
+
+    private final boolean mapped;
+
+    CsvReaderEngine(boolean mapped) {
+        this.mapped = mapped;
+    }
+
+    /**
+     * Whether the engine reads the mapped file as bytes, which byte-slice and
+     * passthrough records need.
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+}
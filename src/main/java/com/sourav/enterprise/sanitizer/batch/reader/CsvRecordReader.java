@@ -0,0 +1,48 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import org.springframework.batch.item.ItemStreamReader;
+
+/**
+ * CSV Record Reader - Common contract for the CSV reader engines.
+ * Exposes the header row and the current record position in addition to
+ * the standard ItemStreamReader lifecycle.
+ */
+public interface CsvRecordReader extends ItemStreamReader<CsvRecord> {
+
+    /** Execution context key of the input byte offset after the last record read */
+    String CURRENT_OFFSET_KEY = "current.offset";
+
+    /**
+     * Gets the column headers from the CSV file.
+     * Must be called after open().
+     */
+    String[] getHeaders();
+
+    /**
+     * Gets the current line number being processed.
+     */
+    long getCurrentLine();
+
+    /**
+     * Whether this engine can hand out records as UTF-8 byte slices.
+     */
+    default boolean supportsByteFields() {
+        return false;
+    }
+
+    /**
+     * Switches records to UTF-8 byte slices with lazily decoded values.
+     * Must be called before open(); ignored by engines without support.
+     */
+    default void setByteFields(boolean byteFields) {
+    }
+
+    /**
+     * Switches records to the raw CSV-encoded bytes of every field, so that
+     * fields without rules can be written back without being decoded.
+     * Must be called before open(); ignored by engines without byte support.
+     */
+    default void setPassthrough(boolean passthrough) {
+    }
+}
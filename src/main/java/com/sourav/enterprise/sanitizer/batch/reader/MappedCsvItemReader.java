@@ -0,0 +1,231 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.NonTransientResourceException;
+import org.springframework.batch.item.ParseException;
+import org.springframework.batch.item.UnexpectedInputException;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Mapped CSV Item Reader - Reads CSV files through a memory-mapped byte tokenizer.
+ *
+ * Features:
+ * - Maps the input with FileChannel.map instead of decoding a character stream
+ * - Tokenizes RFC 4180 CSV directly on UTF-8 bytes
+ * - Decodes only the fields handed out in the record
+ * - Same line numbering and restart state as CsvItemReader
+ * - Restarts by seeking straight to the checkpointed byte offset
+ * - Can be limited to a byte range of the file for partitioned jobs
+ * - Can hand out records as UTF-8 byte slices instead of decoded Strings
+ * - Passthrough mode keeps every field's raw bytes, quoting included
+ * - Optional SIMD structural indexing of the mapped bytes (Vector API,
+ *   with a scalar fallback when the incubator module is not present)
+ */
+public class MappedCsvItemReader implements CsvRecordReader {
+    private static final Logger log = LoggerFactory.getLogger(MappedCsvItemReader.class);
+    private static final String CURRENT_LINE_KEY = "current.line";
+
+    private final String filePath;
+    private final int windowSize;
+    private final CsvByteRange range;
+    private final boolean structuralIndex;
+    private MappedFileWindow window;
+    private CsvByteTokenizer tokenizer;
+    private String[] headers;
+    private CsvSchema schema;
+    private long currentLine;
+    private boolean initialized;
+    private boolean byteFields;
+    private boolean passthrough;
+    private FieldBuffer fieldBuffer;
+
+    public MappedCsvItemReader(String filePath) {
+        this(filePath, MappedFileWindow.DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedCsvItemReader(String filePath, CsvByteRange range) {
+        this(filePath, MappedFileWindow.DEFAULT_WINDOW_SIZE, range);
+    }
+
+    public MappedCsvItemReader(String filePath, int windowSize) {
+        this(filePath, windowSize, CsvByteRange.WHOLE_FILE);
+    }
+
+    public MappedCsvItemReader(String filePath, int windowSize, CsvByteRange range) {
+        this(filePath, windowSize, range, false);
+    }
+
+    /**
+     * @param structuralIndex find field boundaries through a structural index
+     *                        built with vector compares instead of a byte-by-byte scan
+     */
+    public MappedCsvItemReader(String filePath, CsvByteRange range, boolean structuralIndex) {
+        this(filePath, MappedFileWindow.DEFAULT_WINDOW_SIZE, range, structuralIndex);
+    }
+
+    public MappedCsvItemReader(String filePath, int windowSize, CsvByteRange range, boolean structuralIndex) {
+        this.filePath = filePath;
+        this.windowSize = windowSize;
+        this.range = range;
+        this.structuralIndex = structuralIndex;
+        this.currentLine = 0;
+        this.initialized = false;
+    }
+
+    @Override
+    public boolean supportsByteFields() {
+        return true;
+    }
+
+    @Override
+    public void setByteFields(boolean byteFields) {
+        this.byteFields = byteFields;
+    }
+
+    @Override
+    public void setPassthrough(boolean passthrough) {
+        this.passthrough = passthrough;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            window = new MappedFileWindow(Paths.get(filePath), windowSize);
+            tokenizer = structuralIndex
+                    ? new CsvByteTokenizer(window, new StructuralIndex(BlockScanner.preferred()))
+                    : new CsvByteTokenizer(window);
+
+            if (!tokenizer.nextRecord()) {
+                throw new ItemStreamException("Empty or invalid CSV file: " + filePath);
+            }
+            headers = new String[tokenizer.fieldCount()];
+            for (int i = 0; i < headers.length; i++) {
+                headers[i] = tokenizer.field(i);
+            }
+            schema = new CsvSchema(headers);
+
+            // Restore position if restarting
+            currentLine = executionContext.containsKey(CURRENT_LINE_KEY)
+                    ? executionContext.getLong(CURRENT_LINE_KEY)
+                    : range.linesBefore();
+
+            if (executionContext.containsKey(CURRENT_OFFSET_KEY)) {
+                // Seek straight to the checkpointed record
+                long offset = executionContext.getLong(CURRENT_OFFSET_KEY);
+                tokenizer.seek(offset);
+                log.info("⏩ Resuming at line {} (byte offset {})", currentLine, offset);
+            } else {
+                if (range.start() > 0) {
+                    tokenizer.seek(range.start());
+                }
+                // Skip to the restored position
+                for (long i = range.linesBefore(); i < currentLine; i++) {
+                    tokenizer.nextRecord();
+                }
+            }
+
+            initialized = true;
+            log.info("📖 Mapped CSV Reader opened: {} ({} columns, {} bytes{})",
+                    filePath.substring(filePath.lastIndexOf('/') + 1), headers.length, window.size(),
+                    structuralIndex ? ", " + scannerName() : "");
+
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open CSV file: " + filePath, e);
+        }
+    }
+
+    private static String scannerName() {
+        return BlockScanner.VectorSupport.AVAILABLE ? "SIMD structural index" : "scalar structural index";
+    }
+
+    @Override
+    public CsvRecord read() throws Exception, UnexpectedInputException, ParseException, NonTransientResourceException {
+        if (!initialized) {
+            throw new IllegalStateException("Reader not initialized. Call open() first.");
+        }
+
+        if (tokenizer.position() >= range.end()) {
+            return null; // End of range
+        }
+
+        try {
+            if (!tokenizer.nextRecord()) {
+                return null; // End of file
+            }
+        } catch (IOException e) {
+            throw new ParseException("Error reading CSV line " + (currentLine + 1), e);
+        }
+
+        currentLine++;
+        int fieldCount = tokenizer.fieldCount();
+
+        if (byteFields || passthrough) {
+            if (fieldBuffer == null) {
+                fieldBuffer = new FieldBuffer();
+            }
+            fieldBuffer.reset();
+            for (int i = 0; i < headers.length; i++) {
+                if (i < fieldCount) {
+                    if (passthrough) {
+                        tokenizer.copyRawField(i, fieldBuffer);
+                    } else {
+                        tokenizer.copyField(i, fieldBuffer);
+                    }
+                }
+                fieldBuffer.endField();
+            }
+            return new CsvRecord(currentLine, schema,
+                    passthrough ? fieldBuffer.toEncodedFields() : fieldBuffer.toByteFields());
+        }
+
+        String[] values = new String[headers.length];
+
+        for (int i = 0; i < headers.length; i++) {
+            values[i] = i < fieldCount ? tokenizer.field(i) : "";
+        }
+
+        return new CsvRecord(currentLine, schema, values);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(CURRENT_LINE_KEY, currentLine);
+        if (tokenizer != null) {
+            executionContext.putLong(CURRENT_OFFSET_KEY, tokenizer.position());
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (window != null) {
+            try {
+                window.close();
+                log.debug("Mapped CSV Reader closed after {} lines", currentLine);
+            } catch (IOException e) {
+                throw new ItemStreamException("Failed to close CSV reader", e);
+            }
+        }
+        initialized = false;
+    }
+
+    @Override
+    public String[] getHeaders() {
+        if (headers == null) {
+            throw new IllegalStateException("Headers not available. Call open() first.");
+        }
+        return headers;
+    }
+
+    @Override
+    public long getCurrentLine() {
+        return currentLine;
+    }
+}
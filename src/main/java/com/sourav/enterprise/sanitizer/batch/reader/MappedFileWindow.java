@@ -0,0 +1,84 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Mapped File Window - A sliding read-only mapping over a file.
+ *
+ * A single MappedByteBuffer is limited to 2GB, so large files are mapped
+ * one window at a time. The tokenizer slides the window forward to the start
+ * of the record it is parsing whenever a record crosses the window end.
+ */
+final class MappedFileWindow implements Closeable {
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private int windowSize;
+    private MappedByteBuffer buffer;
+    private long windowStart;
+
+    MappedFileWindow(Path path, int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        map(0);
+    }
+
+    /**
+     * Re-maps the window so that it starts at the given absolute offset.
+     * If the window already starts there, its size is doubled so that a
+     * record longer than the window can still be parsed.
+     */
+    void slide(long offset) throws IOException {
+        if (offset == windowStart && !atEof()) {
+            if (windowSize > Integer.MAX_VALUE / 2) {
+                throw new IOException("CSV record exceeds maximum window size at offset " + offset);
+            }
+            windowSize *= 2;
+        }
+        map(offset);
+    }
+
+    /**
+     * Maps a fresh window starting at the given absolute offset.
+     */
+    void moveTo(long offset) throws IOException {
+        map(Math.min(Math.max(offset, 0), size));
+    }
+
+    private void map(long offset) throws IOException {
+        long length = Math.min(windowSize, size - offset);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        windowStart = offset;
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    /** Absolute file offset of buffer index 0 */
+    long windowStart() {
+        return windowStart;
+    }
+
+    /** Whether the current window extends to the end of the file */
+    boolean atEof() {
+        return windowStart + buffer.limit() >= size;
+    }
+
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,82 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Offset Tracking Reader - Line reader that tracks the UTF-8 byte offset of
+ * the input it has consumed.
+ *
+ * opencsv pulls its input one line at a time through readLine(), so after each
+ * record the offset points at the first byte of the next record. This lets the
+ * opencsv engine checkpoint a byte position and seek straight back to it.
+ */
+final class OffsetTrackingReader extends BufferedReader {
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int pos;
+    private int limit;
+    private long offset;
+
+    OffsetTrackingReader(Reader in, long startOffset) {
+        super(in, 1);
+        this.in = in;
+        this.offset = startOffset;
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        StringBuilder line = null;
+        while (true) {
+            if (pos >= limit && !fill()) {
+                return line == null ? null : line.toString();
+            }
+            int start = pos;
+            while (pos < limit) {
+                char c = buffer[pos];
+                if (c == '\n' || c == '\r') {
+                    offset += utf8Length(start, pos) + 1;
+                    String result = line == null
+                            ? new String(buffer, start, pos - start)
+                            : line.append(buffer, start, pos - start).toString();
+                    pos++;
+                    if (c == '\r' && (pos < limit || fill()) && buffer[pos] == '\n') {
+                        pos++;
+                        offset++;
+                    }
+                    return result;
+                }
+                pos++;
+            }
+            offset += utf8Length(start, pos);
+            line = (line == null ? new StringBuilder() : line).append(buffer, start, pos - start);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(buffer, 0, buffer.length);
+        pos = 0;
+        limit = Math.max(n, 0);
+        return n > 0;
+    }
+
+    private int utf8Length(int from, int to) {
+        int length = to - from;
+        for (int i = from; i < to; i++) {
+            char c = buffer[i];
+            if (c >= 0x80) {
+                // Each half of a surrogate pair counts 2, giving 4 bytes per pair
+                length += c < 0x800 || Character.isSurrogate(c) ? 1 : 2;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Absolute byte offset of the first unconsumed character.
+     */
+    long getOffset() {
+        return offset;
+    }
+}
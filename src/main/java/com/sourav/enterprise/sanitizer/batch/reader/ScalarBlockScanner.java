@@ -0,0 +1,34 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+/**
+ * Scalar Block Scanner - Builds the block bitmasks one byte at a time.
+ * Fallback for JVMs started without the jdk.incubator.vector module.
+ */
+final class ScalarBlockScanner implements BlockScanner {
+
+    @Override
+    public void scan(byte[] chunk, int blocks, long[] quotes, long[] commas, long[] lineEnds, long[] crs) {
+        for (int k = 0; k < blocks; k++) {
+            long quote = 0, comma = 0, lineEnd = 0, cr = 0;
+            int base = k * BLOCK_SIZE;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                long bit = 1L << i;
+                switch (chunk[base + i]) {
+                    case '"' -> quote |= bit;
+                    case ',' -> comma |= bit;
+                    case '\n' -> lineEnd |= bit;
+                    case '\r' -> {
+                        lineEnd |= bit;
+                        cr |= bit;
+                    }
+                    default -> {
+                    }
+                }
+            }
+            quotes[k] = quote;
+            commas[k] = comma;
+            lineEnds[k] = lineEnd;
+            crs[k] = cr;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Structural Index - Positions of the field and record separators of a
+ * buffer, simdjson/simdcsv-style.
+ *
+ * The buffer is indexed in chunks. Each chunk is classified into 64-bit
+ * quote, comma and line-end masks by a BlockScanner. A prefix-XOR of the
+ * quote mask marks the bytes inside quoted regions; commas and line ends
+ * outside them are the separators. Each separator is stored with the number
+ * of quotes seen since the previous one and whether a CR occurred inside
+ * quotes, which lets the tokenizer classify most fields without looking at
+ * their bytes.
+ *
+ * The index follows RFC 4180 quoting, where quotes toggle the quoted state
+ * wherever they appear. Fields where this differs from the byte tokenizer
+ * are recognized by their quote counts and re-parsed byte by byte.
+ */
+final class StructuralIndex {
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final BlockScanner scanner;
+    private final byte[] chunk;
+    private final long[] quotes;
+    private final long[] commas;
+    private final long[] lineEnds;
+    private final long[] crs;
+
+    private ByteBuffer buffer;
+    private int limit;
+    private boolean eof;
+    private int indexedTo;
+    private long insideQuotes;
+    private int pendingQuotes;
+    private boolean pendingCr;
+    private boolean ended;
+
+    private final int[] positions;
+    private final int[] counts;
+    private int size;
+    private int cursor;
+
+    StructuralIndex(BlockScanner scanner) {
+        this(scanner, DEFAULT_CHUNK_SIZE);
+    }
+
+    StructuralIndex(BlockScanner scanner, int chunkSize) {
+        int blocks = chunkSize / BlockScanner.BLOCK_SIZE;
+        this.scanner = scanner;
+        this.chunk = new byte[blocks * BlockScanner.BLOCK_SIZE];
+        this.quotes = new long[blocks];
+        this.commas = new long[blocks];
+        this.lineEnds = new long[blocks];
+        this.crs = new long[blocks];
+        // A chunk holds at most one separator per byte, plus the final one
+        this.positions = new int[chunk.length + 1];
+        this.counts = new int[chunk.length + 1];
+    }
+
+    /**
+     * Starts indexing a buffer at a record boundary, outside any quotes.
+     *
+     * @param eof whether the buffer ends at the end of the input; if so a
+     *            final separator is indexed at the buffer limit
+     */
+    void reset(ByteBuffer buffer, int from, boolean eof) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.eof = eof;
+        this.indexedTo = from;
+        this.insideQuotes = 0;
+        this.pendingQuotes = 0;
+        this.pendingCr = false;
+        this.ended = false;
+        this.size = 0;
+        this.cursor = 0;
+    }
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Moves to the first separator at or after a position, indexing further
+     * chunks as needed.
+     *
+     * @return false if the buffer holds no more separators
+     */
+    boolean seekTo(int position) {
+        if (cursor < size && positions[cursor] >= position) {
+            return true;
+        }
+        while (true) {
+            while (cursor < size) {
+                if (positions[cursor] >= position) {
+                    return true;
+                }
+                cursor++;
+            }
+            if (!indexNextChunk()) {
+                return false;
+            }
+        }
+    }
+
+    /** Position of the current separator; the buffer limit for the final one */
+    int position() {
+        return positions[cursor];
+    }
+
+    /** Quotes between the previous separator and the current one */
+    int quoteCount() {
+        return counts[cursor] >>> 1;
+    }
+
+    /** Whether a CR occurs inside quotes since the previous separator */
+    boolean quotedCr() {
+        return (counts[cursor] & 1) != 0;
+    }
+
+    void advance() {
+        cursor++;
+    }
+
+    private boolean indexNextChunk() {
+        if (indexedTo >= limit) {
+            if (eof && !ended) {
+                // The last record ends at the end of the input
+                ended = true;
+                size = 0;
+                cursor = 0;
+                add(limit);
+                return true;
+            }
+            return false;
+        }
+
+        int length = Math.min(chunk.length, limit - indexedTo);
+        int blocks = (length + BlockScanner.BLOCK_SIZE - 1) / BlockScanner.BLOCK_SIZE;
+        buffer.get(indexedTo, chunk, 0, length);
+        Arrays.fill(chunk, length, blocks * BlockScanner.BLOCK_SIZE, (byte) 0);
+        scanner.scan(chunk, blocks, quotes, commas, lineEnds, crs);
+
+        size = 0;
+        cursor = 0;
+        for (int k = 0; k < blocks; k++) {
+            long quote = quotes[k];
+            long inside = prefixXor(quote) ^ insideQuotes;
+            // All ones when the block ends inside quotes
+            insideQuotes = inside >> 63;
+            long separators = (commas[k] | lineEnds[k]) & ~inside;
+            long quotedCrs = crs[k] & inside;
+            int base = indexedTo + k * BlockScanner.BLOCK_SIZE;
+
+            if (separators == 0) {
+                pendingQuotes += Long.bitCount(quote);
+                pendingCr |= quotedCrs != 0;
+                continue;
+            }
+            if ((quote | quotedCrs) == 0) {
+                // Common case: only the first separator can carry quotes from earlier blocks
+                add(base + Long.numberOfTrailingZeros(separators));
+                separators &= separators - 1;
+                while (separators != 0) {
+                    positions[size] = base + Long.numberOfTrailingZeros(separators);
+                    counts[size] = 0;
+                    size++;
+                    separators &= separators - 1;
+                }
+                continue;
+            }
+
+            long remaining = -1L;
+            while (separators != 0) {
+                long bit = separators & -separators;
+                long before = (bit - 1) & remaining;
+                pendingQuotes += Long.bitCount(quote & before);
+                pendingCr |= (quotedCrs & before) != 0;
+                add(base + Long.numberOfTrailingZeros(bit));
+                remaining = -(bit << 1);
+                separators ^= bit;
+            }
+            pendingQuotes += Long.bitCount(quote & remaining);
+            pendingCr |= (quotedCrs & remaining) != 0;
+        }
+        indexedTo += length;
+        return true;
+    }
+
+    private void add(int position) {
+        positions[size] = position;
+        counts[size] = pendingQuotes << 1 | (pendingCr ? 1 : 0);
+        size++;
+        pendingQuotes = 0;
+        pendingCr = false;
+    }
+
+    /**
+     * Sets every bit that has an odd number of set bits at or below it, so
+     * bits from an opening quote up to (not including) its closing quote.
+     */
+    static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        bits ^= bits << 32;
+        return bits;
+    }
+}
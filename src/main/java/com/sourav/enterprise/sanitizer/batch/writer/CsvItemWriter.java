@@ -1,6 +1,8 @@
 package com.sourav.enterprise.sanitizer.batch.writer;
 
+import com.sourav.enterprise.sanitizer.domain.model.ByteFields;
 import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
 import com.opencsv.CSVWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,33 +12,51 @@ import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamWriter;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 
 /**
  * CSV Item Writer - Writes sanitized records to CSV output file.
  * 
  * Features:
  * - Automatically writes header row on first chunk
+ * - Can write headerless part files for partitioned jobs
  * - Maintains column order from input
- * - Supports job restart (append mode detection)
+ * - Copies CSV-encoded (passthrough) records to the file byte for byte
+ * - Supports job restart (truncates to the last committed byte offset)
+ * - Rolls back the bytes of a chunk whose write fails
  * - Tracks total rows written
  */
 public class CsvItemWriter implements ItemStreamWriter<CsvRecord> {
     private static final Logger log = LoggerFactory.getLogger(CsvItemWriter.class);
     private static final String HEADER_WRITTEN_KEY = "header.written";
+    // Shared by both writer engines; also read by the pipeline metrics
+    public static final String OUTPUT_OFFSET_KEY = "output.offset";
 
     private final String outputPath;
     private final String[] headers;
+    private final boolean writeHeader;
+    private FileChannel channel;
     private CSVWriter csvWriter;
+    private final FieldBuffer lineBuffer;
     private boolean headerWritten;
     private long writtenCount;
 
     public CsvItemWriter(String outputPath, String[] headers) {
+        this(outputPath, headers, true);
+    }
+
+    public CsvItemWriter(String outputPath, String[] headers, boolean writeHeader) {
         this.outputPath = outputPath;
         this.headers = headers;
+        this.writeHeader = writeHeader;
         this.headerWritten = false;
         this.writtenCount = 0;
+        this.lineBuffer = new FieldBuffer(64 * 1024);
     }
 
     @Override
@@ -53,17 +73,32 @@ public class CsvItemWriter implements ItemStreamWriter<CsvRecord> {
                 outputFile.getParentFile().mkdirs();
             }
 
-            // Append mode if restarting, otherwise create new file
-            boolean append = headerWritten && outputFile.exists();
-            csvWriter = new CSVWriter(new FileWriter(outputFile, append));
+            channel = FileChannel.open(outputFile.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+            if (!headerWritten) {
+                channel.truncate(0);
+            } else if (executionContext.containsKey(OUTPUT_OFFSET_KEY)) {
+                // Drop rows written after the last committed chunk
+                long committed = executionContext.getLong(OUTPUT_OFFSET_KEY);
+                if (channel.size() < committed) {
+                    throw new ItemStreamException("Output file " + outputPath
+                            + " is shorter than its committed position " + committed);
+                }
+                channel.truncate(committed);
+            }
+            openWriterAt(channel.size());
 
             if (!headerWritten) {
-                csvWriter.writeNext(headers);
+                if (writeHeader) {
+                    csvWriter.writeNext(headers);
+                }
+                // Also marks a headerless part file as started, so restarts keep its rows
                 headerWritten = true;
                 log.info("📝 CSV Writer opened: {} ({} columns)",
                         outputFile.getName(), headers.length);
             } else {
-                log.info("📝 CSV Writer resumed: {} (appending)", outputFile.getName());
+                log.info("📝 CSV Writer resumed: {} (at byte {})", outputFile.getName(), channel.position());
             }
 
         } catch (IOException e) {
@@ -73,22 +108,80 @@ public class CsvItemWriter implements ItemStreamWriter<CsvRecord> {
 
     @Override
     public void write(Chunk<? extends CsvRecord> chunk) throws Exception {
-        for (CsvRecord record : chunk) {
-            String[] values = new String[headers.length];
-            for (int i = 0; i < headers.length; i++) {
-                values[i] = record.getData().getOrDefault(headers[i], "");
+        long chunkStart = channel.position();
+        try {
+            for (CsvRecord record : chunk) {
+                ByteFields fields = record.getFields();
+                if (fields != null && fields.isEncoded()) {
+                    appendEncoded(fields);
+                } else {
+                    writeEncodedLines();
+                    csvWriter.writeNext(record.getValues());
+                }
             }
-            csvWriter.writeNext(values);
-            writtenCount++;
+            writeEncodedLines();
+            csvWriter.flush();
+            writtenCount += chunk.size();
+        } catch (Exception e) {
+            // Keep the file aligned with the chunk boundary so a retried chunk is not duplicated
+            lineBuffer.reset();
+            channel.truncate(chunkStart);
+            openWriterAt(chunkStart);
+            throw e;
         }
-        csvWriter.flush();
 
         log.trace("Wrote chunk of {} records (total: {})", chunk.size(), writtenCount);
     }
 
+    /**
+     * Buffers a CSV-encoded record as one line, with the same separator and
+     * line end as the opencsv writer.
+     */
+    private void appendEncoded(ByteFields fields) {
+        byte[] data = fields.data();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                lineBuffer.write((byte) ',');
+            }
+            lineBuffer.write(data, fields.start(i), fields.length(i));
+        }
+        lineBuffer.write((byte) '\n');
+    }
+
+    /**
+     * Writes buffered encoded lines after anything the opencsv writer still holds.
+     */
+    private void writeEncodedLines() throws IOException {
+        if (lineBuffer.length() == 0) {
+            return;
+        }
+        csvWriter.flush();
+        ByteBuffer bytes = ByteBuffer.wrap(lineBuffer.array(), 0, lineBuffer.length());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        lineBuffer.reset();
+    }
+
+    /**
+     * Starts a fresh encoder at the given byte position, discarding anything buffered.
+     */
+    private void openWriterAt(long position) throws IOException {
+        channel.position(position);
+        csvWriter = new CSVWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+    }
+
     @Override
     public void update(ExecutionContext executionContext) throws ItemStreamException {
         executionContext.putString(HEADER_WRITTEN_KEY, String.valueOf(headerWritten));
+        if (csvWriter != null) {
+            try {
+                csvWriter.flush();
+                executionContext.putLong(OUTPUT_OFFSET_KEY, channel.position());
+            } catch (IOException e) {
+                throw new ItemStreamException("Failed to flush output file: " + outputPath, e);
+            }
+        }
     }
 
     @Override
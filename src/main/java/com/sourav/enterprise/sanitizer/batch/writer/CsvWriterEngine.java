@@ -0,0 +1,24 @@
+package com.sourav.enterprise.sanitizer.batch.writer;
+
+/**
+ * CSV writer engines selectable via {@code sanitizer.batch.writer-engine}.
+ */
+public enum CsvWriterEngine {
+    /** opencsv CSVWriter over a character stream */
+    OPENCSV(false),
+    /** Rows encoded straight to UTF-8 in a reusable direct buffer, written through a FileChannel */
+    NIO(true);
+
+    private final boolean byteFields;
+
+    CsvWriterEngine(boolean byteFields) {
+        this.byteFields = byteFields;
+    }
+
+    /**
+     * Whether the engine writes records held as byte slices without decoding them.
+     */
+    public boolean supportsByteFields() {
+        return byteFields;
+    }
+}
@@ -0,0 +1,17 @@
+package com.sourav.enterprise.sanitizer.batch.writer;
+
+/**
+ * When the NIO writer engine hands its buffer to the file, selectable via
+ * {@code sanitizer.batch.writer-flush-policy}.
+ */
+public enum FlushPolicy {
+    /**
+     * Writes only when the buffer is full and on close. Fastest, but a crash
+     * loses buffered rows of committed chunks and the job cannot be restarted.
+     */
+    BUFFER_FULL,
+    /** Writes at every chunk commit; committed rows survive a process crash */
+    CHUNK_COMMIT,
+    /** Writes and forces the file to disk at every chunk commit; committed rows survive a power loss */
+    FORCE_ON_COMMIT
+}
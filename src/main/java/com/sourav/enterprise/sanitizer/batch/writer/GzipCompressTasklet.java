@@ -0,0 +1,76 @@
+package com.sourav.enterprise.sanitizer.batch.writer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Gzip Compress Tasklet - Compresses the sanitized CSV into the gzip output file.
+ *
+ * Features:
+ * - Runs after the sanitize (and stitch) steps, so chunk restarts keep
+ *   truncating a plain file at their committed offsets
+ * - Compresses blocks in parallel through ParallelGzipOutputStream
+ * - Rewrites the output from scratch, so a failed compression can simply be rerun
+ * - Deletes the plain file once the output is complete
+ */
+public class GzipCompressTasklet implements Tasklet {
+    private static final Logger log = LoggerFactory.getLogger(GzipCompressTasklet.class);
+
+    private final Path plainFile;
+    private final Path outputFile;
+    private final int threads;
+    private final int blockSize;
+
+    public GzipCompressTasklet(String plainFilePath, String outputFilePath, int threads, int blockSize) {
+        this.plainFile = Path.of(plainFilePath);
+        this.outputFile = Path.of(outputFilePath);
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (!Files.exists(plainFile) && Files.exists(outputFile)) {
+            // A previous run compressed and cleaned up before the step was recorded as complete
+            log.info("🗜️ Output already compressed: {}", outputFile.getFileName());
+            return RepeatStatus.FINISHED;
+        }
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("gzip-worker-", 1).daemon(true).factory());
+        try (InputStream in = Files.newInputStream(plainFile);
+                OutputStream out = new ParallelGzipOutputStream(Files.newOutputStream(outputFile), pool,
+                        threads, blockSize)) {
+            in.transferTo(out);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long plainBytes = Files.size(plainFile);
+        Files.delete(plainFile);
+        log.info("🗜️ Compressed {} into {} ({} -> {} bytes, {} threads, {} ms)",
+                plainFile.getFileName(), outputFile.getFileName(), plainBytes, Files.size(outputFile), threads,
+                (System.nanoTime() - start) / 1_000_000);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * Gets the plain file the sanitize steps write to before compression.
+     */
+    public static String plainPath(String outputFilePath) {
+        return outputFilePath + ".plain";
+    }
+}
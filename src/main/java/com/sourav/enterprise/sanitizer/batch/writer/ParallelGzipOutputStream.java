@@ -0,0 +1,130 @@
+package com.sourav.enterprise.sanitizer.batch.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Parallel Gzip Output Stream - Compresses fixed-size blocks on a thread pool, pigz-style.
+ *
+ * Features:
+ * - Each block becomes an independent gzip member; concatenated members are
+ *   a valid gzip file that gunzip and GZIPInputStream read as one stream
+ * - Blocks compress concurrently and are written in input order
+ * - At most two blocks per thread in flight, bounding memory use
+ *
+ * Not thread-safe; the pool is owned by the caller.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+    private final OutputStream out;
+    private final ExecutorService pool;
+    private final int blockSize;
+    private final int maxInFlight;
+    private final Deque<Future<byte[]>> inFlight;
+    private byte[] block;
+    private int length;
+    private boolean started;
+    private boolean closed;
+
+    public ParallelGzipOutputStream(OutputStream out, ExecutorService pool, int threads, int blockSize) {
+        this.out = out;
+        this.pool = pool;
+        this.blockSize = blockSize;
+        this.maxInFlight = Math.max(1, threads) * 2;
+        this.inFlight = new ArrayDeque<>();
+        this.block = new byte[blockSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (length == blockSize) {
+            submitBlock();
+        }
+        block[length++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] src, int offset, int count) throws IOException {
+        while (count > 0) {
+            if (length == blockSize) {
+                submitBlock();
+            }
+            int n = Math.min(count, blockSize - length);
+            System.arraycopy(src, offset, block, length, n);
+            length += n;
+            offset += n;
+            count -= n;
+        }
+    }
+
+    private void submitBlock() throws IOException {
+        byte[] data = block;
+        int size = length;
+        inFlight.add(pool.submit(() -> compress(data, size)));
+        started = true;
+        block = new byte[blockSize];
+        length = 0;
+        while (inFlight.size() >= maxInFlight) {
+            writeNext();
+        }
+    }
+
+    private void writeNext() throws IOException {
+        try {
+            out.write(inFlight.poll().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Block compression failed", e.getCause());
+        }
+    }
+
+    private static byte[] compress(byte[] data, int size) throws IOException {
+        ByteArrayOutputStream member = new ByteArrayOutputStream(size / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(member, 64 * 1024)) {
+            gzip.write(data, 0, size);
+        }
+        return member.toByteArray();
+    }
+
+    /**
+     * Compresses the pending partial block and writes all blocks still in flight.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (length > 0) {
+            submitBlock();
+        }
+        while (!inFlight.isEmpty()) {
+            writeNext();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!started) {
+                // An empty member, so that empty input still gives a valid gzip file
+                submitBlock();
+            }
+            flush();
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+            Arrays.fill(block, (byte) 0);
+            out.close();
+        }
+    }
+}
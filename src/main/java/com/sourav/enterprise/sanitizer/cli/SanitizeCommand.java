@@ -0,0 +1,333 @@
+package com.sourav.enterprise.sanitizer.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sourav.enterprise.sanitizer.BatchDataSanitizerApplication;
+import com.sourav.enterprise.sanitizer.batch.config.JobConfig;
+import com.sourav.enterprise.sanitizer.batch.config.SanitizationJobFactory;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.dto.JobProgress;
+import com.sourav.enterprise.sanitizer.exception.InvalidConfigurationException;
+import com.sourav.enterprise.sanitizer.service.LiveJobRegistry;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.SpringProperties;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sanitize Command - Sanitizes one file from the command line, without the web stack.
+ *
+ * Features:
+ * - Non-web application context: no Tomcat, H2 console or static UI, and
+ *   beans are only created when the job needs them
+ * - In-memory job repository, so pods share no state and leave none behind
+ * - Same job factory, strategies and sanitizer.* properties as the server;
+ *   any --name=value argument is passed on to Spring
+ * - Progress lines on stdout, errors on stderr
+ * - sysexits-style exit codes
+ *
+ * Usage: {@code java -jar app.jar sanitize --input in.csv --output out.csv --rules rules.json}
+ */
+public final class SanitizeCommand {
+    public static final String NAME = "sanitize";
+
+    /** The job completed */
+    public static final int EXIT_OK = 0;
+    /** The job failed or was stopped */
+    public static final int EXIT_JOB_FAILED = 1;
+    /** Bad arguments */
+    public static final int EXIT_USAGE = 64;
+    /** Unreadable rules, or rules naming columns the input does not have */
+    public static final int EXIT_INVALID_RULES = 65;
+    /** The input file is missing or unreadable */
+    public static final int EXIT_NO_INPUT = 66;
+    /** The application context or the job could not be started */
+    public static final int EXIT_INTERNAL_ERROR = 70;
+    /** The output file cannot be created */
+    public static final int EXIT_CANNOT_CREATE_OUTPUT = 73;
+
+    private static final String USAGE = """
+            Usage: sanitize --input FILE --output FILE --rules FILE|JSON [options] [--property=value ...]
+
+              --input FILE              CSV file to sanitize; .gz files are decompressed on the fly
+              --output FILE             Sanitized CSV file; gzip output for .gz names
+              --rules FILE|JSON         Sanitization config, e.g. {"columns":{"email":"HASH"}}
+              --progress-interval SECS  Seconds between progress lines; 0 prints only the summary (default 2)
+              --help                    Show this help
+
+            Any other --name=value argument sets an application property,
+            e.g. --sanitizer.batch.reader-engine=mapped or --logging.level.root=INFO.
+
+            Exit codes: 0 completed, 1 job failed or stopped, 64 bad arguments,
+            65 invalid rules, 66 no input, 70 internal error, 73 cannot create output.
+            """;
+
+    // The command owns stdout: only warnings are logged, and the job repository lives in memory.
+    // A warm-up would only delay the one job.
+    private static final Map<String, Object> DEFAULTS = Map.of(
+            "spring.datasource.url", "jdbc:h2:mem:sanitizer-cli;DB_CLOSE_DELAY=-1",
+            "sanitizer.warmup.enabled", "false",
+            "logging.level.root", "WARN",
+            "logging.level.com.sourav.enterprise.sanitizer", "WARN",
+            "logging.level.org.springframework.batch", "WARN");
+
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public SanitizeCommand(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs the command with the arguments that follow its name.
+     *
+     * @return the process exit code
+     */
+    public static int run(String[] args) {
+        return new SanitizeCommand(System.out, System.err).execute(args);
+    }
+
+    public int execute(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println("❌ " + e.getMessage());
+            err.print(USAGE);
+            return EXIT_USAGE;
+        }
+        if (options.help()) {
+            out.print(USAGE);
+            return EXIT_OK;
+        }
+
+        Path input = Path.of(options.input()).toAbsolutePath().normalize();
+        Path output = Path.of(options.output()).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(input) || !Files.isReadable(input)) {
+            err.println("❌ Cannot read input file: " + input);
+            return EXIT_NO_INPUT;
+        }
+
+        SanitizationConfig config;
+        String rulesJson;
+        try {
+            ObjectMapper objectMapper = new ObjectMapper();
+            config = objectMapper.readValue(readRules(options.rules()), SanitizationConfig.class);
+            if (config.getColumns() == null || config.getColumns().isEmpty()) {
+                throw new InvalidConfigurationException("At least one column rule is required");
+            }
+            rulesJson = objectMapper.writeValueAsString(config);
+        } catch (IOException | InvalidConfigurationException e) {
+            err.println("❌ Invalid rules: " + e.getMessage());
+            return EXIT_INVALID_RULES;
+        }
+
+        try {
+            Path parent = output.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+        } catch (IOException e) {
+            err.println("❌ Cannot create output directory: " + e.getMessage());
+            return EXIT_CANNOT_CREATE_OUTPUT;
+        }
+
+        long startNanos = System.nanoTime();
+        ConfigurableApplicationContext context;
+        try {
+            context = start(options.springArgs());
+        } catch (RuntimeException e) {
+            err.println("❌ Cannot start the application: " + e.getMessage());
+            return EXIT_INTERNAL_ERROR;
+        }
+        out.printf("🚀 Started in %.1f s%n", (System.nanoTime() - startNanos) / 1e9);
+
+        int exitCode = sanitize(context, input, output, config, rulesJson, options.progressInterval());
+        return SpringApplication.exit(context, () -> exitCode);
+    }
+
+    private static String readRules(String rules) throws IOException {
+        return rules.stripLeading().startsWith("{") ? rules : Files.readString(Path.of(rules));
+    }
+
+    private static ConfigurableApplicationContext start(List<String> springArgs) {
+        // AOT-generated code describes the web application context, so it cannot start this one
+        SpringProperties.setProperty(AotDetector.AOT_ENABLED, "false");
+        // Ahead of application.yml but behind the command line, so --name=value still wins
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("sanitizeCommand", DEFAULTS));
+        return new SpringApplicationBuilder(BatchDataSanitizerApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .lazyInitialization(true)
+                .environment(environment)
+                .run(springArgs.toArray(String[]::new));
+    }
+
+    private int sanitize(ConfigurableApplicationContext context, Path input, Path output,
+            SanitizationConfig config, String rulesJson, Duration progressInterval) {
+        JobExecution execution;
+        Job job;
+        try {
+            var environment = context.getEnvironment();
+            JobConfig jobConfig = JobConfig.create(input.toString(), output.toString(), config.getColumns(),
+                    rulesJson,
+                    environment.getProperty("sanitizer.batch.chunk-size", Integer.class, 1000),
+                    environment.getProperty("sanitizer.batch.skip-limit", Integer.class, 100));
+            job = context.getBean(SanitizationJobFactory.class).createJob(jobConfig, config);
+            JobParameters jobParameters = jobConfig.toJobParameters();
+            job.getJobParametersValidator().validate(jobParameters);
+            out.println("📋 " + jobConfig.getDescription());
+            execution = context.getBean(JobRepository.class).createJobExecution(job.getName(), jobParameters);
+        } catch (InvalidConfigurationException e) {
+            err.println("❌ Invalid rules: " + e.getMessage());
+            return EXIT_INVALID_RULES;
+        } catch (Exception e) {
+            err.println("❌ Cannot start the job: " + e.getMessage());
+            return EXIT_INTERNAL_ERROR;
+        }
+
+        LiveJobRegistry registry = context.getBean(LiveJobRegistry.class);
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sanitize-progress").daemon(true).factory());
+        if (!progressInterval.isZero()) {
+            long millis = progressInterval.toMillis();
+            progress.scheduleAtFixedRate(() -> registry.get(execution.getId())
+                    .filter(p -> BatchStatus.STARTED.name().equals(p.getStatus()))
+                    .ifPresent(p -> out.println(describe(p))), millis, millis, TimeUnit.MILLISECONDS);
+        }
+        try {
+            job.execute(execution);
+        } finally {
+            progress.shutdownNow();
+        }
+
+        JobProgress result = registry.get(execution.getId()).orElseGet(() -> LiveJobRegistry.snapshotOf(execution));
+        if (execution.getStatus() == BatchStatus.COMPLETED) {
+            out.printf("✅ %s: %,d rows written, %,d skipped in %s%n", output,
+                    orZero(result.getRowsWritten()), orZero(result.getRowsSkipped()), elapsed(execution));
+            return EXIT_OK;
+        }
+        err.printf("❌ Job %s after %,d rows: %s%n", execution.getStatus(), orZero(result.getRowsProcessed()),
+                execution.getExitStatus().getExitDescription());
+        return EXIT_JOB_FAILED;
+    }
+
+    static String describe(JobProgress progress) {
+        StringBuilder line = new StringBuilder(String.format("⏳ %-11s %,12d rows", progress.getPhase(),
+                orZero(progress.getRowsProcessed())));
+        if (progress.getPercentComplete() != null) {
+            line.append(String.format("  %5.1f%%", progress.getPercentComplete()));
+        }
+        if (progress.getRowsPerSecond() != null) {
+            line.append(String.format("  %,.0f rows/s", progress.getRowsPerSecond()));
+        }
+        if (progress.getEtaSeconds() != null) {
+            line.append("  ETA ").append(progress.getEtaSeconds()).append(" s");
+        }
+        if (progress.getRowsSkipped() != null && progress.getRowsSkipped() > 0) {
+            line.append(String.format("  %,d skipped", progress.getRowsSkipped()));
+        }
+        return line.toString();
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0;
+    }
+
+    private static String elapsed(JobExecution execution) {
+        if (execution.getStartTime() == null || execution.getEndTime() == null) {
+            return "-";
+        }
+        Duration elapsed = Duration.between(execution.getStartTime(), execution.getEndTime());
+        return String.format("%.1f s", elapsed.toMillis() / 1000.0);
+    }
+
+    /**
+     * Parsed arguments. Options take their value as the next argument or after '='.
+     */
+    record Options(String input, String output, String rules, Duration progressInterval, boolean help,
+            List<String> springArgs) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            List<String> springArgs = new ArrayList<>();
+            boolean help = false;
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--help") || arg.equals("-h")) {
+                    help = true;
+                    continue;
+                }
+                if (!arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                }
+                int equals = arg.indexOf('=');
+                String name = arg.substring(2, equals < 0 ? arg.length() : equals);
+                switch (name) {
+                    case "input", "output", "rules", "progress-interval" -> {
+                        if (equals >= 0) {
+                            values.put(name, arg.substring(equals + 1));
+                        } else if (i + 1 < args.length) {
+                            values.put(name, args[++i]);
+                        } else {
+                            throw new IllegalArgumentException("Missing value of --" + name);
+                        }
+                    }
+                    default -> {
+                        if (equals < 0 || !name.contains(".")) {
+                            throw new IllegalArgumentException("Unknown option: " + arg);
+                        }
+                        springArgs.add(arg);
+                    }
+                }
+            }
+            if (help) {
+                return new Options(null, null, null, Duration.ZERO, true, springArgs);
+            }
+            for (String required : List.of("input", "output", "rules")) {
+                if (values.get(required) == null || values.get(required).isBlank()) {
+                    throw new IllegalArgumentException("Missing --" + required);
+                }
+            }
+            return new Options(values.get("input"), values.get("output"), values.get("rules"),
+                    progressInterval(values.getOrDefault("progress-interval", "2")), false, List.copyOf(springArgs));
+        }
+
+        private static Duration progressInterval(String seconds) {
+            try {
+                double value = Double.parseDouble(seconds);
+                if (value < 0 || Double.isNaN(value)) {
+                    throw new NumberFormatException();
+                }
+                return Duration.ofMillis(Math.round(value * 1000));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("--progress-interval needs a number of seconds, got " + seconds);
+            }
+        }
+    }
+}
@@ -70,8 +70,15 @@ public class AuditController {
                 .outputFileName(audit.getOutputFileName())
                 .rowsProcessed(audit.getRowsProcessed())
                 .rowsSkipped(audit.getRowsSkipped())
+                .cacheHits(audit.getCacheHits())
+                .cacheMisses(audit.getCacheMisses())
+                .cacheEvictions(audit.getCacheEvictions())
+                .chunkSizeInitial(audit.getChunkSizeInitial())
+                .chunkSizeMin(audit.getChunkSizeMin())
+                .chunkSizeMax(audit.getChunkSizeMax())
                 .columnsSanitized(audit.getColumnsSanitized())
                 .rulesApplied(audit.getRulesApplied())
+                .columnTypes(audit.getColumnTypes())
                 .startTime(audit.getStartTime())
                 .endTime(audit.getEndTime())
                 .status(audit.getStatus())
@@ -1,5 +1,8 @@
 package com.sourav.enterprise.sanitizer.controller;
 
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,13 +14,21 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/v1/health")
 public class HealthController {
+    private final ApplicationAvailability availability;
+
+    public HealthController(ApplicationAvailability availability) {
+        this.availability = availability;
+    }
+
     @GetMapping
     public ResponseEntity<Map<String, Object>> health() {
+        // Not ready until startup, including the optional warm-up, has finished
+        boolean ready = availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
         Map<String, Object> health = new LinkedHashMap<>();
-        health.put("status", "UP");
+        health.put("status", ready ? "UP" : "STARTING");
         health.put("application", "Batch Data Privacy Sanitizer");
         health.put("version", "1.0.0");
         health.put("timestamp", LocalDateTime.now().toString());
-        return ResponseEntity.ok(health);
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(health);
     }
 }
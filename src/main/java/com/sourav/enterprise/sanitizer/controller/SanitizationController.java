@@ -1,24 +1,42 @@
 package com.sourav.enterprise.sanitizer.controller;
 
+import com.sourav.enterprise.sanitizer.domain.enums.JobPriority;
+import com.sourav.enterprise.sanitizer.domain.enums.JobStatus;
 import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.dto.JobProgress;
 import com.sourav.enterprise.sanitizer.dto.JobResponse;
 import com.sourav.enterprise.sanitizer.dto.SanitizationRequest;
+import com.sourav.enterprise.sanitizer.exception.InvalidConfigurationException;
+import com.sourav.enterprise.sanitizer.exception.JobQueueFullException;
 import com.sourav.enterprise.sanitizer.service.FileStorageService;
+import com.sourav.enterprise.sanitizer.service.JobProgressPublisher;
 import com.sourav.enterprise.sanitizer.service.SanitizationService;
+import com.sourav.enterprise.sanitizer.service.StreamingSanitizationService;
+import com.sourav.enterprise.sanitizer.storage.GzipFiles;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.JobExecution;
-import org.springframework.batch.core.StepExecution;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -27,47 +45,101 @@ public class SanitizationController {
 
     private final SanitizationService sanitizationService;
     private final FileStorageService fileStorageService;
+    private final JobProgressPublisher progressPublisher;
+    private final StreamingSanitizationService streamingService;
     private final ObjectMapper objectMapper;
 
     public SanitizationController(SanitizationService sanitizationService,
-            FileStorageService fileStorageService, ObjectMapper objectMapper) {
+            FileStorageService fileStorageService, JobProgressPublisher progressPublisher,
+            StreamingSanitizationService streamingService, ObjectMapper objectMapper) {
         this.sanitizationService = sanitizationService;
         this.fileStorageService = fileStorageService;
+        this.progressPublisher = progressPublisher;
+        this.streamingService = streamingService;
         this.objectMapper = objectMapper;
     }
 
     @PostMapping(value = "/sanitize", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<JobResponse> startSanitization(
             @RequestParam("file") MultipartFile file,
-            @RequestParam("config") String configJson) throws Exception {
+            @RequestParam("config") String configJson,
+            @RequestParam(defaultValue = "normal") String priority) throws Exception {
         log.info("Received request: file={}, size={}", file.getOriginalFilename(), file.getSize());
 
         SanitizationRequest request = objectMapper.readValue(configJson, SanitizationRequest.class);
         SanitizationConfig config = SanitizationConfig.builder().columns(request.getColumns()).build();
+        JobPriority jobPriority = parsePriority(priority);
 
         String inputPath = fileStorageService.saveInputFile(file);
         String outputPath = fileStorageService.generateOutputPath(inputPath);
 
-        JobExecution execution = sanitizationService.startJob(inputPath, outputPath, config);
-        return ResponseEntity.accepted().body(mapToResponse(execution, inputPath, outputPath));
+        JobExecution execution;
+        try {
+            execution = sanitizationService.startJob(inputPath, outputPath, config, jobPriority);
+        } catch (InvalidConfigurationException | JobQueueFullException e) {
+            // The upload is never processed; don't leave it behind
+            Files.deleteIfExists(Paths.get(inputPath));
+            throw e;
+        }
+        return ResponseEntity.accepted().body(mapToResponse(sanitizationService.getJobProgress(execution.getId())));
+    }
+
+    /**
+     * Sanitizes the CSV request body into the response as rows are produced,
+     * without storing either or starting a job. Invalid rules and unknown
+     * columns are rejected before the response starts; a failure after that
+     * ends the response early.
+     */
+    @PostMapping(value = "/sanitize/stream", consumes = { "text/csv", MediaType.TEXT_PLAIN_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE }, produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> sanitizeStream(
+            @RequestParam("config") String configJson,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest httpRequest) throws IOException {
+        SanitizationRequest request;
+        try {
+            request = objectMapper.readValue(configJson, SanitizationRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidConfigurationException("Invalid config: " + e.getOriginalMessage());
+        }
+        SanitizationConfig config = SanitizationConfig.builder().columns(request.getColumns()).build();
+
+        InputStream body = httpRequest.getInputStream();
+        if ("gzip".equalsIgnoreCase(contentEncoding)) {
+            body = new GZIPInputStream(body, 64 * 1024);
+        }
+        StreamingSanitizationService.SanitizingStream stream = streamingService.open(body, config);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(stream::writeTo);
     }
 
     @GetMapping("/jobs/{jobExecutionId}")
     public ResponseEntity<JobResponse> getJobStatus(@PathVariable Long jobExecutionId) {
-        JobExecution execution = sanitizationService.getJobStatus(jobExecutionId);
-        if (execution == null)
+        JobProgress progress = sanitizationService.getJobProgress(jobExecutionId);
+        if (progress == null)
             return ResponseEntity.notFound().build();
-        String inputFile = execution.getJobParameters().getString("inputFile");
-        String outputFile = execution.getJobParameters().getString("outputFile");
-        return ResponseEntity.ok(mapToResponse(execution, inputFile, outputFile));
+        return ResponseEntity.ok(mapToResponse(progress));
+    }
+
+    @GetMapping(value = "/jobs/{jobExecutionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobProgress(@PathVariable Long jobExecutionId) {
+        JobProgress progress = sanitizationService.getJobProgress(jobExecutionId);
+        if (progress == null)
+            return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(progressPublisher.subscribe(jobExecutionId, progress));
+    }
+
+    @GetMapping(value = "/jobs/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAllJobProgress() {
+        return progressPublisher.subscribeAll();
     }
 
     @PostMapping("/jobs/{jobExecutionId}/restart")
-    public ResponseEntity<JobResponse> restartJob(@PathVariable Long jobExecutionId) {
-        JobExecution execution = sanitizationService.restartJob(jobExecutionId);
-        String inputFile = execution.getJobParameters().getString("inputFile");
-        String outputFile = execution.getJobParameters().getString("outputFile");
-        return ResponseEntity.accepted().body(mapToResponse(execution, inputFile, outputFile));
+    public ResponseEntity<JobResponse> restartJob(@PathVariable Long jobExecutionId,
+            @RequestParam(defaultValue = "normal") String priority) {
+        JobExecution execution = sanitizationService.restartJob(jobExecutionId, parsePriority(priority));
+        return ResponseEntity.accepted().body(mapToResponse(sanitizationService.getJobProgress(execution.getId())));
     }
 
     @PostMapping("/jobs/{jobExecutionId}/stop")
@@ -76,28 +148,38 @@ public class SanitizationController {
         return ResponseEntity.accepted().build();
     }
 
-    private JobResponse mapToResponse(JobExecution execution, String inputFile, String outputFile) {
-        long readCount = 0, skipCount = 0;
-        for (StepExecution step : execution.getStepExecutions()) {
-            readCount += step.getReadCount();
-            skipCount += step.getSkipCount();
+    private JobPriority parsePriority(String priority) {
+        try {
+            return JobPriority.valueOf(priority.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Unknown priority: " + priority + " (expected low, normal or high)");
         }
+    }
+
+    private JobResponse mapToResponse(JobProgress progress) {
+        // Queued executions stay STARTING in the job repository until a worker picks them up
+        Integer queuePosition = sanitizationService.getQueuePosition(progress.getJobExecutionId());
         return JobResponse.builder()
-                .jobExecutionId(execution.getId())
-                .jobName(execution.getJobInstance().getJobName())
-                .status(execution.getStatus().toString())
-                .inputFile(inputFile)
-                .outputFile(outputFile)
-                .startTime(execution.getStartTime())
-                .endTime(execution.getEndTime())
-                .rowsProcessed(readCount)
-                .rowsSkipped(skipCount)
-                .exitDescription(execution.getExitStatus().getExitDescription())
+                .jobExecutionId(progress.getJobExecutionId())
+                .jobName(progress.getJobName())
+                .status(queuePosition != null ? JobStatus.PENDING.name() : progress.getStatus())
+                .queuePosition(queuePosition)
+                .inputFile(progress.getInputFile())
+                .outputFile(progress.getOutputFile())
+                .startTime(progress.getStartTime())
+                .endTime(progress.getEndTime())
+                .rowsProcessed(progress.getRowsProcessed())
+                .rowsSkipped(progress.getRowsSkipped())
+                .cacheHits(progress.getCacheHits())
+                .cacheMisses(progress.getCacheMisses())
+                .cacheEvictions(progress.getCacheEvictions())
+                .exitDescription(progress.getExitDescription())
                 .build();
     }
 
     @GetMapping("/jobs/{jobExecutionId}/download")
-    public ResponseEntity<Resource> downloadResult(@PathVariable Long jobExecutionId) {
+    public ResponseEntity<Resource> downloadResult(@PathVariable Long jobExecutionId,
+            @RequestParam(defaultValue = "false") boolean decompress) throws IOException {
         JobExecution execution = sanitizationService.getJobStatus(jobExecutionId);
         if (execution == null) {
             return ResponseEntity.notFound().build();
@@ -114,11 +196,22 @@ public class SanitizationController {
         }
 
         String filename = Paths.get(outputFilePath).getFileName().toString();
+        boolean gzip = GzipFiles.isGzipName(filename);
+
+        if (gzip && decompress) {
+            // Streamed through a gzip decoder; the decompressed length is unknown up front
+            String csvName = filename.substring(0, filename.length() - GzipFiles.EXTENSION.length());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + csvName + "\"")
+                    .contentType(MediaType.parseMediaType("text/csv"))
+                    .body(new InputStreamResource(GzipFiles.newInputStream(file.toPath())));
+        }
+
         Resource resource = new FileSystemResource(file);
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                .contentType(MediaType.parseMediaType("text/csv"))
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : "text/csv"))
                 .contentLength(file.length())
                 .body(resource);
     }
@@ -0,0 +1,24 @@
+package com.sourav.enterprise.sanitizer.datagen;
+
+/**
+ * Kinds of generated columns. The PII kinds are the values sanitization rules
+ * target; NUMBER and TEXT fill the remaining columns.
+ */
+public enum ColumnKind {
+    ID,
+    NAME,
+    EMAIL,
+    PHONE,
+    ADDRESS,
+    SSN,
+    NUMBER,
+    TEXT;
+
+    /**
+     * Column header of the kind, suffixed when it repeats.
+     */
+    String header(int occurrence) {
+        String name = name().toLowerCase();
+        return occurrence == 0 ? name : name + "_" + (occurrence + 1);
+    }
+}
@@ -0,0 +1,291 @@
+package com.sourav.enterprise.sanitizer.datagen;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Synthetic CSV Generator - Streams CSV files of any size with a configurable
+ * shape, for load tests, benchmarks and warm-up runs.
+ *
+ * Features:
+ * - Constant memory: a value is derived from its column and value index, so
+ *   no value pool is kept however high the cardinality
+ * - Value indexes drawn uniformly or with Zipf skew
+ * - Realistic PII values, including non-ASCII names
+ * - Quoted fields and malformed rows at the rates of the spec
+ * - Deterministic for a given spec and seed; gzip output for .gz files
+ *
+ * Not thread-safe.
+ */
+public class SyntheticCsvGenerator {
+    private static final String[] FIRST_NAMES = { "John", "Maria", "Wei", "Aisha", "Lukas", "Sofía", "Hiroshi",
+            "Zoë", "Olivia", "Mateo", "Priya", "Noah", "Fatima", "Liam", "Yuki", "Emma" };
+    private static final String[] LAST_NAMES = { "Smith", "Garcia", "Chen", "Okafor", "Müller", "Rossi", "Tanaka",
+            "O'Brien", "Johnson", "Nguyen", "Kowalski", "Silva", "Patel", "Dubois", "Kim", "Andersen" };
+    private static final String[] DOMAINS = { "example.com", "mail.example.org", "corp.example.net", "example.co.uk" };
+    private static final String[] STREETS = { "Main St.", "Oak Avenue", "Rue de la Paix", "Elm Street",
+            "Hauptstraße", "Maple Drive", "Station Road", "Sunset Blvd." };
+    private static final String[] WORDS = { "lorem", "ipsum", "dolor", "sit", "amet", "order", "account",
+            "delivered", "pending", "review", "invoice", "customer", "priority", "note", "follow-up", "résumé" };
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private final SyntheticCsvSpec spec;
+    private final ColumnKind[] kinds;
+    private final String[] headers;
+    private final ZipfSampler sampler;
+    private final SplittableRandom random;
+    private long rowNumber;
+
+    public SyntheticCsvGenerator(SyntheticCsvSpec spec) {
+        if (spec.getColumns() < 1 || spec.getCardinality() < 1) {
+            throw new IllegalArgumentException("Needs at least one column and one value per column");
+        }
+        this.spec = spec;
+        this.kinds = layout(spec);
+        this.headers = headers(kinds);
+        this.sampler = new ZipfSampler(spec.getCardinality(), spec.getSkew());
+        this.random = new SplittableRandom(spec.getSeed());
+    }
+
+    private static ColumnKind[] layout(SyntheticCsvSpec spec) {
+        ColumnKind[] kinds = new ColumnKind[spec.getColumns()];
+        kinds[0] = ColumnKind.ID;
+        List<ColumnKind> pii = spec.getPiiColumns();
+        for (int c = 1; c < kinds.length; c++) {
+            if (c - 1 < pii.size()) {
+                kinds[c] = pii.get(c - 1);
+            } else {
+                kinds[c] = (c - pii.size()) % 2 == 0 ? ColumnKind.TEXT : ColumnKind.NUMBER;
+            }
+        }
+        return kinds;
+    }
+
+    private static String[] headers(ColumnKind[] kinds) {
+        Map<ColumnKind, Integer> seen = new HashMap<>();
+        String[] headers = new String[kinds.length];
+        for (int c = 0; c < kinds.length; c++) {
+            headers[c] = kinds[c].header(seen.merge(kinds[c], 1, Integer::sum) - 1);
+        }
+        return headers;
+    }
+
+    public String[] getHeaders() {
+        return headers.clone();
+    }
+
+    public ColumnKind[] getKinds() {
+        return kinds.clone();
+    }
+
+    /**
+     * Generates the next row. Malformed rows have one field fewer or more than the header.
+     */
+    public String[] nextRow() {
+        rowNumber++;
+        int width = kinds.length;
+        if (spec.getMalformedRate() > 0 && random.nextDouble() < spec.getMalformedRate()) {
+            width += width > 1 && random.nextBoolean() ? -1 : 1;
+        }
+        String[] row = new String[width];
+        for (int c = 0; c < width; c++) {
+            row[c] = c < kinds.length ? value(c, kinds[c]) : "unexpected";
+        }
+        return row;
+    }
+
+    private String value(int column, ColumnKind kind) {
+        if (kind == ColumnKind.ID) {
+            return String.valueOf(rowNumber);
+        }
+        long index = sampler.sample(random) - 1;
+        long h = mix(spec.getSeed() + column * GOLDEN + index);
+        return switch (kind) {
+            case NAME -> pick(FIRST_NAMES, h) + " " + pick(LAST_NAMES, h >>> 20);
+            case EMAIL -> ascii(pick(FIRST_NAMES, h)) + "." + ascii(pick(LAST_NAMES, h >>> 20)) + index
+                    + "@" + pick(DOMAINS, h >>> 40);
+            case PHONE -> phone(index % 10_000_000, h);
+            case ADDRESS -> (1 + Long.remainderUnsigned(h, 9999)) + " " + pick(STREETS, h >>> 20)
+                    + ((h >>> 40) % 4 == 0 ? ", Apt " + (1 + index % 500) : "");
+            case SSN -> ssn(index);
+            case NUMBER -> String.valueOf(Long.remainderUnsigned(h, 10_000_000) + index % 100 * 10_000_000);
+            case TEXT -> text(h, index);
+            case ID -> throw new IllegalStateException();
+        };
+    }
+
+    private static String phone(long number, long h) {
+        String exchange = pad(number / 10_000, 3);
+        String line = pad(number % 10_000, 4);
+        return switch ((int) ((h >>> 60) % 3)) {
+            case 0 -> "555-" + exchange + "-" + line;
+            case 1 -> "(555) " + exchange + " " + line;
+            default -> "+1 555 " + exchange + line;
+        };
+    }
+
+    private static String ssn(long index) {
+        // 7919 is coprime with 10^9, so distinct indexes give distinct numbers
+        long number = (index % 1_000_000_000L * 7919 + 123_456_789) % 1_000_000_000L;
+        return pad(number / 1_000_000, 3) + "-" + pad(number / 10_000 % 100, 2) + "-" + pad(number % 10_000, 4);
+    }
+
+    private String text(long h, long index) {
+        StringBuilder text = new StringBuilder(pick(WORDS, h));
+        int words = 1 + (int) ((h >>> 4) % 5);
+        for (int w = 1; w <= words; w++) {
+            text.append(' ').append(pick(WORDS, h >>> (8 * w)));
+        }
+        text.append(' ').append(index);
+        // Decided per value, so quoting does not add distinct values
+        if ((mix(h) >>> 11) * 0x1.0p-53 < spec.getQuotedRate()) {
+            return switch ((int) (index % 3)) {
+                case 0 -> text.insert(text.indexOf(" "), ',').toString();
+                case 1 -> "\"" + text + "\", she said";
+                default -> text.insert(text.indexOf(" "), '\n').toString();
+            };
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes a file of the spec's size, gzip-compressed when its name ends in .gz
+     * (a target size then counts uncompressed bytes).
+     */
+    public Result write(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            if (file.getFileName().toString().endsWith(".gz")) {
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out, 1 << 16)) {
+                    return write(gzip);
+                }
+            }
+            return write(out);
+        }
+    }
+
+    /**
+     * Writes the header and rows to the stream, without closing it. With a
+     * target size, the count is of the bytes handed to the stream.
+     */
+    public Result write(OutputStream out) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(out);
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(counting, StandardCharsets.UTF_8), 1 << 16);
+        StringBuilder line = new StringBuilder(256);
+        appendRow(line, headers);
+        writer.append(line);
+
+        long rows = 0;
+        long malformed = 0;
+        long target = spec.getTargetBytes();
+        while (target > 0 ? counting.count < target : rows < spec.getRows()) {
+            String[] row = nextRow();
+            if (row.length != kinds.length) {
+                malformed++;
+            }
+            line.setLength(0);
+            appendRow(line, row);
+            writer.append(line);
+            rows++;
+        }
+        writer.flush();
+        return new Result(rows, malformed, counting.count);
+    }
+
+    private static void appendRow(StringBuilder line, String[] values) {
+        for (int c = 0; c < values.length; c++) {
+            if (c > 0) {
+                line.append(',');
+            }
+            appendField(line, values[c]);
+        }
+        line.append('\n');
+    }
+
+    private static void appendField(StringBuilder line, String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char ch = value.charAt(i);
+            quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '"') {
+                line.append('"');
+            }
+            line.append(ch);
+        }
+        line.append('"');
+    }
+
+    private static String pick(String[] values, long h) {
+        return values[(int) Long.remainderUnsigned(h, values.length)];
+    }
+
+    private static String ascii(String name) {
+        StringBuilder ascii = new StringBuilder(name.length());
+        for (char ch : name.toLowerCase().toCharArray()) {
+            switch (ch) {
+                case 'í' -> ascii.append('i');
+                case 'ë' -> ascii.append('e');
+                case 'ü' -> ascii.append("ue");
+                case '\'' -> { }
+                default -> ascii.append(ch);
+            }
+        }
+        return ascii.toString();
+    }
+
+    private static String pad(long value, int digits) {
+        String text = Long.toString(value);
+        return text.length() >= digits ? text : "0".repeat(digits - text.length()) + text;
+    }
+
+    /** SplitMix64 finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Rows written (all of them, malformed included), malformed rows, and bytes.
+     */
+    public record Result(long rows, long malformedRows, long bytes) {
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
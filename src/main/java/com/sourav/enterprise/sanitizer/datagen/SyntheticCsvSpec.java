@@ -0,0 +1,58 @@
+package com.sourav.enterprise.sanitizer.datagen;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Synthetic CSV Spec - Shape of a generated CSV file.
+ *
+ * Features:
+ * - Row count, or a target file size for files of any size
+ * - Column count and PII column mix; an id column comes first and NUMBER and
+ *   TEXT columns fill the rest
+ * - Value cardinality and Zipf skew per column
+ * - Rates of quoted fields (commas, escaped quotes, embedded newlines) and of
+ *   malformed rows (a field missing or one too many)
+ */
+@Data
+@Builder
+public class SyntheticCsvSpec {
+
+    /** Rows to generate; ignored when targetBytes is set */
+    @Builder.Default
+    private final long rows = 100_000;
+
+    /** Generate rows until the file reaches this many bytes; 0 to use rows */
+    @Builder.Default
+    private final long targetBytes = 0;
+
+    /** Total columns, including the id column */
+    @Builder.Default
+    private final int columns = 8;
+
+    /** PII columns after the id column, in order; trimmed to fit columns */
+    @Builder.Default
+    private final List<ColumnKind> piiColumns = List.of(
+            ColumnKind.NAME, ColumnKind.EMAIL, ColumnKind.PHONE, ColumnKind.ADDRESS, ColumnKind.SSN);
+
+    /** Distinct values per column */
+    @Builder.Default
+    private final long cardinality = 100_000;
+
+    /** Zipf exponent of value frequencies; 0 draws values uniformly */
+    @Builder.Default
+    private final double skew = 0;
+
+    /** Share of TEXT values that need quoting, a third of them spanning lines */
+    @Builder.Default
+    private final double quotedRate = 0.05;
+
+    /** Share of rows with a field missing or one too many */
+    @Builder.Default
+    private final double malformedRate = 0;
+
+    @Builder.Default
+    private final long seed = 42;
+}
@@ -36,11 +36,22 @@ public class JobAudit {
     @Builder.Default
     private Long rowsSkipped = 0L;
 
+    private Long cacheHits;
+    private Long cacheMisses;
+    private Long cacheEvictions;
+
+    private Integer chunkSizeInitial;
+    private Integer chunkSizeMin;
+    private Integer chunkSizeMax;
+
     private Integer columnsSanitized;
 
     @Column(columnDefinition = "TEXT")
     private String rulesApplied;
 
+    @Column(columnDefinition = "TEXT")
+    private String columnTypes;
+
     @Column(nullable = false)
     private LocalDateTime startTime;
 
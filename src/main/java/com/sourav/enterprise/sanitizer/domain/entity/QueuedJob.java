@@ -0,0 +1,31 @@
+package com.sourav.enterprise.sanitizer.domain.entity;
+
+import com.sourav.enterprise.sanitizer.domain.enums.JobPriority;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * A job execution waiting in the job queue. Rows are removed when the job
+ * starts, so the ones left after a shutdown are queued again on startup.
+ */
+@Entity
+@Table(name = "job_queue")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueuedJob {
+    @Id
+    private Long jobExecutionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobPriority priority;
+
+    @Column(nullable = false)
+    private LocalDateTime enqueuedAt;
+}
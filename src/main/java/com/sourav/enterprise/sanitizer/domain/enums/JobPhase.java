@@ -0,0 +1,17 @@
+package com.sourav.enterprise.sanitizer.domain.enums;
+
+/**
+ * What a job is doing right now, as reported by the live job registry.
+ */
+public enum JobPhase {
+    /** Waiting in the job queue */
+    QUEUED,
+    /** Sanitizing rows, in one step or in partition worker steps */
+    SANITIZING,
+    /** Concatenating the part files of a partitioned job */
+    STITCHING,
+    /** Gzip-compressing the sanitized file */
+    COMPRESSING,
+    /** Completed, failed or stopped */
+    FINISHED
+}
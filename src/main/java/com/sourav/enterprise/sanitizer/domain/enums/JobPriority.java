@@ -0,0 +1,11 @@
+package com.sourav.enterprise.sanitizer.domain.enums;
+
+/**
+ * Priority of a submitted job in the job queue. Higher priorities start
+ * first; jobs of equal priority start in submission order.
+ */
+public enum JobPriority {
+    LOW,
+    NORMAL,
+    HIGH
+}
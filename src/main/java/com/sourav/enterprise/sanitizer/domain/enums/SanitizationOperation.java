@@ -1,8 +1,22 @@
 package com.sourav.enterprise.sanitizer.domain.enums;
 
 public enum SanitizationOperation {
-    MASK,
-    HASH,
-    NULLIFY,
-    RANDOMIZE
+    MASK(false),
+    HASH(true),
+    NULLIFY(false),
+    RANDOMIZE(true);
+
+    private final boolean memoizable;
+
+    SanitizationOperation(boolean memoizable) {
+        this.memoizable = memoizable;
+    }
+
+    /**
+     * Whether results may be cached per value: the operation is deterministic
+     * and costly enough for a cache lookup to pay off.
+     */
+    public boolean isMemoizable() {
+        return memoizable;
+    }
 }
@@ -0,0 +1,11 @@
+package com.sourav.enterprise.sanitizer.domain.enums;
+
+public enum SemanticType {
+    EMAIL,
+    PHONE,
+    NAME,
+    ADDRESS,
+    NUMERIC,
+    TEXT,
+    MIXED
+}
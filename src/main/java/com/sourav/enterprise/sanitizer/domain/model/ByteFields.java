@@ -0,0 +1,114 @@
+package com.sourav.enterprise.sanitizer.domain.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Byte Fields - Column values of one record as UTF-8 byte slices.
+ * All values share one backing array; value i spans offsets[i] to offsets[i + 1].
+ * Instances are built through {@link FieldBuffer} and are never modified.
+ *
+ * Encoded fields hold each value exactly as it appears in a CSV file, with
+ * any quotes and escaped quotes, so they can be written back without
+ * re-quoting. Plain fields hold the unescaped content.
+ */
+public final class ByteFields {
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final byte[] data;
+    private final int[] offsets;
+    private final boolean encoded;
+
+    ByteFields(byte[] data, int[] offsets, boolean encoded) {
+        this.data = data;
+        this.offsets = offsets;
+        this.encoded = encoded;
+    }
+
+    /**
+     * Number of values in the record.
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Backing array shared by all values. Must not be modified.
+     */
+    public byte[] data() {
+        return data;
+    }
+
+    public int start(int index) {
+        return offsets[index];
+    }
+
+    public int length(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Whether the values are CSV-encoded rather than plain content.
+     */
+    public boolean isEncoded() {
+        return encoded;
+    }
+
+    /**
+     * Appends the unescaped content of a value. Encoded values are unquoted
+     * the same way the byte tokenizer reads them: "" becomes a quote and a
+     * CR or CRLF inside quotes becomes LF. Values not starting with a quote
+     * are taken literally.
+     */
+    public void copyContent(int index, FieldBuffer out) {
+        int start = offsets[index];
+        int end = offsets[index + 1];
+        if (!encoded || start == end || data[start] != QUOTE) {
+            out.write(data, start, end - start);
+            return;
+        }
+        boolean inQuotes = false;
+        for (int i = start; i < end; i++) {
+            byte b = data[i];
+            if (b == QUOTE) {
+                if (inQuotes && i + 1 < end && data[i + 1] == QUOTE) {
+                    out.write(QUOTE);
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (b == CR && inQuotes) {
+                out.write(LF);
+                if (i + 1 < end && data[i + 1] == LF) {
+                    i++;
+                }
+            } else {
+                out.write(b);
+            }
+        }
+    }
+
+    /**
+     * Decodes a single value.
+     */
+    public String decode(int index) {
+        if (encoded) {
+            FieldBuffer content = new FieldBuffer(length(index));
+            copyContent(index, content);
+            return new String(content.array(), 0, content.length(), StandardCharsets.UTF_8);
+        }
+        return new String(data, offsets[index], length(index), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes all values in column order.
+     */
+    public String[] decodeAll() {
+        String[] values = new String[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = decode(i);
+        }
+        return values;
+    }
+}
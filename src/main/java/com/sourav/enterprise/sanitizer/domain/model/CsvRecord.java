@@ -4,12 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 /**
  * CSV Record - Represents a single row from a CSV file.
- * Uses LinkedHashMap to preserve column order.
+ * Values are stored by column position; names resolve through the
+ * schema shared by all records of the file.
+ *
+ * A record may instead carry its values as UTF-8 byte slices; the String
+ * values are then decoded on first access.
  */
 @Data
 @Builder
@@ -20,28 +22,77 @@ public class CsvRecord {
     /** Line number in the original CSV file (1-indexed, excluding header) */
     private long lineNumber;
 
-    /** Column name to value mapping, preserves order */
-    @Builder.Default
-    private Map<String, String> data = new LinkedHashMap<>();
+    /** Column layout shared by all records of the file */
+    private CsvSchema schema;
+
+    /** Column values in schema order */
+    private String[] values;
+
+    /** Column values as UTF-8 byte slices, when the reader provides them */
+    private ByteFields fields;
+
+    public CsvRecord(long lineNumber, CsvSchema schema, String[] values) {
+        this(lineNumber, schema, values, null);
+    }
+
+    public CsvRecord(long lineNumber, CsvSchema schema, ByteFields fields) {
+        this(lineNumber, schema, null, fields);
+    }
+
+    /**
+     * Gets the column values, decoding the byte slices on first access.
+     */
+    public String[] getValues() {
+        if (values == null && fields != null) {
+            values = fields.decodeAll();
+        }
+        return values;
+    }
+
+    public void setValues(String[] values) {
+        this.values = values;
+        fields = null;
+    }
 
     /**
      * Gets the value of a specific column.
      */
     public String getValue(String columnName) {
-        return data.get(columnName);
+        int index = schema.indexOf(columnName);
+        return index >= 0 ? getValues()[index] : null;
+    }
+
+    /**
+     * Gets the value at a column position.
+     */
+    public String getValue(int index) {
+        return getValues()[index];
     }
 
     /**
      * Sets the value of a specific column.
      */
     public void setValue(String columnName, String value) {
-        data.put(columnName, value);
+        int index = schema.indexOf(columnName);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown column: " + columnName);
+        }
+        setValue(index, value);
+    }
+
+    /**
+     * Sets the value at a column position.
+     */
+    public void setValue(int index, String value) {
+        getValues()[index] = value;
+        // The byte slices no longer match the values
+        fields = null;
     }
 
     /**
      * Checks if this record has a specific column.
      */
     public boolean hasColumn(String columnName) {
-        return data.containsKey(columnName);
+        return schema.hasColumn(columnName);
     }
 }
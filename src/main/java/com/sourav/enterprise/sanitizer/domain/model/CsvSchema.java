@@ -0,0 +1,72 @@
+package com.sourav.enterprise.sanitizer.domain.model;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV Schema - Immutable column layout of a CSV file.
+ * Built once from the header row and shared by every record of the file.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class CsvSchema {
+
+    /** Column names in file order */
+    @EqualsAndHashCode.Include
+    private final String[] columns;
+
+    /** Column name to position; the first occurrence wins for duplicate names */
+    private final Map<String, Integer> positions;
+
+    public CsvSchema(String[] columns) {
+        this.columns = columns.clone();
+        this.positions = new HashMap<>(columns.length * 2);
+        for (int i = 0; i < columns.length; i++) {
+            positions.putIfAbsent(columns[i], i);
+        }
+    }
+
+    /**
+     * Gets the position of a column, or -1 if the file has no such column.
+     */
+    public int indexOf(String columnName) {
+        Integer index = positions.get(columnName);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Checks if the file has a specific column.
+     */
+    public boolean hasColumn(String columnName) {
+        return positions.containsKey(columnName);
+    }
+
+    /**
+     * Gets the name of the column at a position.
+     */
+    public String getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Gets the number of columns.
+     */
+    public int size() {
+        return columns.length;
+    }
+
+    /**
+     * Gets the column names in file order.
+     */
+    public List<String> getColumns() {
+        return List.of(columns);
+    }
+
+    @Override
+    public String toString() {
+        return "CsvSchema" + Arrays.toString(columns);
+    }
+}
@@ -0,0 +1,192 @@
+package com.sourav.enterprise.sanitizer.domain.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Field Buffer - Reusable, growable byte buffer that collects the values of a
+ * record one field at a time.
+ *
+ * Features:
+ * - Append-only writes of bytes, slices and repeated patterns
+ * - Field boundaries marked with endField()
+ * - Grows geometrically, so a buffer reused across records stops allocating
+ *   once it has seen the widest record
+ * - Quotes and escapes values the way opencsv's CSVWriter does
+ * - Snapshots the collected fields into an immutable ByteFields
+ *
+ * Not thread-safe; give each thread its own buffer.
+ */
+public final class FieldBuffer {
+    private static final byte QUOTE = '"';
+
+    private byte[] data;
+    private int length;
+    private int[] offsets;
+    private int fieldCount;
+
+    public FieldBuffer() {
+        this(256);
+    }
+
+    public FieldBuffer(int capacity) {
+        this.data = new byte[Math.max(16, capacity)];
+        this.offsets = new int[17];
+    }
+
+    /**
+     * Discards all content and field boundaries.
+     */
+    public void reset() {
+        length = 0;
+        fieldCount = 0;
+    }
+
+    /**
+     * Number of bytes written so far.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Backing array; valid up to length().
+     */
+    public byte[] array() {
+        return data;
+    }
+
+    public void write(byte b) {
+        ensureCapacity(1);
+        data[length++] = b;
+    }
+
+    public void write(byte[] src) {
+        write(src, 0, src.length);
+    }
+
+    public void write(byte[] src, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(src, offset, data, length, count);
+        length += count;
+    }
+
+    /**
+     * Copies bytes from an absolute position of a ByteBuffer without moving it.
+     */
+    public void write(ByteBuffer src, int index, int count) {
+        ensureCapacity(count);
+        src.get(index, data, length, count);
+        length += count;
+    }
+
+    /**
+     * Writes a byte pattern the given number of times.
+     */
+    public void fill(byte[] pattern, int times) {
+        if (pattern.length == 1) {
+            ensureCapacity(times);
+            Arrays.fill(data, length, length + times, pattern[0]);
+            length += times;
+            return;
+        }
+        ensureCapacity(pattern.length * times);
+        for (int i = 0; i < times; i++) {
+            System.arraycopy(pattern, 0, data, length, pattern.length);
+            length += pattern.length;
+        }
+    }
+
+    /**
+     * Writes a value in double quotes with embedded quotes doubled, as
+     * opencsv's CSVWriter encodes every field by default.
+     */
+    public void writeQuoted(byte[] src, int offset, int count) {
+        ensureCapacity(count + 2);
+        data[length++] = QUOTE;
+        for (int i = offset; i < offset + count; i++) {
+            byte b = src[i];
+            if (b == QUOTE) {
+                write(QUOTE);
+            }
+            write(b);
+        }
+        write(QUOTE);
+    }
+
+    /**
+     * Encodes a String to UTF-8 and writes it quoted like writeQuoted(byte[], int, int).
+     * Unpaired surrogates become '?', as String.getBytes does.
+     */
+    public void writeQuoted(String value) {
+        int count = value.length();
+        // At most three bytes per char; a doubled quote takes two
+        ensureCapacity(count * 3 + 2);
+        byte[] out = data;
+        int n = length;
+        out[n++] = QUOTE;
+        for (int i = 0; i < count; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == QUOTE) {
+                    out[n++] = QUOTE;
+                }
+                out[n++] = (byte) c;
+            } else if (c < 0x800) {
+                out[n++] = (byte) (0xC0 | (c >> 6));
+                out[n++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    out[n++] = (byte) (0xF0 | (codePoint >> 18));
+                    out[n++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    out[n++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    out[n++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    out[n++] = '?';
+                }
+            } else {
+                out[n++] = (byte) (0xE0 | (c >> 12));
+                out[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[n++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        out[n++] = QUOTE;
+        length = n;
+    }
+
+    /**
+     * Marks the end of the current field.
+     */
+    public void endField() {
+        if (fieldCount + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        offsets[++fieldCount] = length;
+    }
+
+    /**
+     * Copies the completed fields into an immutable ByteFields of plain values.
+     */
+    public ByteFields toByteFields() {
+        return snapshot(false);
+    }
+
+    /**
+     * Copies the completed fields into an immutable ByteFields of CSV-encoded values.
+     */
+    public ByteFields toEncodedFields() {
+        return snapshot(true);
+    }
+
+    private ByteFields snapshot(boolean encoded) {
+        int end = offsets[fieldCount];
+        return new ByteFields(Arrays.copyOf(data, end), Arrays.copyOf(offsets, fieldCount + 1), encoded);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(length + extra, data.length * 2));
+        }
+    }
+}
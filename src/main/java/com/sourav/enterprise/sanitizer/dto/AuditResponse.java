@@ -20,8 +20,15 @@ public class AuditResponse {
     private String outputFileName;
     private Long rowsProcessed;
     private Long rowsSkipped;
+    private Long cacheHits;
+    private Long cacheMisses;
+    private Long cacheEvictions;
+    private Integer chunkSizeInitial;
+    private Integer chunkSizeMin;
+    private Integer chunkSizeMax;
     private Integer columnsSanitized;
     private String rulesApplied;
+    private String columnTypes;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private JobStatus status;
@@ -0,0 +1,41 @@
+package com.sourav.enterprise.sanitizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of a job's progress, served from the live job registry and streamed
+ * as server-sent events.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobProgress {
+    private Long jobExecutionId;
+    private String jobName;
+    private String status;
+    private String phase;
+    private String inputFile;
+    private String outputFile;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Long rowsProcessed;
+    private Long rowsWritten;
+    private Long rowsSkipped;
+    private Double rowsPerSecond;
+    // Null when the input size is unknown (gzip input)
+    private Double percentComplete;
+    private Long etaSeconds;
+    private Long cacheHits;
+    private Long cacheMisses;
+    private Long cacheEvictions;
+    private String exitDescription;
+    // Changes with every update of the job
+    @JsonIgnore
+    private long version;
+}
@@ -14,11 +14,15 @@ public class JobResponse {
     private Long jobExecutionId;
     private String jobName;
     private String status;
+    private Integer queuePosition;
     private String inputFile;
     private String outputFile;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private Long rowsProcessed;
     private Long rowsSkipped;
+    private Long cacheHits;
+    private Long cacheMisses;
+    private Long cacheEvictions;
     private String exitDescription;
 }
@@ -2,6 +2,7 @@ package com.sourav.enterprise.sanitizer.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -27,6 +28,17 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Job Execution Error", ex.getMessage());
     }
 
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<Map<String, Object>> handleJobQueueFull(JobQueueFullException ex) {
+        log.warn("Job rejected: {}", ex.getMessage());
+        ResponseEntity<Map<String, Object>> response = buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Job Queue Full", ex.getMessage());
+        response.getBody().put("retryAfterSeconds", ex.getRetryAfterSeconds());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<Map<String, Object>> handleMaxUploadSize(MaxUploadSizeExceededException ex) {
         return buildErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE, "File Too Large", "File exceeds maximum size");
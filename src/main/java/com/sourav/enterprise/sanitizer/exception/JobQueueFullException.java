@@ -0,0 +1,14 @@
+package com.sourav.enterprise.sanitizer.exception;
+
+public class JobQueueFullException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public JobQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
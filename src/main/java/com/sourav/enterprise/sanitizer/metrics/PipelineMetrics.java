@@ -0,0 +1,151 @@
+package com.sourav.enterprise.sanitizer.metrics;
+
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Pipeline Metrics - Micrometer meters of the sanitization pipeline.
+ *
+ * Features:
+ * - Rows read, written and skipped, and CSV bytes read and written, summed
+ *   over all jobs at every chunk commit
+ * - Read, process and write time of every chunk
+ * - Strategy apply latency histograms per operation, from a sample of the
+ *   records so that timing stays off the hot path
+ * - Job queue depth and running jobs
+ *
+ * Tags only take values from fixed sets (outcome, direction, stage, operation);
+ * per-job figures are served by the live job registry instead.
+ */
+@Component
+public class PipelineMetrics {
+    public static final String ROWS = "sanitizer.rows";
+    public static final String BYTES = "sanitizer.bytes";
+    public static final String CHUNK = "sanitizer.chunk";
+    public static final String STRATEGY_APPLY = "sanitizer.strategy.apply";
+    public static final String QUEUE_WAITING = "sanitizer.queue.waiting";
+    public static final String JOBS_ACTIVE = "sanitizer.jobs.active";
+
+    private final MeterRegistry registry;
+    private final int strategySampleRate;
+    private final Counter rowsRead;
+    private final Counter rowsWritten;
+    private final Counter rowsSkipped;
+    private final Counter bytesRead;
+    private final Counter bytesWritten;
+    private final Timer chunkRead;
+    private final Timer chunkProcess;
+    private final Timer chunkWrite;
+    private final Map<SanitizationOperation, Timer> strategyTimers = new EnumMap<>(SanitizationOperation.class);
+
+    /**
+     * @param strategySampleRate time the strategies of one record in this many, 0 to disable
+     */
+    public PipelineMetrics(MeterRegistry registry,
+            @Value("${sanitizer.metrics.strategy-sample-rate:64}") int strategySampleRate) {
+        this.registry = registry;
+        this.strategySampleRate = Math.max(0, strategySampleRate);
+        this.rowsRead = rows(registry, "read");
+        this.rowsWritten = rows(registry, "written");
+        this.rowsSkipped = rows(registry, "skipped");
+        this.bytesRead = bytes(registry, "read");
+        this.bytesWritten = bytes(registry, "written");
+        this.chunkRead = chunk(registry, "read");
+        this.chunkProcess = chunk(registry, "process");
+        this.chunkWrite = chunk(registry, "write");
+        for (SanitizationOperation operation : SanitizationOperation.values()) {
+            strategyTimers.put(operation, Timer.builder(STRATEGY_APPLY)
+                    .description("Latency of one strategy applied to one field (sampled)")
+                    .tag("operation", operation.name())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100))
+                    .maximumExpectedValue(Duration.ofMillis(10))
+                    .register(registry));
+        }
+    }
+
+    private static Counter rows(MeterRegistry registry, String outcome) {
+        return Counter.builder(ROWS)
+                .description("CSV rows by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static Counter bytes(MeterRegistry registry, String direction) {
+        return Counter.builder(BYTES)
+                .description("CSV bytes consumed from input and written to output files")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .register(registry);
+    }
+
+    private static Timer chunk(MeterRegistry registry, String stage) {
+        return Timer.builder(CHUNK)
+                .description("Time spent per chunk in each stage")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(1))
+                .register(registry);
+    }
+
+    /**
+     * Registers the job queue gauges.
+     */
+    public void bindQueue(Supplier<Number> waiting, Supplier<Number> running) {
+        Gauge.builder(QUEUE_WAITING, waiting)
+                .description("Jobs waiting in the job queue")
+                .register(registry);
+        Gauge.builder(JOBS_ACTIVE, running)
+                .description("Jobs running")
+                .register(registry);
+    }
+
+    /**
+     * Counts the rows of a committed chunk.
+     */
+    public void rows(long read, long written, long skipped) {
+        rowsRead.increment(read);
+        rowsWritten.increment(written);
+        rowsSkipped.increment(skipped);
+    }
+
+    /**
+     * Counts the input and output bytes of a committed chunk.
+     */
+    public void bytes(long read, long written) {
+        bytesRead.increment(read);
+        bytesWritten.increment(written);
+    }
+
+    /**
+     * Records the time a committed chunk spent reading, processing and writing.
+     */
+    public void chunk(long readNanos, long processNanos, long writeNanos) {
+        chunkRead.record(readNanos, TimeUnit.NANOSECONDS);
+        chunkProcess.record(processNanos, TimeUnit.NANOSECONDS);
+        chunkWrite.record(writeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the apply latency timer of an operation.
+     */
+    public Timer strategyTimer(SanitizationOperation operation) {
+        return strategyTimers.get(operation);
+    }
+
+    public int getStrategySampleRate() {
+        return strategySampleRate;
+    }
+}
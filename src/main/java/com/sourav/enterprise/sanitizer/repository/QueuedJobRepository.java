@@ -0,0 +1,11 @@
+package com.sourav.enterprise.sanitizer.repository;
+
+import com.sourav.enterprise.sanitizer.domain.entity.QueuedJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface QueuedJobRepository extends JpaRepository<QueuedJob, Long> {
+    List<QueuedJob> findAllByOrderByEnqueuedAtAsc();
+}
@@ -2,6 +2,7 @@ package com.sourav.enterprise.sanitizer.service;
 
 import com.sourav.enterprise.sanitizer.dto.CsvPreviewResponse;
 import com.sourav.enterprise.sanitizer.dto.DiffResponse;
+import com.sourav.enterprise.sanitizer.storage.GzipFiles;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvValidationException;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.*;
+import java.nio.file.Paths;
 import java.util.*;
 
 @Service
@@ -23,7 +25,8 @@ public class CsvPreviewService {
         int rows = maxRows > 0 ? Math.min(maxRows, 100) : defaultPreviewRows;
 
         try (CSVReader reader = new CSVReaderBuilder(
-                new InputStreamReader(file.getInputStream(), java.nio.charset.StandardCharsets.UTF_8)).build()) {
+                new InputStreamReader(GzipFiles.decompressing(file.getInputStream()),
+                        java.nio.charset.StandardCharsets.UTF_8)).build()) {
             return parsePreview(reader, rows, file.getOriginalFilename(), file.getSize());
         } catch (CsvValidationException e) {
             throw new IOException("CSV parsing error: " + e.getMessage(), e);
@@ -34,7 +37,7 @@ public class CsvPreviewService {
         int rows = maxRows > 0 ? Math.min(maxRows, 100) : defaultPreviewRows;
         File file = new File(filePath);
 
-        try (CSVReader reader = new CSVReaderBuilder(new FileReader(file)).build()) {
+        try (CSVReader reader = new CSVReaderBuilder(GzipFiles.newReader(file.toPath())).build()) {
             return parsePreview(reader, rows, file.getName(), file.length());
         } catch (CsvValidationException e) {
             throw new IOException("CSV parsing error: " + e.getMessage(), e);
@@ -81,8 +84,8 @@ public class CsvPreviewService {
     public DiffResponse generateDiff(String inputFilePath, String outputFilePath, int maxRows) throws IOException {
         int rows = maxRows > 0 ? Math.min(maxRows, 50) : 20;
 
-        try (CSVReader inputReader = new CSVReaderBuilder(new FileReader(inputFilePath)).build();
-                CSVReader outputReader = new CSVReaderBuilder(new FileReader(outputFilePath)).build()) {
+        try (CSVReader inputReader = new CSVReaderBuilder(GzipFiles.newReader(Paths.get(inputFilePath))).build();
+                CSVReader outputReader = new CSVReaderBuilder(GzipFiles.newReader(Paths.get(outputFilePath))).build()) {
 
             String[] inputHeaders = inputReader.readNext();
             String[] outputHeaders = outputReader.readNext();
@@ -1,5 +1,7 @@
 package com.sourav.enterprise.sanitizer.service;
 
+import com.sourav.enterprise.sanitizer.storage.GzipFiles;
+import com.sourav.enterprise.sanitizer.storage.OutputCompression;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,12 +18,16 @@ import java.util.UUID;
 public class FileStorageService {
     private final Path inputDir;
     private final Path outputDir;
+    private final OutputCompression outputCompression;
 
     public FileStorageService(
             @Value("${sanitizer.storage.input-dir:./data/input}") String inputDir,
-            @Value("${sanitizer.storage.output-dir:./data/output}") String outputDir) throws IOException {
+            @Value("${sanitizer.storage.output-dir:./data/output}") String outputDir,
+            @Value("${sanitizer.storage.output-compression:auto}") OutputCompression outputCompression)
+            throws IOException {
         this.inputDir = Paths.get(inputDir).toAbsolutePath().normalize();
         this.outputDir = Paths.get(outputDir).toAbsolutePath().normalize();
+        this.outputCompression = outputCompression;
         Files.createDirectories(this.inputDir);
         Files.createDirectories(this.outputDir);
     }
@@ -33,7 +39,7 @@ public class FileStorageService {
         String baseName = "input", extension = ".csv";
 
         if (originalFilename != null && !originalFilename.isEmpty()) {
-            int dotIndex = originalFilename.lastIndexOf('.');
+            int dotIndex = extensionIndex(originalFilename);
             if (dotIndex > 0) {
                 baseName = originalFilename.substring(0, dotIndex);
                 extension = originalFilename.substring(dotIndex);
@@ -48,15 +54,45 @@ public class FileStorageService {
         return targetPath.toString();
     }
 
-    public String generateOutputPath(String inputFilePath) {
+    /**
+     * Names the output after the input. A ".gz" suffix is added or dropped
+     * according to the output compression; in auto mode the input's magic
+     * bytes decide, whatever its name.
+     */
+    public String generateOutputPath(String inputFilePath) throws IOException {
         Path inputPath = Paths.get(inputFilePath);
         String filename = inputPath.getFileName().toString();
+        if (GzipFiles.isGzipName(filename)) {
+            filename = filename.substring(0, filename.length() - GzipFiles.EXTENSION.length());
+        }
         int dotIndex = filename.lastIndexOf('.');
         String baseName = dotIndex > 0 ? filename.substring(0, dotIndex) : filename;
         String extension = dotIndex > 0 ? filename.substring(dotIndex) : ".csv";
+        boolean gzip = switch (outputCompression) {
+            case AUTO -> GzipFiles.isGzip(inputPath);
+            case NONE -> false;
+            case GZIP -> true;
+        };
+        if (gzip) {
+            extension += GzipFiles.EXTENSION;
+        }
         return outputDir.resolve(baseName + "_sanitized" + extension).toString();
     }
 
+    /**
+     * Index of the extension, taking ".csv.gz" as a single extension.
+     */
+    private static int extensionIndex(String filename) {
+        int dotIndex = filename.lastIndexOf('.');
+        if (dotIndex > 0 && GzipFiles.isGzipName(filename)) {
+            int innerDot = filename.lastIndexOf('.', dotIndex - 1);
+            if (innerDot > 0) {
+                return innerDot;
+            }
+        }
+        return dotIndex;
+    }
+
     public Path getInputDir() {
         return inputDir;
     }
@@ -0,0 +1,164 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.domain.enums.JobPhase;
+import com.sourav.enterprise.sanitizer.dto.JobProgress;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job Progress Publisher - Streams live job progress to server-sent event subscribers.
+ *
+ * Features:
+ * - Subscriptions to one job, completed once the job has finished, or to all jobs
+ * - Sends a "progress" event with the job's state whenever it changed since
+ *   the subscriber's last event, at most once per publish interval
+ * - Publishes from its own thread, so slow clients never hold up a job's chunks
+ * - Evicts finished jobs from the live job registry after their retention period
+ */
+@Service
+public class JobProgressPublisher {
+    private static final Logger log = LoggerFactory.getLogger(JobProgressPublisher.class);
+    static final String EVENT_NAME = "progress";
+
+    private final LiveJobRegistry registry;
+    private final long timeoutMillis;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    public JobProgressPublisher(LiveJobRegistry registry,
+            @Value("${sanitizer.progress.publish-interval-millis:1000}") long publishIntervalMillis,
+            @Value("${sanitizer.progress.sse-timeout-seconds:1800}") long timeoutSeconds) {
+        this.registry = registry;
+        this.timeoutMillis = timeoutSeconds * 1000;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("job-progress").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::publish, publishIntervalMillis, publishIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Streams the progress of one job, starting with its current state.
+     *
+     * @param current the job's state, for a job that is no longer in the registry
+     */
+    public SseEmitter subscribe(Long jobExecutionId, JobProgress current) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis), jobExecutionId);
+        if (registry.get(jobExecutionId).isEmpty()) {
+            // Finished before it could be watched live
+            subscriber.send(current);
+            subscriber.emitter.complete();
+            return subscriber.emitter;
+        }
+        return register(subscriber);
+    }
+
+    /**
+     * Streams the progress of all live jobs, starting with their current state.
+     */
+    public SseEmitter subscribeAll() {
+        return register(new Subscriber(new SseEmitter(timeoutMillis), null));
+    }
+
+    private SseEmitter register(Subscriber subscriber) {
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        publish(subscriber);
+        return subscriber.emitter;
+    }
+
+    private void publish() {
+        try {
+            for (Subscriber subscriber : subscribers) {
+                publish(subscriber);
+            }
+            registry.evictFinished();
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Failed to publish job progress: {}", e.getMessage());
+        }
+    }
+
+    private void publish(Subscriber subscriber) {
+        if (subscriber.jobExecutionId == null) {
+            subscriber.sendChanged(registry.getAll());
+            return;
+        }
+        Optional<JobProgress> progress = registry.get(subscriber.jobExecutionId);
+        progress.ifPresent(p -> subscriber.sendChanged(List.of(p)));
+        if (progress.isEmpty() || JobPhase.FINISHED.name().equals(progress.get().getPhase())) {
+            subscriber.emitter.complete();
+            subscribers.remove(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * An open event stream and the version of each job last sent to it.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long jobExecutionId;
+        private final Map<Long, Long> sentVersions = new HashMap<>();
+
+        private Subscriber(SseEmitter emitter, Long jobExecutionId) {
+            this.emitter = emitter;
+            this.jobExecutionId = jobExecutionId;
+        }
+
+        synchronized void sendChanged(List<JobProgress> jobs) {
+            Set<Long> live = new HashSet<>();
+            for (JobProgress progress : jobs) {
+                live.add(progress.getJobExecutionId());
+                Long sent = sentVersions.get(progress.getJobExecutionId());
+                if (sent == null || sent != progress.getVersion()) {
+                    if (!send(progress)) {
+                        return;
+                    }
+                    sentVersions.put(progress.getJobExecutionId(), progress.getVersion());
+                }
+            }
+            sentVersions.keySet().retainAll(live);
+        }
+
+        synchronized boolean send(JobProgress progress) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(String.valueOf(progress.getJobExecutionId()))
+                        .data(progress, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // The client went away
+                emitter.completeWithError(e);
+                subscribers.remove(this);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.domain.enums.JobPriority;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Job Queue - Bounded priority queue of waiting jobs with a limit on running ones.
+ *
+ * Features:
+ * - Orders entries by priority, then by submission order
+ * - Rejects offers once capacity entries are waiting
+ * - Hands out entries only while fewer than maxRunning have been started
+ * - Reports the 1-based position of a waiting entry
+ *
+ * Thread-safe; the payload is whatever the caller needs to start the job.
+ */
+public class JobQueue<T> {
+    private static final Comparator<Entry<?>> ORDER = Comparator
+            .comparing((Entry<?> entry) -> entry.priority).reversed()
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final int capacity;
+    private final int maxRunning;
+    private final TreeSet<Entry<T>> waiting = new TreeSet<>(ORDER);
+    private final Map<Long, Entry<T>> byId = new HashMap<>();
+    private long sequence;
+    private int running;
+
+    public JobQueue(int capacity, int maxRunning) {
+        this.capacity = capacity;
+        this.maxRunning = Math.max(1, maxRunning);
+    }
+
+    /**
+     * Adds a waiting entry.
+     *
+     * @return false if the queue is full
+     */
+    public synchronized boolean offer(long id, JobPriority priority, T payload) {
+        if (isFull()) {
+            return false;
+        }
+        Entry<T> entry = new Entry<>(id, priority, sequence++, payload);
+        waiting.add(entry);
+        byId.put(id, entry);
+        return true;
+    }
+
+    public synchronized boolean isFull() {
+        return waiting.size() >= capacity;
+    }
+
+    /**
+     * Takes the next entry to run and counts it as running.
+     *
+     * @return null if nothing is waiting or the running limit is reached
+     */
+    public synchronized T startNext() {
+        if (running >= maxRunning || waiting.isEmpty()) {
+            return null;
+        }
+        Entry<T> entry = waiting.pollFirst();
+        byId.remove(entry.id);
+        running++;
+        return entry.payload;
+    }
+
+    /**
+     * Marks a started entry as finished, freeing its running slot.
+     */
+    public synchronized void finished() {
+        running--;
+    }
+
+    /**
+     * Removes a waiting entry.
+     *
+     * @return its payload, or null if it is not waiting
+     */
+    public synchronized T remove(long id) {
+        Entry<T> entry = byId.remove(id);
+        if (entry == null) {
+            return null;
+        }
+        waiting.remove(entry);
+        return entry.payload;
+    }
+
+    /**
+     * Gets the 1-based position of a waiting entry, or null if it is not waiting.
+     */
+    public synchronized Integer position(long id) {
+        Entry<T> entry = byId.get(id);
+        return entry == null ? null : waiting.headSet(entry).size() + 1;
+    }
+
+    public synchronized int waitingCount() {
+        return waiting.size();
+    }
+
+    public synchronized int runningCount() {
+        return running;
+    }
+
+    private record Entry<T>(long id, JobPriority priority, long sequence, T payload) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.domain.entity.QueuedJob;
+import com.sourav.enterprise.sanitizer.domain.enums.JobPriority;
+import com.sourav.enterprise.sanitizer.exception.JobQueueFullException;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import com.sourav.enterprise.sanitizer.repository.QueuedJobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Job Queue Service - Runs submitted jobs on a dedicated executor behind a bounded, persistent queue.
+ *
+ * Features:
+ * - Creates the job execution up front, so callers get its id before the job starts
+ * - Starts at most max-concurrent-jobs jobs at once, highest priority first
+ * - Rejects submissions with a retry-after hint once the queue is full,
+ *   instead of tying up request threads
+ * - Persists waiting jobs, which are queued again after a restart
+ * - Stops waiting jobs without ever starting them
+ * - Registers waiting jobs with the live job registry
+ * - Exposes queue depth and running jobs as metrics
+ */
+@Service
+public class JobQueueService {
+    private static final Logger log = LoggerFactory.getLogger(JobQueueService.class);
+
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final QueuedJobRepository queuedJobRepository;
+    private final LiveJobRegistry liveJobRegistry;
+    private final JobQueue<QueuedRun> queue;
+    private final long retryAfterSeconds;
+    private final ExecutorService executor;
+
+    public JobQueueService(JobRepository jobRepository, JobExplorer jobExplorer,
+            QueuedJobRepository queuedJobRepository, LiveJobRegistry liveJobRegistry,
+            PipelineMetrics pipelineMetrics,
+            @Value("${sanitizer.queue.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${sanitizer.queue.capacity:100}") int capacity,
+            @Value("${sanitizer.queue.retry-after-seconds:30}") long retryAfterSeconds) {
+        this.jobRepository = jobRepository;
+        this.jobExplorer = jobExplorer;
+        this.queuedJobRepository = queuedJobRepository;
+        this.liveJobRegistry = liveJobRegistry;
+        this.queue = new JobQueue<>(capacity, maxConcurrentJobs);
+        pipelineMetrics.bindQueue(queue::waitingCount, queue::runningCount);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentJobs),
+                Thread.ofPlatform().name("sanitize-job-", 1).factory());
+    }
+
+    /**
+     * Creates an execution of the job and queues it.
+     *
+     * @throws JobQueueFullException if the queue has no room
+     */
+    public synchronized JobExecution submit(Job job, JobParameters jobParameters, JobPriority priority)
+            throws Exception {
+        if (queue.isFull()) {
+            throw new JobQueueFullException("Job queue is full (" + queue.waitingCount()
+                    + " jobs waiting); retry after " + retryAfterSeconds + " seconds", retryAfterSeconds);
+        }
+
+        job.getJobParametersValidator().validate(jobParameters);
+        // Marks the instance as running, so the same job cannot be queued twice
+        JobExecution execution = jobRepository.createJobExecution(job.getName(), jobParameters);
+        queuedJobRepository.save(QueuedJob.builder()
+                .jobExecutionId(execution.getId())
+                .priority(priority)
+                .enqueuedAt(LocalDateTime.now())
+                .build());
+        liveJobRegistry.queued(execution);
+        queue.offer(execution.getId(), priority, new QueuedRun(job, execution));
+
+        log.info("📥 Queued job {} [ID: {}, priority {}, position {}]", job.getName(), execution.getId(),
+                priority, queue.position(execution.getId()));
+        dispatch();
+        return execution;
+    }
+
+    /**
+     * Queues the executions left waiting by a previous run of the application.
+     *
+     * @param jobBuilder recreates the job of a queued execution from its parameters
+     */
+    public synchronized void recover(Function<JobParameters, Job> jobBuilder) {
+        for (QueuedJob queued : queuedJobRepository.findAllByOrderByEnqueuedAtAsc()) {
+            JobExecution execution = jobExplorer.getJobExecution(queued.getJobExecutionId());
+            if (execution == null || execution.getStatus() != BatchStatus.STARTING) {
+                queuedJobRepository.delete(queued);
+                continue;
+            }
+            try {
+                Job job = jobBuilder.apply(execution.getJobParameters());
+                liveJobRegistry.queued(execution);
+                queue.offer(execution.getId(), queued.getPriority(), new QueuedRun(job, execution));
+                log.info("📥 Requeued job {} [ID: {}, priority {}]", job.getName(), execution.getId(),
+                        queued.getPriority());
+            } catch (Exception e) {
+                log.error("❌ Cannot requeue job {}: {}", execution.getId(), e.getMessage());
+                queuedJobRepository.delete(queued);
+                finishUnstarted(execution, BatchStatus.FAILED,
+                        ExitStatus.FAILED.addExitDescription("Could not be requeued: " + e.getMessage()));
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * Removes a waiting job from the queue and records it as stopped.
+     *
+     * @return false if the job is not waiting
+     */
+    public synchronized boolean cancel(Long jobExecutionId) {
+        QueuedRun run = queue.remove(jobExecutionId);
+        if (run == null) {
+            return false;
+        }
+        queuedJobRepository.deleteById(jobExecutionId);
+        finishUnstarted(run.execution(), BatchStatus.STOPPED,
+                ExitStatus.STOPPED.addExitDescription("Stopped while queued"));
+        log.info("⏹️ Removed job {} from the queue", jobExecutionId);
+        return true;
+    }
+
+    /**
+     * Gets the 1-based queue position of a waiting job, or null if it is not waiting.
+     */
+    public Integer getQueuePosition(Long jobExecutionId) {
+        return queue.position(jobExecutionId);
+    }
+
+    private synchronized void dispatch() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        QueuedRun run;
+        while ((run = queue.startNext()) != null) {
+            queuedJobRepository.deleteById(run.execution().getId());
+            liveJobRegistry.dispatched(run.execution().getId());
+            QueuedRun started = run;
+            executor.execute(() -> execute(started));
+        }
+    }
+
+    private void execute(QueuedRun run) {
+        try {
+            run.job().execute(run.execution());
+        } catch (RuntimeException e) {
+            log.error("❌ Job {} ended unexpectedly: {}", run.execution().getId(), e.getMessage(), e);
+        } finally {
+            queue.finished();
+            dispatch();
+        }
+    }
+
+    private void finishUnstarted(JobExecution execution, BatchStatus status, ExitStatus exitStatus) {
+        execution.setStatus(status);
+        execution.setExitStatus(exitStatus);
+        execution.setEndTime(LocalDateTime.now());
+        jobRepository.update(execution);
+        liveJobRegistry.finished(execution);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Waiting jobs stay persisted and are requeued on the next startup
+        executor.shutdown();
+    }
+
+    private record QueuedRun(Job job, JobExecution execution) {
+    }
+}
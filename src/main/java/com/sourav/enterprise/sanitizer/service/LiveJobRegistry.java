@@ -0,0 +1,384 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.batch.partition.ByteRangePartitioner;
+import com.sourav.enterprise.sanitizer.batch.partition.PartitionSteps;
+import com.sourav.enterprise.sanitizer.batch.processor.SanitizationProcessor;
+import com.sourav.enterprise.sanitizer.batch.reader.CsvRecordReader;
+import com.sourav.enterprise.sanitizer.domain.enums.JobPhase;
+import com.sourav.enterprise.sanitizer.domain.enums.JobStatus;
+import com.sourav.enterprise.sanitizer.dto.JobProgress;
+import com.sourav.enterprise.sanitizer.storage.GzipFiles;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live Job Registry - In-memory state of the jobs queued, running and just finished.
+ *
+ * Features:
+ * - Fed by the job queue, the job and step lifecycle and every chunk commit,
+ *   so status reads of live jobs never touch the job repository
+ * - Sums row counts across partition worker steps as they commit
+ * - Derives the processing rate, and the completion and ETA from the input
+ *   bytes consumed (unknown for gzip input)
+ * - Keeps finished jobs for a retention period, so their last state is
+ *   still served while the job repository catches up
+ *
+ * Registered as a listener of every job and step; chunk commits are reported
+ * by the chunk progress listener.
+ */
+@Service
+public class LiveJobRegistry implements JobExecutionListener, StepExecutionListener {
+    private final Map<Long, LiveJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final long retentionNanos;
+
+    public LiveJobRegistry(@Value("${sanitizer.progress.retention-seconds:60}") long retentionSeconds) {
+        this.retentionNanos = retentionSeconds * 1_000_000_000L;
+    }
+
+    /**
+     * Registers a job execution waiting in the job queue.
+     */
+    public void queued(JobExecution execution) {
+        jobs.put(execution.getId(), new LiveJob(execution, versions.incrementAndGet()));
+    }
+
+    /**
+     * Marks a queued job as taken by a worker, until the job itself starts.
+     */
+    public void dispatched(Long jobExecutionId) {
+        LiveJob job = jobs.get(jobExecutionId);
+        if (job != null) {
+            job.dispatched(versions.incrementAndGet());
+        }
+    }
+
+    @Override
+    public void beforeJob(JobExecution execution) {
+        LiveJob job = jobs.computeIfAbsent(execution.getId(),
+                id -> new LiveJob(execution, versions.incrementAndGet()));
+        job.started(execution, versions.incrementAndGet());
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        LiveJob job = jobs.get(stepExecution.getJobExecutionId());
+        if (job != null) {
+            job.stepStarted(stepExecution, versions.incrementAndGet());
+        }
+    }
+
+    /**
+     * Records the counts and input offset of a chunk step after a chunk commit.
+     */
+    public void chunkCommitted(StepExecution stepExecution) {
+        LiveJob job = jobs.get(stepExecution.getJobExecutionId());
+        if (job != null) {
+            job.chunkCommitted(stepExecution, versions.incrementAndGet());
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        // Final counts include the skips of the last chunk. Only chunk steps have a reader
+        // offset; a partition manager's rolled-up counts would count its workers twice.
+        if (stepExecution.getExecutionContext().containsKey(CsvRecordReader.CURRENT_OFFSET_KEY)) {
+            chunkCommitted(stepExecution);
+        }
+        return null;
+    }
+
+    /**
+     * Marks a running job as stopping once a stop has been requested.
+     */
+    public void stopping(Long jobExecutionId) {
+        LiveJob job = jobs.get(jobExecutionId);
+        if (job != null) {
+            job.stopping(versions.incrementAndGet());
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution execution) {
+        finished(execution);
+    }
+
+    /**
+     * Records the final state of a job, including one stopped before it started.
+     */
+    public void finished(JobExecution execution) {
+        LiveJob job = jobs.computeIfAbsent(execution.getId(),
+                id -> new LiveJob(execution, versions.incrementAndGet()));
+        job.finished(execution, versions.incrementAndGet());
+    }
+
+    /**
+     * Gets the live state of a job, or empty if it is neither queued, running nor recently finished.
+     */
+    public Optional<JobProgress> get(Long jobExecutionId) {
+        LiveJob job = jobs.get(jobExecutionId);
+        return job != null ? Optional.of(job.snapshot()) : Optional.empty();
+    }
+
+    /**
+     * Gets the live state of all jobs, oldest first.
+     */
+    public List<JobProgress> getAll() {
+        return jobs.values().stream()
+                .map(LiveJob::snapshot)
+                .sorted((a, b) -> Long.compare(a.getJobExecutionId(), b.getJobExecutionId()))
+                .toList();
+    }
+
+    /**
+     * Forgets the jobs that finished longer than the retention period ago.
+     */
+    public void evictFinished() {
+        long now = System.nanoTime();
+        jobs.values().removeIf(job -> job.isFinishedBefore(now - retentionNanos));
+    }
+
+    /**
+     * Describes a job execution read from the job repository the way the
+     * registry describes live jobs.
+     */
+    public static JobProgress snapshotOf(JobExecution execution) {
+        LiveJob job = new LiveJob(execution, 0);
+        if (!execution.getStatus().isRunning()) {
+            job.finished(execution, 0);
+            return job.snapshot();
+        }
+        // Not live in this process: no rate or ETA
+        job.status = execution.getStatus().name();
+        job.startTime = execution.getStartTime();
+        if (execution.getStatus() != BatchStatus.STARTING) {
+            job.phase = JobPhase.SANITIZING;
+            job.countSteps(execution);
+        }
+        return job.snapshot();
+    }
+
+    private static JobPhase phaseOf(String stepName) {
+        if (stepName.startsWith("stitchStep-")) {
+            return JobPhase.STITCHING;
+        }
+        if (stepName.startsWith("compressStep-")) {
+            return JobPhase.COMPRESSING;
+        }
+        return JobPhase.SANITIZING;
+    }
+
+    /**
+     * Gets the size of a plain input file, or -1 for gzip input whose reader
+     * offsets are positions in the decompressed stream.
+     */
+    private static long inputSize(String inputFile) {
+        if (inputFile == null) {
+            return -1;
+        }
+        try {
+            Path path = Path.of(inputFile);
+            return GzipFiles.isGzip(path) ? -1 : Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Mutable state of one job execution; guarded by its own monitor.
+     */
+    private static final class LiveJob {
+        private final Long jobExecutionId;
+        private final String jobName;
+        private final String inputFile;
+        private final String outputFile;
+        private final Map<Long, StepProgress> steps = new HashMap<>();
+        private String status = JobStatus.PENDING.name();
+        private JobPhase phase = JobPhase.QUEUED;
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+        private String exitDescription;
+        private long inputBytes = -1;
+        private long startedNanos;
+        private long finishedNanos;
+        private long version;
+
+        private LiveJob(JobExecution execution, long version) {
+            this.jobExecutionId = execution.getId();
+            this.jobName = execution.getJobInstance().getJobName();
+            this.inputFile = execution.getJobParameters().getString("inputFile");
+            this.outputFile = execution.getJobParameters().getString("outputFile");
+            this.version = version;
+        }
+
+        synchronized void dispatched(long version) {
+            if (phase == JobPhase.QUEUED) {
+                status = BatchStatus.STARTING.name();
+                this.version = version;
+            }
+        }
+
+        synchronized void started(JobExecution execution, long version) {
+            status = execution.getStatus().name();
+            phase = JobPhase.SANITIZING;
+            startTime = execution.getStartTime();
+            startedNanos = System.nanoTime();
+            inputBytes = inputSize(inputFile);
+            this.version = version;
+        }
+
+        synchronized void stepStarted(StepExecution stepExecution, long version) {
+            phase = phaseOf(stepExecution.getStepName());
+            ExecutionContext context = stepExecution.getExecutionContext();
+            if (context.containsKey(CsvRecordReader.CURRENT_OFFSET_KEY)) {
+                // A restarted step resumes where its last run stopped
+                steps.computeIfAbsent(stepExecution.getId(), id -> new StepProgress())
+                        .resumedBytes = consumedBytes(context);
+            }
+            this.version = version;
+        }
+
+        synchronized void chunkCommitted(StepExecution stepExecution, long version) {
+            StepProgress step = steps.computeIfAbsent(stepExecution.getId(), id -> new StepProgress());
+            step.update(stepExecution);
+            this.version = version;
+        }
+
+        synchronized void stopping(long version) {
+            if (phase != JobPhase.FINISHED) {
+                status = BatchStatus.STOPPING.name();
+                this.version = version;
+            }
+        }
+
+        synchronized void finished(JobExecution execution, long version) {
+            status = execution.getStatus().name();
+            phase = JobPhase.FINISHED;
+            startTime = execution.getStartTime();
+            endTime = execution.getEndTime();
+            exitDescription = execution.getExitStatus().getExitDescription();
+            countSteps(execution);
+            finishedNanos = System.nanoTime();
+            this.version = version;
+        }
+
+        /**
+         * Replaces the chunk counts with the exact counts of the job's steps.
+         */
+        synchronized void countSteps(JobExecution execution) {
+            steps.clear();
+            for (StepExecution stepExecution : PartitionSteps.countable(execution.getStepExecutions())) {
+                StepProgress step = new StepProgress();
+                step.update(stepExecution);
+                steps.put(stepExecution.getId(), step);
+            }
+        }
+
+        synchronized boolean isFinishedBefore(long nanos) {
+            return phase == JobPhase.FINISHED && finishedNanos - nanos < 0;
+        }
+
+        synchronized JobProgress snapshot() {
+            long read = 0, written = 0, skipped = 0, hits = 0, misses = 0, evictions = 0;
+            long consumed = 0, resumed = 0;
+            for (StepProgress step : steps.values()) {
+                read += step.read;
+                written += step.written;
+                skipped += step.skipped;
+                hits += step.cacheHits;
+                misses += step.cacheMisses;
+                evictions += step.cacheEvictions;
+                consumed += step.consumedBytes;
+                resumed += Math.min(step.resumedBytes, step.consumedBytes);
+            }
+
+            JobProgress.JobProgressBuilder progress = JobProgress.builder()
+                    .jobExecutionId(jobExecutionId)
+                    .jobName(jobName)
+                    .status(status)
+                    .phase(phase.name())
+                    .inputFile(inputFile)
+                    .outputFile(outputFile)
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .rowsProcessed(read)
+                    .rowsWritten(written)
+                    .rowsSkipped(skipped)
+                    .cacheHits(hits)
+                    .cacheMisses(misses)
+                    .cacheEvictions(evictions)
+                    .exitDescription(exitDescription)
+                    .version(version);
+
+            if (phase == JobPhase.SANITIZING && startedNanos != 0) {
+                double seconds = (System.nanoTime() - startedNanos) / 1e9;
+                progress.rowsPerSecond(seconds > 0 ? read / seconds : 0.0);
+                if (inputBytes > 0) {
+                    long done = Math.min(consumed, inputBytes);
+                    progress.percentComplete(done * 100.0 / inputBytes);
+                    // From the bytes consumed by this run, not those of an earlier one
+                    double bytesPerSecond = seconds > 0 ? (consumed - resumed) / seconds : 0;
+                    if (bytesPerSecond > 0) {
+                        progress.etaSeconds(Math.round((inputBytes - done) / bytesPerSecond));
+                    }
+                }
+            } else if (phase == JobPhase.STITCHING || phase == JobPhase.COMPRESSING) {
+                progress.percentComplete(inputBytes > 0 ? 100.0 : null);
+            }
+            return progress.build();
+        }
+    }
+
+    /**
+     * Counts of one chunk step, as of its last chunk commit.
+     */
+    private static final class StepProgress {
+        private long read;
+        private long written;
+        private long skipped;
+        private long cacheHits;
+        private long cacheMisses;
+        private long cacheEvictions;
+        private long consumedBytes;
+        private long resumedBytes;
+
+        void update(StepExecution stepExecution) {
+            ExecutionContext context = stepExecution.getExecutionContext();
+            read = stepExecution.getReadCount();
+            written = stepExecution.getWriteCount();
+            skipped = stepExecution.getSkipCount();
+            cacheHits = context.getLong(SanitizationProcessor.CACHE_HITS_KEY, 0L);
+            cacheMisses = context.getLong(SanitizationProcessor.CACHE_MISSES_KEY, 0L);
+            cacheEvictions = context.getLong(SanitizationProcessor.CACHE_EVICTIONS_KEY, 0L);
+            if (context.containsKey(CsvRecordReader.CURRENT_OFFSET_KEY)) {
+                consumedBytes = consumedBytes(context);
+            }
+        }
+    }
+
+    /**
+     * Gets the input bytes a chunk step has consumed of its range.
+     */
+    private static long consumedBytes(ExecutionContext stepContext) {
+        return Math.max(0, stepContext.getLong(CsvRecordReader.CURRENT_OFFSET_KEY)
+                - ByteRangePartitioner.startOf(stepContext));
+    }
+}
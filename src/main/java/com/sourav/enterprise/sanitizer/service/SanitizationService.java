@@ -1,14 +1,28 @@
 package com.sourav.enterprise.sanitizer.service;
 
+import com.sourav.enterprise.sanitizer.domain.enums.JobPriority;
 import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.dto.JobProgress;
 import org.springframework.batch.core.JobExecution;
 
 public interface SanitizationService {
-    JobExecution startJob(String inputFilePath, String outputFilePath, SanitizationConfig config);
+    JobExecution startJob(String inputFilePath, String outputFilePath, SanitizationConfig config,
+            JobPriority priority);
 
-    JobExecution restartJob(Long jobExecutionId);
+    JobExecution restartJob(Long jobExecutionId, JobPriority priority);
 
     void stopJob(Long jobExecutionId);
 
     JobExecution getJobStatus(Long jobExecutionId);
+
+    /**
+     * Gets the progress of a job: from the live job registry while it is live,
+     * otherwise from the job repository. Null if the job does not exist.
+     */
+    JobProgress getJobProgress(Long jobExecutionId);
+
+    /**
+     * Gets the 1-based position of a job waiting in the job queue, or null if it is not waiting.
+     */
+    Integer getQueuePosition(Long jobExecutionId);
 }
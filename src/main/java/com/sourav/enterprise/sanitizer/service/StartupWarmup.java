@@ -0,0 +1,103 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.batch.config.SanitizationJobFactory;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvGenerator;
+import com.sourav.enterprise.sanitizer.datagen.SyntheticCsvSpec;
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Startup Warm-up - Runs the sanitization path over synthetic rows before the
+ * application reports itself ready, so the first job runs JIT-compiled code.
+ *
+ * Features:
+ * - Generates a synthetic CSV with every PII column kind and unique values,
+ *   so memo caches do not spare the strategies
+ * - Applies every operation with the configured reader and writer engines
+ * - Runs as an application runner: readiness (/actuator/health/readiness,
+ *   /api/v1/health) only switches to accepting traffic once it is done,
+ *   and jobs left waiting are requeued after it
+ * - A failed warm-up is logged and the application starts cold
+ */
+@Service
+public class StartupWarmup implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final SanitizationConfig RULES = SanitizationConfig.builder()
+            .columns(Map.of(
+                    "name", SanitizationOperation.RANDOMIZE,
+                    "email", SanitizationOperation.HASH,
+                    "phone", SanitizationOperation.MASK,
+                    "address", SanitizationOperation.RANDOMIZE,
+                    "ssn", SanitizationOperation.NULLIFY,
+                    "text", SanitizationOperation.MASK))
+            .build();
+
+    private final SanitizationJobFactory jobFactory;
+    private final boolean enabled;
+    private final long rows;
+    private final int chunkSize;
+    private volatile long warmedUpRows;
+
+    public StartupWarmup(SanitizationJobFactory jobFactory,
+            @Value("${sanitizer.warmup.enabled:false}") boolean enabled,
+            @Value("${sanitizer.warmup.rows:200000}") long rows,
+            @Value("${sanitizer.batch.chunk-size:1000}") int chunkSize) {
+        this.jobFactory = jobFactory;
+        this.enabled = enabled;
+        this.rows = rows;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || rows <= 0) {
+            return;
+        }
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("sanitizer-warmup-");
+            long start = System.nanoTime();
+            Path input = directory.resolve("warmup.csv");
+            new SyntheticCsvGenerator(SyntheticCsvSpec.builder().rows(rows).cardinality(rows).build()).write(input);
+            long sanitized = warmedUpRows = jobFactory.warmUp(input.toString(), directory.resolve("warmup-out.csv").toString(),
+                    RULES, chunkSize);
+            log.info("🔥 Warm-up sanitized {} synthetic rows in {} ms", sanitized,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("⚠️ Warm-up failed, the first jobs will run cold: {}", e.getMessage());
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * Gets the number of rows the warm-up sanitized, 0 if it was disabled or failed.
+     */
+    public long getWarmedUpRows() {
+        return warmedUpRows;
+    }
+
+    private static void delete(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            log.warn("⚠️ Cannot delete warm-up files in {}: {}", directory, e.getMessage());
+        }
+    }
+}
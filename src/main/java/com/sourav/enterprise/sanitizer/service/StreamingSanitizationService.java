@@ -0,0 +1,300 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import com.opencsv.exceptions.CsvValidationException;
+import com.sourav.enterprise.sanitizer.batch.processor.ColumnProfiler;
+import com.sourav.enterprise.sanitizer.batch.processor.SanitizationPlan;
+import com.sourav.enterprise.sanitizer.batch.processor.SanitizationProcessor;
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.exception.InvalidConfigurationException;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategyFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Streaming Sanitization Service - Sanitizes a CSV stream into another stream,
+ * without files, a job or the job repository.
+ *
+ * Features:
+ * - Same column rules, strategy plan, profiling and memo caches as batch jobs
+ * - Constant memory: one row at a time, plus the profiling sample and the
+ *   bounded memo caches; the sample stops at a fixed number of characters
+ *   as well as rows, so long rows do not multiply its size
+ * - Reads the input only as fast as the output is written, so a slow reader
+ *   of the output holds back the input
+ * - Flushes the output every chunk-size rows
+ * - Skips rows that fail to parse or sanitize, up to the skip limit
+ * - Bounds the characters of one record, so that an unterminated quote
+ *   cannot buffer the rest of the input
+ */
+@Service
+public class StreamingSanitizationService {
+    private static final Logger log = LoggerFactory.getLogger(StreamingSanitizationService.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Like the chunk size sample, bounds the profiling sample whatever the row length
+    static final long MAX_SAMPLE_CHARS = 4 * 1024 * 1024;
+
+    private final SanitizationStrategyFactory strategyFactory;
+    private final PipelineMetrics pipelineMetrics;
+    private final int profileSampleRows;
+    private final int memoCacheSize;
+    private final int flushRows;
+    private final int skipLimit;
+    private final long maxRecordChars;
+
+    public StreamingSanitizationService(SanitizationStrategyFactory strategyFactory, PipelineMetrics pipelineMetrics,
+            @Value("${sanitizer.batch.profile-sample-rows:1000}") int profileSampleRows,
+            @Value("${sanitizer.batch.memo-cache-size:10000}") int memoCacheSize,
+            @Value("${sanitizer.batch.chunk-size:1000}") int flushRows,
+            @Value("${sanitizer.batch.skip-limit:100}") int skipLimit,
+            @Value("${sanitizer.stream.max-record-chars:1048576}") long maxRecordChars) {
+        this.strategyFactory = strategyFactory;
+        this.pipelineMetrics = pipelineMetrics;
+        this.profileSampleRows = profileSampleRows;
+        this.memoCacheSize = memoCacheSize;
+        this.flushRows = Math.max(1, flushRows);
+        this.skipLimit = skipLimit;
+        // Reads are counted per buffer fill, so leave room for one fill
+        this.maxRecordChars = Math.max(maxRecordChars, BUFFER_SIZE);
+    }
+
+    /**
+     * Reads the header and the profiling sample of a UTF-8 CSV stream and
+     * compiles the column rules against the header, so that invalid rules
+     * fail before any output is written.
+     *
+     * @throws InvalidConfigurationException if the input has no header, a
+     *                                       rule names an unknown column or
+     *                                       a record of the sample is too long
+     */
+    public SanitizingStream open(InputStream input, SanitizationConfig config) throws IOException {
+        if (config == null || config.getColumns() == null || config.getColumns().isEmpty()) {
+            throw new InvalidConfigurationException("At least one column rule is required");
+        }
+        BoundedReader bounded = new BoundedReader(new InputStreamReader(input, StandardCharsets.UTF_8), maxRecordChars);
+        CSVReader reader = new CSVReaderBuilder(bounded)
+                .withVerifyReader(false)
+                .build();
+        try {
+            String[] headers = reader.readNext();
+            if (headers == null || headers.length == 0) {
+                throw new InvalidConfigurationException("Empty or invalid CSV input");
+            }
+            SanitizingStream stream = new SanitizingStream(reader, bounded, headers);
+            SanitizationPlan plan = SanitizationPlan.compile(config, stream.schema, strategyFactory);
+            if (profileSampleRows > 0) {
+                stream.readSample(profileSampleRows);
+                plan = ColumnProfiler.profile(plan, stream.sample);
+            }
+            stream.processor = new SanitizationProcessor(plan, memoCacheSize, pipelineMetrics);
+            return stream;
+        } catch (CsvValidationException e) {
+            reader.close();
+            throw new InvalidConfigurationException("Invalid CSV header: " + e.getMessage());
+        } catch (RecordTooLongException e) {
+            reader.close();
+            throw new InvalidConfigurationException(e.getMessage());
+        } catch (RuntimeException | IOException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * A CSV stream whose header has been read and whose plan is compiled.
+     * Not thread-safe; write it once.
+     */
+    public final class SanitizingStream {
+        private final CSVReader reader;
+        private final BoundedReader bounded;
+        private final String[] headers;
+        private final CsvSchema schema;
+        private final Deque<CsvRecord> sample = new ArrayDeque<>();
+        private long sampleChars;
+        private SanitizationProcessor processor;
+        private long line;
+        private long skipped;
+
+        private SanitizingStream(CSVReader reader, BoundedReader bounded, String[] headers) {
+            this.reader = reader;
+            this.bounded = bounded;
+            this.headers = headers;
+            this.schema = new CsvSchema(headers);
+        }
+
+        private void readSample(int rows) throws IOException {
+            for (CsvRecord record; sample.size() < rows && sampleChars < MAX_SAMPLE_CHARS
+                    && (record = read()) != null; ) {
+                sample.add(record);
+                for (String value : record.getValues()) {
+                    sampleChars += value.length();
+                }
+            }
+        }
+
+        /**
+         * Gets the characters held by the profiling sample when it was read.
+         */
+        long getSampleChars() {
+            return sampleChars;
+        }
+
+        /**
+         * Writes the header and the sanitized rows to the output, without
+         * closing it, and closes the input.
+         *
+         * @throws IOException if either stream fails or more rows than the
+         *                     skip limit cannot be sanitized
+         */
+        public void writeTo(OutputStream output) throws IOException {
+            long start = System.nanoTime();
+            long written = 0;
+            int pending = 0;
+            long skippedBefore = 0;
+            CSVWriter writer = new CSVWriter(new BufferedWriter(
+                    new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE));
+            try (reader) {
+                writer.writeNext(headers);
+                for (CsvRecord record = next(); record != null; record = next()) {
+                    CsvRecord sanitized;
+                    try {
+                        sanitized = processor.process(record);
+                    } catch (Exception e) {
+                        skip("Skipping line " + record.getLineNumber() + ": " + e.getMessage());
+                        continue;
+                    }
+                    writer.writeNext(sanitized.getValues());
+                    if (++pending == flushRows) {
+                        writer.flush();
+                        written += pending;
+                        pipelineMetrics.rows(pending + skipped - skippedBefore, pending, skipped - skippedBefore);
+                        pending = 0;
+                        skippedBefore = skipped;
+                    }
+                }
+                writer.flush();
+                written += pending;
+                pipelineMetrics.rows(pending + skipped - skippedBefore, pending, skipped - skippedBefore);
+            }
+            log.info("🌊 Streamed {} rows ({} skipped) in {} ms", written, skipped,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+
+        /**
+         * Takes the next row from the profiling sample, then from the input.
+         */
+        private CsvRecord next() throws IOException {
+            CsvRecord record = sample.poll();
+            return record != null ? record : read();
+        }
+
+        /**
+         * Reads the next row, padding short rows like the batch reader and
+         * skipping rows that cannot be parsed. A record longer than the limit
+         * ends the stream, since the rest of the input cannot be resynchronized.
+         */
+        private CsvRecord read() throws IOException {
+            while (true) {
+                String[] values;
+                bounded.startRecord();
+                try {
+                    values = reader.readNext();
+                } catch (CsvValidationException e) {
+                    line++;
+                    skip("Skipping unparseable line " + line + ": " + e.getMessage());
+                    continue;
+                } catch (CsvMalformedLineException e) {
+                    // An unterminated quoted field runs to the end of the input
+                    line++;
+                    skip("Skipping unterminated line " + line + ": " + e.getMessage());
+                    return null;
+                }
+                if (values == null) {
+                    return null;
+                }
+                line++;
+                String[] row = new String[schema.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = i < values.length ? values[i] : "";
+                }
+                return new CsvRecord(line, schema, row);
+            }
+        }
+
+        private void skip(String message) throws IOException {
+            if (++skipped > skipLimit) {
+                throw new IOException("Skip limit of " + skipLimit + " exceeded. " + message);
+            }
+            log.warn("⚠️ {}", message);
+        }
+    }
+
+    /**
+     * Fails a read once more than the limit of characters were read since the
+     * current record started.
+     */
+    private static final class BoundedReader extends FilterReader {
+        private final long limit;
+        private long count;
+
+        private BoundedReader(Reader in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        private void startRecord() {
+            count = 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c >= 0) {
+                count(1);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws RecordTooLongException {
+            count += n;
+            if (count > limit) {
+                throw new RecordTooLongException("CSV record longer than " + limit + " characters");
+            }
+        }
+    }
+
+    private static final class RecordTooLongException extends IOException {
+        private RecordTooLongException(String message) {
+            super(message);
+        }
+    }
+}
@@ -2,38 +2,43 @@ package com.sourav.enterprise.sanitizer.service.impl;
 
 import com.sourav.enterprise.sanitizer.batch.config.JobConfig;
 import com.sourav.enterprise.sanitizer.batch.config.SanitizationJobFactory;
+import com.sourav.enterprise.sanitizer.domain.enums.JobPriority;
 import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.dto.JobProgress;
 import com.sourav.enterprise.sanitizer.exception.InvalidConfigurationException;
 import com.sourav.enterprise.sanitizer.exception.JobExecutionException;
+import com.sourav.enterprise.sanitizer.exception.JobQueueFullException;
+import com.sourav.enterprise.sanitizer.service.JobQueueService;
+import com.sourav.enterprise.sanitizer.service.LiveJobRegistry;
 import com.sourav.enterprise.sanitizer.service.SanitizationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
 import org.springframework.batch.core.explore.JobExplorer;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Sanitization Service Implementation - Orchestrates batch sanitization jobs.
  * 
  * Responsibilities:
  * - Validates job configurations
- * - Creates and launches jobs using the factory
+ * - Creates jobs using the factory and submits them to the job queue
  * - Handles job restart and stop operations
- * - Provides job status queries
+ * - Provides job status queries, served from the live job registry while jobs are live
  */
 @Service
 public class SanitizationServiceImpl implements SanitizationService {
     private static final Logger log = LoggerFactory.getLogger(SanitizationServiceImpl.class);
 
-    private final JobLauncher jobLauncher;
+    private final JobQueueService jobQueue;
+    private final LiveJobRegistry liveJobRegistry;
     private final JobExplorer jobExplorer;
     private final JobOperator jobOperator;
     private final SanitizationJobFactory jobFactory;
@@ -45,10 +50,11 @@ public class SanitizationServiceImpl implements SanitizationService {
     @Value("${sanitizer.batch.skip-limit:100}")
     private int skipLimit;
 
-    public SanitizationServiceImpl(JobLauncher jobLauncher, JobExplorer jobExplorer,
+    public SanitizationServiceImpl(JobQueueService jobQueue, LiveJobRegistry liveJobRegistry, JobExplorer jobExplorer,
             JobOperator jobOperator, SanitizationJobFactory jobFactory,
             ObjectMapper objectMapper) {
-        this.jobLauncher = jobLauncher;
+        this.jobQueue = jobQueue;
+        this.liveJobRegistry = liveJobRegistry;
         this.jobExplorer = jobExplorer;
         this.jobOperator = jobOperator;
         this.jobFactory = jobFactory;
@@ -56,7 +62,8 @@ public class SanitizationServiceImpl implements SanitizationService {
     }
 
     @Override
-    public JobExecution startJob(String inputFilePath, String outputFilePath, SanitizationConfig config) {
+    public JobExecution startJob(String inputFilePath, String outputFilePath, SanitizationConfig config,
+            JobPriority priority) {
         // Validate inputs
         validateConfig(config);
         validateInputFile(inputFilePath);
@@ -72,20 +79,14 @@ public class SanitizationServiceImpl implements SanitizationService {
             log.info("📋 {}", jobConfig.getDescription());
 
             // Build job parameters
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addString("inputFile", inputFilePath)
-                    .addString("outputFile", outputFilePath)
-                    .addString("rulesJson", rulesJson)
-                    .addString("jobId", jobConfig.getJobId())
-                    .addString("timestamp", LocalDateTime.now().format(
-                            DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")))
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters();
-
-            // Create and launch job
+            JobParameters jobParameters = jobConfig.toJobParameters();
+
+            // Create and queue job
             Job job = jobFactory.createJob(jobConfig, config);
-            return jobLauncher.run(job, jobParameters);
+            return jobQueue.submit(job, jobParameters, priority);
 
+        } catch (InvalidConfigurationException | JobQueueFullException e) {
+            throw e;
         } catch (Exception e) {
             log.error("❌ Failed to start job: {}", e.getMessage());
             throw new JobExecutionException("Failed to start job", e);
@@ -93,7 +94,7 @@ public class SanitizationServiceImpl implements SanitizationService {
     }
 
     @Override
-    public JobExecution restartJob(Long jobExecutionId) {
+    public JobExecution restartJob(Long jobExecutionId, JobPriority priority) {
         try {
             JobExecution original = jobExplorer.getJobExecution(jobExecutionId);
             if (original == null) {
@@ -106,31 +107,56 @@ public class SanitizationServiceImpl implements SanitizationService {
             }
 
             JobParameters params = original.getJobParameters();
-            SanitizationConfig config = objectMapper.readValue(
-                    params.getString("rulesJson"), SanitizationConfig.class);
-
-            // Create new job config for restart
-            JobConfig jobConfig = JobConfig.create(
-                    params.getString("inputFile"),
-                    params.getString("outputFile"),
-                    config.getColumns(),
-                    params.getString("rulesJson"),
-                    chunkSize, skipLimit);
-
-            JobParameters newParams = new JobParametersBuilder(params)
-                    .addLong("restart.time", System.currentTimeMillis())
-                    .toJobParameters();
+            Job job = buildJob(params);
+            String instanceName = original.getJobInstance().getJobName();
+            if (!job.getName().equals(instanceName)) {
+                throw new JobExecutionException("Cannot resume job instance: " + instanceName);
+            }
 
-            Job job = jobFactory.createJob(jobConfig, config);
-            log.info("🔄 Restarting job {} as {}", jobExecutionId, jobConfig.getJobName());
+            log.info("🔄 Restarting job {} ({}) from its last checkpoint", jobExecutionId, instanceName);
 
-            return jobLauncher.run(job, newParams);
+            // Identical parameters resume the failed instance and its step execution context
+            return jobQueue.submit(job, params, priority);
 
+        } catch (JobQueueFullException e) {
+            throw e;
         } catch (Exception e) {
             throw new JobExecutionException("Failed to restart job", e);
         }
     }
 
+    /**
+     * Requeues the jobs that were waiting when the application last stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void requeueWaitingJobs() {
+        jobQueue.recover(params -> {
+            try {
+                return buildJob(params);
+            } catch (Exception e) {
+                throw new JobExecutionException("Cannot rebuild job " + params.getString("jobId"), e);
+            }
+        });
+    }
+
+    /**
+     * Recreates a submitted job from its parameters, under its original job name.
+     */
+    private Job buildJob(JobParameters params) throws Exception {
+        SanitizationConfig config = objectMapper.readValue(
+                params.getString("rulesJson"), SanitizationConfig.class);
+
+        JobConfig jobConfig = JobConfig.restore(
+                params.getString("jobId"),
+                params.getString("inputFile"),
+                params.getString("outputFile"),
+                config.getColumns(),
+                params.getString("rulesJson"),
+                chunkSize, skipLimit);
+
+        return jobFactory.createJob(jobConfig, config);
+    }
+
     @Override
     public void stopJob(Long jobExecutionId) {
         try {
@@ -138,12 +164,16 @@ public class SanitizationServiceImpl implements SanitizationService {
             if (execution == null) {
                 throw new JobExecutionException("Job not found: " + jobExecutionId);
             }
+            if (jobQueue.cancel(jobExecutionId)) {
+                return;
+            }
             if (!execution.isRunning()) {
                 throw new JobExecutionException("Job is not running");
             }
 
             log.info("⏹️ Stopping job {}", jobExecutionId);
             jobOperator.stop(jobExecutionId);
+            liveJobRegistry.stopping(jobExecutionId);
 
         } catch (Exception e) {
             throw new JobExecutionException("Failed to stop job", e);
@@ -155,6 +185,19 @@ public class SanitizationServiceImpl implements SanitizationService {
         return jobExplorer.getJobExecution(jobExecutionId);
     }
 
+    @Override
+    public JobProgress getJobProgress(Long jobExecutionId) {
+        return liveJobRegistry.get(jobExecutionId).orElseGet(() -> {
+            JobExecution execution = jobExplorer.getJobExecution(jobExecutionId);
+            return execution != null ? LiveJobRegistry.snapshotOf(execution) : null;
+        });
+    }
+
+    @Override
+    public Integer getQueuePosition(Long jobExecutionId) {
+        return jobQueue.getQueuePosition(jobExecutionId);
+    }
+
     private void validateConfig(SanitizationConfig config) {
         if (config == null || config.getColumns() == null || config.getColumns().isEmpty()) {
             throw new InvalidConfigurationException("At least one column rule is required");
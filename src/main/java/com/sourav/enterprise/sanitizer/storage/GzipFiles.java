@@ -0,0 +1,68 @@
+package com.sourav.enterprise.sanitizer.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Gzip helpers for CSV files.
+ * Input is recognized by the gzip magic bytes, whatever its name; output is
+ * compressed when its name ends with ".gz".
+ */
+public final class GzipFiles {
+    public static final String EXTENSION = ".gz";
+    private static final int MAGIC_1 = 0x1F;
+    private static final int MAGIC_2 = 0x8B;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private GzipFiles() {
+    }
+
+    /**
+     * Checks the first two bytes of a file for the gzip magic number.
+     */
+    public static boolean isGzip(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.read() == MAGIC_1 && in.read() == MAGIC_2;
+        }
+    }
+
+    /**
+     * Whether a file written to this path should be gzip-compressed.
+     */
+    public static boolean isGzipName(String fileName) {
+        return fileName.endsWith(EXTENSION);
+    }
+
+    /**
+     * Opens a file, decompressing it on the fly when it is gzip.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        return decompressing(Files.newInputStream(file));
+    }
+
+    /**
+     * Wraps a stream so that gzip content is decompressed on the fly; other
+     * content is passed through unchanged.
+     */
+    public static InputStream decompressing(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        buffered.mark(2);
+        boolean gzip = buffered.read() == MAGIC_1 && buffered.read() == MAGIC_2;
+        buffered.reset();
+        return gzip ? new GZIPInputStream(buffered, BUFFER_SIZE) : buffered;
+    }
+
+    /**
+     * Opens a CSV file as UTF-8 text, decompressing it when it is gzip.
+     */
+    public static Reader newReader(Path file) throws IOException {
+        return new InputStreamReader(newInputStream(file), StandardCharsets.UTF_8);
+    }
+}
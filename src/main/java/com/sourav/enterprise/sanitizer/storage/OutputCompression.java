@@ -0,0 +1,14 @@
+package com.sourav.enterprise.sanitizer.storage;
+
+/**
+ * Compression of sanitized output files, selectable via
+ * {@code sanitizer.storage.output-compression}.
+ */
+public enum OutputCompression {
+    /** Gzip output for gzip input, plain output otherwise */
+    AUTO,
+    /** Always plain CSV */
+    NONE,
+    /** Always gzip, compressed in parallel blocks */
+    GZIP
+}
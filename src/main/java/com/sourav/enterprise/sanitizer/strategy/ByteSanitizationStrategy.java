@@ -0,0 +1,22 @@
+package com.sourav.enterprise.sanitizer.strategy;
+
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+
+/**
+ * Optional byte-level contract for strategies that can sanitize a UTF-8
+ * slice without decoding it. The result is appended to a caller-provided
+ * buffer that is reused across values, so implementations should not
+ * allocate on the hot path.
+ *
+ * For the same value and type the appended bytes must equal the UTF-8
+ * encoding of {@link SanitizationStrategy#apply(String, SemanticType)}.
+ */
+public interface ByteSanitizationStrategy {
+
+    /**
+     * Sanitizes {@code src[offset, offset + length)} and appends the result to {@code out}.
+     * Called for non-empty values only. A null or MIXED type means the type is unknown.
+     */
+    void apply(byte[] src, int offset, int length, SemanticType type, FieldBuffer out);
+}
@@ -1,16 +1,22 @@
 package com.sourav.enterprise.sanitizer.strategy;
 
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
 
 @Component
-public class HashStrategy implements SanitizationStrategy {
+public class HashStrategy implements SanitizationStrategy, ByteSanitizationStrategy {
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
     private final String algorithm;
     private final ThreadLocal<MessageDigest> digestHolder;
+    private final ThreadLocal<byte[]> hashHolder;
 
     public HashStrategy(@Value("${sanitizer.defaults.hash-algorithm:SHA-256}") String algorithm) {
         this.algorithm = algorithm;
@@ -21,6 +27,7 @@ public class HashStrategy implements SanitizationStrategy {
                 throw new RuntimeException("Hash algorithm not available: " + algorithm, e);
             }
         });
+        this.hashHolder = ThreadLocal.withInitial(() -> new byte[digestHolder.get().getDigestLength()]);
     }
 
     @Override
@@ -33,6 +40,23 @@ public class HashStrategy implements SanitizationStrategy {
         return HexFormat.of().formatHex(hashBytes);
     }
 
+    @Override
+    public void apply(byte[] src, int offset, int length, SemanticType type, FieldBuffer out) {
+        MessageDigest digest = digestHolder.get();
+        byte[] hash = hashHolder.get();
+        digest.reset();
+        digest.update(src, offset, length);
+        try {
+            digest.digest(hash, 0, hash.length);
+        } catch (DigestException e) {
+            throw new IllegalStateException("Hash digest failed: " + algorithm, e);
+        }
+        for (byte b : hash) {
+            out.write(HEX_DIGITS[(b >> 4) & 0xF]);
+            out.write(HEX_DIGITS[b & 0xF]);
+        }
+    }
+
     @Override
     public String getStrategyName() {
         return "HASH(" + algorithm + ")";
@@ -1,18 +1,23 @@
 package com.sourav.enterprise.sanitizer.strategy;
 
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
 
 @Component
-public class MaskStrategy implements SanitizationStrategy {
+public class MaskStrategy implements SanitizationStrategy, ByteSanitizationStrategy {
     private final char maskChar;
     private final int visibleChars;
+    private final byte[] maskBytes;
 
     public MaskStrategy(
             @Value("${sanitizer.defaults.mask-char:*}") char maskChar,
             @Value("${sanitizer.defaults.mask-visible-chars:4}") int visibleChars) {
         this.maskChar = maskChar;
         this.visibleChars = visibleChars;
+        this.maskBytes = String.valueOf(maskChar).getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
@@ -22,13 +27,28 @@ public class MaskStrategy implements SanitizationStrategy {
         int length = value.length();
         if (length <= visibleChars)
             return String.valueOf(maskChar).repeat(length);
-        if (value.contains("@"))
+        if (value.indexOf('@') >= 0)
             return maskEmail(value);
-        if (isPhoneNumber(value))
+        if (ValueClassifier.isPhoneNumber(value))
             return maskPhone(value);
         return maskDefault(value);
     }
 
+    @Override
+    public String apply(String value, SemanticType type) {
+        if (value == null || value.isEmpty() || value.length() <= visibleChars || type == null)
+            return apply(value);
+        // The profiled type only covers the sampled rows: values that do not
+        // look like it take the per-value path, so nothing is left in clear
+        return switch (type) {
+            case EMAIL -> value.indexOf('@') > 0 ? maskEmail(value) : apply(value);
+            case PHONE -> ValueClassifier.isPhoneNumber(value) ? maskPhone(value) : apply(value);
+            case NAME, NUMERIC -> maskDefault(value);
+            // Free text and addresses may still hold an '@' or a phone number
+            default -> apply(value);
+        };
+    }
+
     private String maskEmail(String email) {
         int atIndex = email.indexOf('@');
         if (atIndex <= 0)
@@ -66,9 +86,113 @@ public class MaskStrategy implements SanitizationStrategy {
         return value.substring(0, show) + String.valueOf(maskChar).repeat(value.length() - show);
     }
 
-    private boolean isPhoneNumber(String value) {
-        String cleaned = value.replaceAll("[\\s\\-().+]", "");
-        return cleaned.matches("\\d{7,15}");
+    /**
+     * Masks ASCII values directly on the bytes, where one byte is one character.
+     * Other values take the String path so that character counts stay the same.
+     */
+    @Override
+    public void apply(byte[] src, int offset, int length, SemanticType type, FieldBuffer out) {
+        if (!isAscii(src, offset, length)) {
+            String value = new String(src, offset, length, StandardCharsets.UTF_8);
+            out.write(apply(value, type).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (length <= visibleChars) {
+            out.fill(maskBytes, length);
+            return;
+        }
+        SemanticType hint = type == null ? SemanticType.MIXED : type;
+        if (hint == SemanticType.EMAIL && indexOf(src, offset, length, (byte) '@') <= 0
+                || hint == SemanticType.PHONE && !ValueClassifier.isPhoneNumber(src, offset, length)) {
+            hint = SemanticType.MIXED;
+        }
+        switch (hint) {
+            case EMAIL -> maskEmail(src, offset, length, out);
+            case PHONE -> maskPhone(src, offset, length, out);
+            case NAME, NUMERIC -> maskDefault(src, offset, length, out);
+            default -> {
+                if (indexOf(src, offset, length, (byte) '@') >= 0)
+                    maskEmail(src, offset, length, out);
+                else if (ValueClassifier.isPhoneNumber(src, offset, length))
+                    maskPhone(src, offset, length, out);
+                else
+                    maskDefault(src, offset, length, out);
+            }
+        }
+    }
+
+    private void maskEmail(byte[] src, int offset, int length, FieldBuffer out) {
+        int atIndex = indexOf(src, offset, length, (byte) '@');
+        if (atIndex <= 0) {
+            maskDefault(src, offset, length, out);
+            return;
+        }
+        if (atIndex > 2) {
+            out.write(src, offset, 2);
+            out.fill(maskBytes, atIndex - 2);
+        } else {
+            out.fill(maskBytes, atIndex);
+        }
+        out.write((byte) '@');
+        int domainStart = offset + atIndex + 1;
+        int domainLength = length - atIndex - 1;
+        int dotIndex = lastIndexOf(src, domainStart, domainLength, (byte) '.');
+        if (dotIndex > 0) {
+            out.fill(maskBytes, dotIndex);
+            out.write(src, domainStart + dotIndex, domainLength - dotIndex);
+        } else {
+            out.fill(maskBytes, domainLength);
+        }
+    }
+
+    private void maskPhone(byte[] src, int offset, int length, FieldBuffer out) {
+        int totalDigits = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (isDigit(src[i]))
+                totalDigits++;
+        }
+        int showLast = Math.min(visibleChars, totalDigits);
+        int digitCount = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (isDigit(src[i]) && ++digitCount <= totalDigits - showLast)
+                out.fill(maskBytes, 1);
+            else
+                out.write(src[i]);
+        }
+    }
+
+    private void maskDefault(byte[] src, int offset, int length, FieldBuffer out) {
+        int show = Math.min(visibleChars, length / 2);
+        out.write(src, offset, show);
+        out.fill(maskBytes, length - show);
+    }
+
+    private static boolean isAscii(byte[] src, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (src[i] < 0)
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int indexOf(byte[] src, int offset, int length, byte b) {
+        for (int i = 0; i < length; i++) {
+            if (src[offset + i] == b)
+                return i;
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(byte[] src, int offset, int length, byte b) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (src[offset + i] == b)
+                return i;
+        }
+        return -1;
     }
 
     @Override
@@ -0,0 +1,54 @@
+package com.sourav.enterprise.sanitizer.strategy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+
+/**
+ * Caches the results of a deterministic strategy for one column.
+ *
+ * Bounded by entry count with Caffeine's frequency-aware (W-TinyLFU)
+ * eviction, so values that repeat across many rows stay cached while
+ * one-off values are evicted first. Only wrap strategies whose output
+ * depends on the input value alone.
+ */
+public class MemoizingStrategy implements SanitizationStrategy {
+    private final SanitizationStrategy delegate;
+    private final Cache<String, String> cache;
+
+    public MemoizingStrategy(SanitizationStrategy delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public String apply(String value) {
+        if (value == null || value.isEmpty())
+            return value;
+        return cache.get(value, delegate::apply);
+    }
+
+    /**
+     * The type is fixed per column, so the value alone is the cache key.
+     */
+    @Override
+    public String apply(String value, SemanticType type) {
+        if (value == null || value.isEmpty())
+            return value;
+        return cache.get(value, v -> delegate.apply(v, type));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public String getStrategyName() {
+        return delegate.getStrategyName();
+    }
+}
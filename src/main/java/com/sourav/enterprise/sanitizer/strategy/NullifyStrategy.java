@@ -1,14 +1,19 @@
 package com.sourav.enterprise.sanitizer.strategy;
 
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
 
 @Component
-public class NullifyStrategy implements SanitizationStrategy {
+public class NullifyStrategy implements SanitizationStrategy, ByteSanitizationStrategy {
     private final String replacement;
+    private final byte[] replacementBytes;
 
     public NullifyStrategy(@Value("${sanitizer.defaults.null-replacement:}") String replacement) {
         this.replacement = replacement;
+        this.replacementBytes = replacement.getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
@@ -16,6 +21,11 @@ public class NullifyStrategy implements SanitizationStrategy {
         return replacement;
     }
 
+    @Override
+    public void apply(byte[] src, int offset, int length, SemanticType type, FieldBuffer out) {
+        out.write(replacementBytes);
+    }
+
     @Override
     public String getStrategyName() {
         return "NULLIFY";
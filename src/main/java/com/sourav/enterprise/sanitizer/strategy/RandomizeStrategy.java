@@ -1,73 +1,159 @@
 package com.sourav.enterprise.sanitizer.strategy;
 
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Random;
+import java.util.function.Supplier;
 
+/**
+ * Replaces values with realistic fake values of the same kind.
+ *
+ * Fake names, emails, phones, addresses and words are generated once per
+ * strategy from a seeded Faker, then picked by a 64-bit hash of the input.
+ * The same input, seed, pool size and locale always give the same output.
+ */
 @Component
 public class RandomizeStrategy implements SanitizationStrategy {
+    private static final long DEFAULT_SEED = 0x5EEDL;
+    private static final int DEFAULT_POOL_SIZE = 4096;
+
+    private final long seed;
+    private final int poolSize;
+    private final Locale locale;
+    private volatile Pools pools;
 
     public RandomizeStrategy() {
+        this(DEFAULT_SEED, DEFAULT_POOL_SIZE, "en");
+    }
+
+    @Autowired
+    public RandomizeStrategy(
+            @Value("${sanitizer.defaults.randomize-seed:24301}") long seed,
+            @Value("${sanitizer.defaults.randomize-pool-size:4096}") int poolSize,
+            @Value("${sanitizer.defaults.randomize-locale:en}") String locale) {
+        if (poolSize < 1)
+            throw new IllegalArgumentException("Randomize pool size must be positive: " + poolSize);
+        this.seed = seed;
+        this.poolSize = poolSize;
+        this.locale = Locale.forLanguageTag(locale);
     }
 
     @Override
     public String apply(String value) {
         if (value == null || value.isEmpty())
             return value;
-        long seed = value.hashCode();
-        Faker seededFaker = new Faker(new Random(seed));
-
-        if (isEmail(value))
-            return seededFaker.internet().emailAddress();
-        if (isPhoneNumber(value))
-            return seededFaker.phoneNumber().cellPhone();
-        if (isName(value))
-            return seededFaker.name().fullName();
-        if (isAddress(value))
-            return seededFaker.address().streetAddress();
-        if (isNumeric(value))
-            return String.valueOf(seededFaker.number().numberBetween(1000, 9999));
-
-        int wordCount = Math.max(1, value.split("\\s+").length);
-        return seededFaker.lorem().words(wordCount).toString().replace("[", "").replace("]", "").replace(",", "");
+        return generate(value, ValueClassifier.classify(value));
     }
 
-    private boolean isEmail(String value) {
-        return value.contains("@") && value.contains(".");
+    @Override
+    public String apply(String value, SemanticType type) {
+        if (value == null || value.isEmpty())
+            return value;
+        if (type == null || type == SemanticType.MIXED)
+            return apply(value);
+        return generate(value, type);
     }
 
-    private boolean isPhoneNumber(String value) {
-        String cleaned = value.replaceAll("[\\s\\-().+]", "");
-        return cleaned.matches("\\d{7,15}");
+    private String generate(String value, SemanticType type) {
+        Pools p = pools();
+        long h = mix(value);
+
+        return switch (type) {
+            case EMAIL -> pick(p.usernames, h) + "@" + pick(p.domains, next(h));
+            case PHONE -> pick(p.phones, h);
+            case NAME -> pick(p.firstNames, h) + " " + pick(p.lastNames, next(h));
+            case ADDRESS -> pick(p.addresses, h);
+            case NUMERIC -> String.valueOf(1000 + Long.remainderUnsigned(h, 8999));
+            default -> words(p, h, Math.max(1, ValueClassifier.countWords(value)));
+        };
     }
 
-    private boolean isName(String value) {
-        if (!value.matches("[a-zA-Z\\s.'\\-]+"))
-            return false;
-        String[] words = value.trim().split("\\s+");
-        if (words.length < 1 || words.length > 4)
-            return false;
-        for (String word : words) {
-            if (word.length() > 0 && Character.isLowerCase(word.charAt(0)))
-                return false;
+    private static String words(Pools p, long h, int wordCount) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0)
+                words.append(' ');
+            words.append(pick(p.words, h));
+            h = next(h);
         }
-        return true;
+        return words.toString();
     }
 
-    private boolean isAddress(String value) {
-        String lower = value.toLowerCase();
-        return value.matches(".*\\d+.*") && (lower.contains("street") || lower.contains("st.") ||
-                lower.contains("ave") || lower.contains("road") || lower.contains("rd.") ||
-                lower.contains("lane") || lower.contains("blvd") || lower.contains("drive") ||
-                lower.contains("dr.") || lower.contains("#"));
+    private Pools pools() {
+        Pools p = pools;
+        if (p == null) {
+            synchronized (this) {
+                p = pools;
+                if (p == null) {
+                    p = new Pools(new Faker(locale, new Random(seed)), poolSize);
+                    pools = p;
+                }
+            }
+        }
+        return p;
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes, keyed by the seed and finished with the
+     * SplitMix64 finalizer so that similar inputs land far apart.
+     */
+    private long mix(String value) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return finish(h);
     }
 
-    private boolean isNumeric(String value) {
-        return value.matches("-?\\d+(\\.\\d+)?");
+    private static long next(long h) {
+        return finish(h + 0x9E3779B97F4A7C15L);
+    }
+
+    private static long finish(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String pick(String[] pool, long h) {
+        return pool[(int) Long.remainderUnsigned(h, pool.length)];
     }
 
     @Override
     public String getStrategyName() {
         return "RANDOMIZE";
     }
+
+    private static final class Pools {
+        final String[] firstNames;
+        final String[] lastNames;
+        final String[] usernames;
+        final String[] domains;
+        final String[] phones;
+        final String[] addresses;
+        final String[] words;
+
+        Pools(Faker faker, int size) {
+            firstNames = fill(size, () -> faker.name().firstName());
+            lastNames = fill(size, () -> faker.name().lastName());
+            usernames = fill(size, () -> faker.internet().username());
+            domains = fill(size, () -> faker.internet().domainName());
+            phones = fill(size, () -> faker.phoneNumber().cellPhone());
+            addresses = fill(size, () -> faker.address().streetAddress());
+            words = fill(size, () -> faker.lorem().word());
+        }
+
+        private static String[] fill(int size, Supplier<String> generator) {
+            String[] pool = new String[size];
+            for (int i = 0; i < size; i++)
+                pool[i] = generator.get();
+            return pool;
+        }
+    }
 }
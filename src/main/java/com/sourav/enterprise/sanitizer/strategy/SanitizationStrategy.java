@@ -1,7 +1,18 @@
 package com.sourav.enterprise.sanitizer.strategy;
 
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+
 public interface SanitizationStrategy {
     String apply(String value);
 
+    /**
+     * Applies the strategy to a value of a column whose semantic type is
+     * already known, skipping per-value detection. MIXED (or null) means
+     * the type is unknown and falls back to apply(value).
+     */
+    default String apply(String value, SemanticType type) {
+        return apply(value);
+    }
+
     String getStrategyName();
 }
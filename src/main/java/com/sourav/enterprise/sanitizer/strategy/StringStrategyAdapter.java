@@ -0,0 +1,26 @@
+package com.sourav.enterprise.sanitizer.strategy;
+
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Runs a String strategy behind the byte contract by decoding the slice,
+ * applying the strategy and encoding the result. Allocates per value.
+ */
+public final class StringStrategyAdapter implements ByteSanitizationStrategy {
+    private final SanitizationStrategy delegate;
+
+    public StringStrategyAdapter(SanitizationStrategy delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void apply(byte[] src, int offset, int length, SemanticType type, FieldBuffer out) {
+        String result = delegate.apply(new String(src, offset, length, StandardCharsets.UTF_8), type);
+        if (result != null) {
+            out.write(result.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.sourav.enterprise.sanitizer.strategy;
+
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+
+/**
+ * Detects the semantic type of a single value with plain character scans.
+ * Checks run in priority order: email, phone, name, address, numeric, text.
+ */
+public final class ValueClassifier {
+
+    private ValueClassifier() {
+    }
+
+    public static SemanticType classify(String value) {
+        if (isEmail(value))
+            return SemanticType.EMAIL;
+        if (isPhoneNumber(value))
+            return SemanticType.PHONE;
+        if (isName(value))
+            return SemanticType.NAME;
+        if (isAddress(value))
+            return SemanticType.ADDRESS;
+        if (isNumeric(value))
+            return SemanticType.NUMERIC;
+        return SemanticType.TEXT;
+    }
+
+    static boolean isEmail(String value) {
+        return value.indexOf('@') >= 0 && value.indexOf('.') >= 0;
+    }
+
+    /**
+     * 7 to 15 digits, optionally separated by whitespace, dashes, dots,
+     * parentheses or a plus sign.
+     */
+    static boolean isPhoneNumber(String value) {
+        int digits = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isDigit(c))
+                digits++;
+            else if (!isWhitespace(c) && c != '-' && c != '(' && c != ')' && c != '.' && c != '+')
+                return false;
+        }
+        return digits >= 7 && digits <= 15;
+    }
+
+    /**
+     * Same check as isPhoneNumber(String) on a UTF-8 slice. Multi-byte
+     * characters are never allowed, so no decoding is needed.
+     */
+    static boolean isPhoneNumber(byte[] src, int offset, int length) {
+        int digits = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char c = (char) (src[i] & 0xFF);
+            if (isDigit(c))
+                digits++;
+            else if (!isWhitespace(c) && c != '-' && c != '(' && c != ')' && c != '.' && c != '+')
+                return false;
+        }
+        return digits >= 7 && digits <= 15;
+    }
+
+    /**
+     * Up to four capitalized words of letters, dots, apostrophes and dashes.
+     */
+    static boolean isName(String value) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isWhitespace(c)) {
+                inWord = false;
+                continue;
+            }
+            boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            if (!letter && c != '.' && c != '\'' && c != '-')
+                return false;
+            if (!inWord) {
+                if (c >= 'a' && c <= 'z')
+                    return false;
+                words++;
+                inWord = true;
+            }
+        }
+        return words <= 4;
+    }
+
+    static boolean isAddress(String value) {
+        boolean hasDigit = false;
+        for (int i = 0; i < value.length() && !hasDigit; i++) {
+            hasDigit = isDigit(value.charAt(i));
+        }
+        if (!hasDigit)
+            return false;
+        String lower = value.toLowerCase();
+        return lower.contains("street") || lower.contains("st.") ||
+                lower.contains("ave") || lower.contains("road") || lower.contains("rd.") ||
+                lower.contains("lane") || lower.contains("blvd") || lower.contains("drive") ||
+                lower.contains("dr.") || lower.contains("#");
+    }
+
+    /**
+     * An optionally negative integer or decimal number.
+     */
+    static boolean isNumeric(String value) {
+        int i = value.charAt(0) == '-' ? 1 : 0;
+        int intStart = i;
+        while (i < value.length() && isDigit(value.charAt(i)))
+            i++;
+        if (i == intStart)
+            return false;
+        if (i == value.length())
+            return true;
+        if (value.charAt(i) != '.')
+            return false;
+        int fractionStart = ++i;
+        while (i < value.length() && isDigit(value.charAt(i)))
+            i++;
+        return i > fractionStart && i == value.length();
+    }
+
+    static int countWords(String value) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < value.length(); i++) {
+            boolean space = isWhitespace(value.charAt(i));
+            if (!space && !inWord)
+                words++;
+            inWord = !space;
+        }
+        return words;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
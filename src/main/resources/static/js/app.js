@@ -253,11 +253,15 @@ async function handleSubmit(e) {
             body: formData
         });
 
+        if (response.status === 503) {
+            const error = await response.json();
+            throw new Error(`Server busy, try again in ${response.headers.get('Retry-After') || error.retryAfterSeconds}s`);
+        }
         if (!response.ok) throw new Error('Job failed to start');
 
         const job = await response.json();
         currentJobId = job.jobExecutionId;
-        pollJobStatus(job.jobExecutionId);
+        watchJobStatus(job.jobExecutionId);
     } catch (error) {
         showError(error.message);
     }
@@ -270,22 +274,30 @@ function showProgress() {
     document.getElementById('diff-section').classList.add('hidden');
 }
 
+function watchJobStatus(jobId) {
+    if (!window.EventSource) {
+        pollJobStatus(jobId);
+        return;
+    }
+    const events = new EventSource(`${API_BASE}/jobs/${jobId}/events`);
+    let finished = false;
+    events.addEventListener('progress', (e) => {
+        finished = updateJobStatus(JSON.parse(e.data));
+        if (finished) events.close();
+    });
+    events.onerror = () => {
+        // The stream ends with the job; if it broke off early, fall back to polling
+        events.close();
+        if (!finished) pollJobStatus(jobId);
+    };
+}
+
 async function pollJobStatus(jobId) {
     const poll = async () => {
         try {
             const res = await fetch(`${API_BASE}/jobs/${jobId}`);
             const job = await res.json();
-
-            const status = job.status;
-            document.getElementById('progress-status').textContent = `Status: ${status} | Rows: ${(job.rowsProcessed || 0).toLocaleString()}`;
-
-            if (status === 'COMPLETED' || status === 'SUCCESS') {
-                document.getElementById('progress-bar').style.width = '100%';
-                document.getElementById('progress-percent').textContent = '100%';
-                showResult(job);
-            } else if (status === 'FAILED') {
-                showError('Job failed: ' + (job.exitDescription || 'Unknown error'));
-            } else {
+            if (!updateJobStatus(job)) {
                 setTimeout(poll, 2000);
             }
         } catch (e) {
@@ -295,6 +307,34 @@ async function pollJobStatus(jobId) {
     poll();
 }
 
+function updateJobStatus(job) {
+    const status = job.status;
+    let text = status === 'PENDING'
+        ? `Status: PENDING${job.queuePosition ? ` | Queue position: ${job.queuePosition}` : ''}`
+        : `Status: ${status} | Rows: ${(job.rowsProcessed || 0).toLocaleString()}`;
+    if (job.rowsPerSecond) text += ` | ${Math.round(job.rowsPerSecond).toLocaleString()} rows/s`;
+    if (job.etaSeconds != null) text += ` | ETA ${job.etaSeconds}s`;
+    document.getElementById('progress-status').textContent = text;
+
+    if (job.percentComplete != null && job.phase !== 'FINISHED') {
+        const percent = Math.floor(job.percentComplete) + '%';
+        document.getElementById('progress-bar').style.width = percent;
+        document.getElementById('progress-percent').textContent = percent;
+    }
+
+    if (status === 'COMPLETED' || status === 'SUCCESS') {
+        document.getElementById('progress-bar').style.width = '100%';
+        document.getElementById('progress-percent').textContent = '100%';
+        showResult(job);
+        return true;
+    }
+    if (status === 'FAILED' || status === 'STOPPED') {
+        showError('Job ' + status.toLowerCase() + ': ' + (job.exitDescription || 'Unknown error'));
+        return true;
+    }
+    return false;
+}
+
 function showResult(job) {
     document.getElementById('progress-section').classList.add('hidden');
     document.getElementById('result-section').classList.remove('hidden');
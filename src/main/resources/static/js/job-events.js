@@ -0,0 +1,24 @@
+// Job events shared by the dashboard and history pages
+const JOB_EVENTS_URL = '/api/v1/jobs/events';
+
+// Reload when jobs start or finish instead of polling; poll if the stream is unavailable
+function watchJobs(reload, fallbackMillis) {
+    if (!window.EventSource) {
+        setInterval(reload, fallbackMillis);
+        return;
+    }
+    const phases = {};
+    let pending = null;
+    const events = new EventSource(JOB_EVENTS_URL);
+    events.addEventListener('progress', (e) => {
+        const job = JSON.parse(e.data);
+        const before = phases[job.jobExecutionId];
+        phases[job.jobExecutionId] = job.phase;
+        const started = job.phase !== 'QUEUED' && (before === undefined || before === 'QUEUED');
+        const finished = job.phase === 'FINISHED' && before !== 'FINISHED';
+        if (started || finished) {
+            clearTimeout(pending);
+            pending = setTimeout(reload, 500);
+        }
+    });
+}
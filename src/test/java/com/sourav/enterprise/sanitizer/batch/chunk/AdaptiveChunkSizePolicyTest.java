@@ -0,0 +1,107 @@
+package com.sourav.enterprise.sanitizer.batch.chunk;
+
+import com.sourav.enterprise.sanitizer.batch.reader.CsvRecordReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveChunkSizePolicyTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldGrowFastChunksAndShrinkSlowOnes() {
+        assertEquals(1501, AdaptiveChunkSizePolicy.nextSize(1000, 100, 500, 0.9));
+        assertEquals(1000, AdaptiveChunkSizePolicy.nextSize(1000, 400, 500, 0.9), "Near the target");
+        assertEquals(625, AdaptiveChunkSizePolicy.nextSize(1000, 800, 500, 0.9));
+        assertEquals(500, AdaptiveChunkSizePolicy.nextSize(1000, 5000, 500, 0.9), "At most halved");
+    }
+
+    @Test
+    void shouldHalveChunksWhenHeapIsLow() {
+        assertEquals(500, AdaptiveChunkSizePolicy.nextSize(1000, 400, 500, 0.1));
+    }
+
+    @Test
+    void shouldSampleRowSizeAndColumnsFromTheHeadOfTheInput() throws Exception {
+        Path input = tempDir.resolve("input.csv");
+        StringBuilder csv = new StringBuilder("id,name,email\n");
+        for (int i = 0; i < 100; i++) {
+            // 20 bytes per row
+            csv.append(String.format("%03d,name%03d,mail%03d\n", i, i, i));
+        }
+        Files.writeString(input, csv);
+
+        AdaptiveChunkSizePolicy.RowSample sample = AdaptiveChunkSizePolicy.RowSample.of(input);
+        assertEquals(3, sample.columns());
+        assertEquals(20, sample.bytesPerRow());
+    }
+
+    @Test
+    void shouldCapChunksByTheSharedMemoryBudget() {
+        ChunkMemoryBudget budget = new ChunkMemoryBudget(10 << 20);
+        // 400 columns of 10 KB text: more heap per row than the whole budget
+        AdaptiveChunkSizePolicy.RowSample wide = new AdaptiveChunkSizePolicy.RowSample(4_000_000, 400);
+
+        AdaptiveChunkSizePolicy first = new AdaptiveChunkSizePolicy(budget, wide, 1000, 1, 50_000, 500);
+        StepExecution firstStep = step(1L);
+        first.beforeStep(firstStep);
+        assertEquals(1, first.getChunkSize());
+
+        AdaptiveChunkSizePolicy narrow = new AdaptiveChunkSizePolicy(budget,
+                new AdaptiveChunkSizePolicy.RowSample(50, 5), 1000, 1, 50_000, 500);
+        StepExecution secondStep = step(2L);
+        narrow.beforeStep(secondStep);
+        assertEquals(1000, narrow.getChunkSize());
+        assertEquals(5 << 20, budget.share(), "Two running steps split the budget");
+
+        ExecutionContext context = firstStep.getExecutionContext();
+        assertEquals(1, context.getInt(AdaptiveChunkSizePolicy.INITIAL_SIZE_KEY));
+        assertEquals(1, context.getInt(AdaptiveChunkSizePolicy.LAST_SIZE_KEY));
+
+        first.afterStep(firstStep);
+        narrow.afterStep(secondStep);
+        assertEquals(10 << 20, budget.share());
+    }
+
+    @Test
+    void shouldRefineRowSizeFromTheConsumedInputAndRecordSizes() {
+        ChunkMemoryBudget budget = new ChunkMemoryBudget(1 << 30);
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(budget,
+                new AdaptiveChunkSizePolicy.RowSample(100, 5), 1000, 10, 4000, 60_000);
+        StepExecution step = step(1L);
+        policy.beforeStep(step);
+        long sampled = policy.heapBytesPerRow();
+
+        ChunkContext chunk = new ChunkContext(new StepContext(step));
+        for (int i = 1; i <= 5; i++) {
+            policy.beforeChunk(chunk);
+            step.setReadCount(i * 1000L);
+            step.getExecutionContext().putLong(CsvRecordReader.CURRENT_OFFSET_KEY, i * 1_000_000L);
+            policy.afterChunk(chunk);
+        }
+
+        // 1000 rows per megabyte: 1000 input bytes per row instead of the sampled 100
+        assertEquals(sampled + 4 * 900, policy.heapBytesPerRow());
+        ExecutionContext context = step.getExecutionContext();
+        assertEquals(1000, context.getInt(AdaptiveChunkSizePolicy.INITIAL_SIZE_KEY));
+        assertEquals(1000, context.getInt(AdaptiveChunkSizePolicy.MIN_SIZE_KEY));
+        assertEquals(4000, context.getInt(AdaptiveChunkSizePolicy.MAX_SIZE_KEY), "Fast chunks grow up to the maximum");
+        assertEquals(4000, context.getInt(AdaptiveChunkSizePolicy.LAST_SIZE_KEY));
+        policy.afterStep(step);
+    }
+
+    private static StepExecution step(long id) {
+        return new StepExecution("sanitizeStep", new JobExecution(1L), id);
+    }
+}
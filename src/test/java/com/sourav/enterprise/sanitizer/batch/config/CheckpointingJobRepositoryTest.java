@@ -0,0 +1,85 @@
+package com.sourav.enterprise.sanitizer.batch.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckpointingJobRepositoryTest {
+    private final List<String> writes = new ArrayList<>();
+
+    private final ResourcelessJobRepository delegate = new ResourcelessJobRepository() {
+        @Override
+        public void update(StepExecution stepExecution) {
+            writes.add("step " + stepExecution.getStatus() + " read=" + stepExecution.getReadCount());
+        }
+
+        @Override
+        public void updateExecutionContext(StepExecution stepExecution) {
+            writes.add("context offset=" + stepExecution.getExecutionContext().getLong("offset", 0));
+        }
+    };
+
+    @Test
+    void shouldWriteChunkProgressOnlyAtCheckpointsAndAlwaysAtStatusChanges() {
+        CheckpointingJobRepository repository = new CheckpointingJobRepository(
+                delegate, new ResourcelessTransactionManager(), 2, 3600);
+        StepExecution step = new StepExecution("sanitizeStep", new JobExecution(1L), 7L);
+
+        // The step starts and saves the context of its opened streams
+        step.setStatus(BatchStatus.STARTED);
+        repository.update(step);
+        repository.updateExecutionContext(step);
+
+        for (int chunk = 1; chunk <= 5; chunk++) {
+            step.setReadCount(chunk * 10);
+            step.getExecutionContext().putLong("offset", chunk * 100);
+            repository.updateExecutionContext(step);
+            repository.update(step);
+        }
+
+        step.setStatus(BatchStatus.COMPLETED);
+        repository.updateExecutionContext(step);
+        repository.update(step);
+
+        assertEquals(List.of(
+                "step STARTED read=0",
+                "context offset=0",
+                "context offset=200", "step STARTED read=20",
+                "context offset=400", "step STARTED read=40",
+                "context offset=500",
+                "step COMPLETED read=50"), writes);
+    }
+
+    @Test
+    void shouldSaveTheLatestChunkWhenTheStepFails() {
+        CheckpointingJobRepository repository = new CheckpointingJobRepository(
+                delegate, new ResourcelessTransactionManager(), 100, 3600);
+        StepExecution step = new StepExecution("sanitizeStep", new JobExecution(1L), 7L);
+        step.setStatus(BatchStatus.STARTED);
+        repository.update(step);
+        repository.updateExecutionContext(step);
+
+        step.setReadCount(10);
+        step.getExecutionContext().putLong("offset", 100);
+        repository.updateExecutionContext(step);
+        repository.update(step);
+        assertEquals(2, writes.size(), "No checkpoint is due yet");
+
+        // A failing chunk is rolled back; the step ends with the last committed chunk's state
+        step.setStatus(BatchStatus.FAILED);
+        repository.update(step);
+
+        assertEquals(List.of(
+                "step STARTED read=0",
+                "context offset=0",
+                "context offset=100", "step FAILED read=10"), writes);
+    }
+}
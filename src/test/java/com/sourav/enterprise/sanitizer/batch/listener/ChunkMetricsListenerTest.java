@@ -0,0 +1,93 @@
+package com.sourav.enterprise.sanitizer.batch.listener;
+
+import com.sourav.enterprise.sanitizer.batch.reader.CsvRecordReader;
+import com.sourav.enterprise.sanitizer.batch.writer.CsvItemWriter;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkMetricsListenerTest {
+
+    @Test
+    void shouldCountRowsAndBytesPerCommittedChunk() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ChunkMetricsListener listener = new ChunkMetricsListener(new PipelineMetrics(registry, 64));
+        StepExecution step = new JobExecution(new JobInstance(1L, "SANITIZE-1"), 1L, new JobParameters())
+                .createStepExecution("sanitizeStep-1:partition-0001");
+        step.getExecutionContext().putLong("partition.start", 1000);
+        ChunkContext chunk = new ChunkContext(new StepContext(step));
+
+        runChunk(listener, chunk);
+        step.setReadCount(10);
+        step.setWriteCount(9);
+        step.setProcessSkipCount(1);
+        step.getExecutionContext().putLong(CsvRecordReader.CURRENT_OFFSET_KEY, 1400);
+        step.getExecutionContext().putLong(CsvItemWriter.OUTPUT_OFFSET_KEY, 300);
+        listener.afterChunk(chunk);
+
+        runChunk(listener, chunk);
+        step.setReadCount(15);
+        step.setWriteCount(14);
+        step.getExecutionContext().putLong(CsvRecordReader.CURRENT_OFFSET_KEY, 1600);
+        step.getExecutionContext().putLong(CsvItemWriter.OUTPUT_OFFSET_KEY, 450);
+        listener.afterChunk(chunk);
+
+        assertEquals(15, count(registry, PipelineMetrics.ROWS, "outcome", "read"));
+        assertEquals(14, count(registry, PipelineMetrics.ROWS, "outcome", "written"));
+        assertEquals(1, count(registry, PipelineMetrics.ROWS, "outcome", "skipped"));
+        assertEquals(600, count(registry, PipelineMetrics.BYTES, "direction", "read"), "From the partition start");
+        assertEquals(450, count(registry, PipelineMetrics.BYTES, "direction", "written"));
+
+        for (String stage : List.of("read", "process", "write")) {
+            assertEquals(2, registry.get(PipelineMetrics.CHUNK).tag("stage", stage).timer().count());
+        }
+        assertTrue(registry.get(PipelineMetrics.CHUNK).tag("stage", "process").timer()
+                .totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void shouldOnlyTagWithFixedValues() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new PipelineMetrics(registry, 64).bindQueue(() -> 2, () -> 1);
+
+        // No job or file names end up in tags, whatever runs
+        registry.getMeters().forEach(meter -> meter.getId().getTags().forEach(tag ->
+                assertTrue(List.of("outcome", "direction", "stage", "operation").contains(tag.getKey()),
+                        meter.getId().toString())));
+        assertEquals(2.0, registry.get(PipelineMetrics.QUEUE_WAITING).gauge().value());
+        assertEquals(1.0, registry.get(PipelineMetrics.JOBS_ACTIVE).gauge().value());
+    }
+
+    private static void runChunk(ChunkMetricsListener listener, ChunkContext chunk) {
+        listener.beforeChunk(chunk);
+        listener.beforeProcess("row");
+        listener.beforeProcess("row");
+        busyWait();
+        listener.beforeWrite(new Chunk<>());
+        listener.afterWrite(new Chunk<>());
+    }
+
+    private static void busyWait() {
+        long until = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(50);
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static double count(MeterRegistry registry, String name, String tag, String value) {
+        return registry.get(name).tag(tag, value).counter().count();
+    }
+}
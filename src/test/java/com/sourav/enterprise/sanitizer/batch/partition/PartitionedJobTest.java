@@ -0,0 +1,141 @@
+package com.sourav.enterprise.sanitizer.batch.partition;
+
+import com.sourav.enterprise.sanitizer.batch.config.JobConfig;
+import com.sourav.enterprise.sanitizer.batch.config.SanitizationJobFactory;
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:partitioned-job-test;DB_CLOSE_DELAY=-1",
+        "sanitizer.batch.partitions=4" })
+class PartitionedJobTest {
+    private static final SanitizationConfig RULES = SanitizationConfig.builder()
+            .columns(Map.of(
+                    "email", SanitizationOperation.HASH,
+                    "ssn", SanitizationOperation.NULLIFY,
+                    "note", SanitizationOperation.MASK))
+            .build();
+    private static final int CHUNK_SIZE = 50;
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private SanitizationJobFactory jobFactory;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Test
+    void shouldStitchTheSameOutputAsASingleStep() throws Exception {
+        Path input = writeInput();
+        Path output = tempDir.resolve("out.csv");
+        JobConfig jobConfig = jobConfig(input, output);
+
+        JobExecution execution = run(jobConfig, jobConfig.toJobParameters());
+
+        assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+        assertEquals(4, workerSteps(execution).size());
+        assertArrayEquals(Files.readAllBytes(singleStepOutput(input)), Files.readAllBytes(output));
+        assertEquals(1, Files.readAllLines(output).stream().filter(line -> line.startsWith("\"id\"")).count());
+        for (int i = 0; i < 4; i++) {
+            assertFalse(Files.exists(PartitionStitchTasklet.partPath(output.toString(), i)));
+        }
+    }
+
+    @Test
+    void shouldRerunOnlyTheFailedPartitionOnRestart() throws Exception {
+        Path input = writeInput();
+        Path output = tempDir.resolve("out.csv");
+        JobConfig jobConfig = jobConfig(input, output);
+        JobParameters parameters = jobConfig.toJobParameters();
+        // A directory in place of its part file fails the writer of partition 2 only
+        Path blocked = Files.createDirectory(PartitionStitchTasklet.partPath(output.toString(), 2));
+
+        JobExecution failed = run(jobConfig, parameters);
+
+        assertEquals(BatchStatus.FAILED, failed.getStatus());
+        Map<String, BatchStatus> statuses = workerSteps(failed);
+        assertEquals(BatchStatus.FAILED, statuses.remove(partitionStep(jobConfig, 2)));
+        assertEquals(Set.of(BatchStatus.COMPLETED), Set.copyOf(statuses.values()));
+        assertFalse(Files.exists(output));
+
+        Files.delete(blocked);
+        JobExecution restarted = run(JobConfig.restore(jobConfig.getJobId(), input.toString(), output.toString(),
+                RULES.getColumns(), "{}", CHUNK_SIZE, 0), parameters);
+
+        assertEquals(BatchStatus.COMPLETED, restarted.getStatus());
+        assertEquals(failed.getJobInstance().getId(), restarted.getJobInstance().getId());
+        // Completed partitions keep their part files and are not run again
+        assertEquals(Map.of(partitionStep(jobConfig, 2), BatchStatus.COMPLETED), workerSteps(restarted));
+        assertArrayEquals(Files.readAllBytes(singleStepOutput(input)), Files.readAllBytes(output));
+    }
+
+    private JobExecution run(JobConfig jobConfig, JobParameters parameters) throws Exception {
+        Job job = jobFactory.createJob(jobConfig, RULES);
+        JobExecution execution = jobRepository.createJobExecution(job.getName(), parameters);
+        job.execute(execution);
+        return execution;
+    }
+
+    private Path singleStepOutput(Path input) throws Exception {
+        Path output = tempDir.resolve("single.csv");
+        jobFactory.warmUp(input.toString(), output.toString(), RULES, CHUNK_SIZE);
+        return output;
+    }
+
+    private JobConfig jobConfig(Path input, Path output) {
+        return JobConfig.create(input.toString(), output.toString(), RULES.getColumns(), "{}", CHUNK_SIZE, 0);
+    }
+
+    /**
+     * Gets the worker steps recorded for an execution. On restart the splitter
+     * also adds unsaved executions for the completed partitions it skips.
+     */
+    private Map<String, BatchStatus> workerSteps(JobExecution execution) {
+        return jobExplorer.getJobExecution(execution.getId()).getStepExecutions().stream()
+                .filter(step -> step.getStepName().contains(":partition-"))
+                .collect(Collectors.toMap(StepExecution::getStepName, StepExecution::getStatus,
+                        (a, b) -> b, TreeMap::new));
+    }
+
+    private static String partitionStep(JobConfig jobConfig, int index) {
+        return String.format("sanitizeStep-%s:partition-%04d", jobConfig.getJobId(), index);
+    }
+
+    private Path writeInput() throws Exception {
+        Random random = new Random(3);
+        StringBuilder csv = new StringBuilder("id,email,ssn,note\n");
+        for (int i = 1; i <= 2000; i++) {
+            // Multi-line notes make most partition targets land inside a record
+            csv.append(i).append(",user").append(i).append("@example.com,123-45-").append(1000 + i)
+                    .append(",\"line one, \"\"quoted\"\"").append("\nmore".repeat(random.nextInt(8)))
+                    .append("\"\n");
+        }
+        return Files.writeString(tempDir.resolve("in.csv"), csv);
+    }
+}
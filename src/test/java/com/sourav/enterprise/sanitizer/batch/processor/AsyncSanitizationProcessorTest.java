@@ -0,0 +1,94 @@
+package com.sourav.enterprise.sanitizer.batch.processor;
+
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncSanitizationProcessorTest {
+    private static final CsvSchema SCHEMA = new CsvSchema(new String[] { "id" });
+
+    private final ExecutorService workerPool = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutDown() {
+        workerPool.shutdownNow();
+    }
+
+    @Test
+    void shouldWriteInInputOrderAndCountFailuresAsProcessSkips() throws Exception {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ItemProcessor<CsvRecord, CsvRecord> delegate = item -> {
+            threads.add(Thread.currentThread().getName());
+            if (item.getLineNumber() % 7 == 0) {
+                throw new IllegalStateException("Cannot sanitize line " + item.getLineNumber());
+            }
+            // Later items of a chunk finish first
+            Thread.sleep(10 - item.getLineNumber() % 10);
+            return new CsvRecord(item.getLineNumber(), SCHEMA, new String[] { "s" + item.getLineNumber() });
+        };
+        List<String> written = new ArrayList<>();
+        ResourcelessJobRepository jobRepository = new ResourcelessJobRepository();
+        Step step = new StepBuilder("sanitizeStep", jobRepository)
+                .<CsvRecord, CsvRecord>chunk(10, new ResourcelessTransactionManager())
+                .reader(new ListItemReader<>(LongStream.rangeClosed(1, 50).mapToObj(AsyncSanitizationProcessorTest::record).toList()))
+                .processor(new AsyncSanitizationProcessor(delegate, workerPool))
+                .writer(chunk -> chunk.forEach(item -> written.add(item.getValues()[0])))
+                .faultTolerant()
+                .skipLimit(10)
+                .skip(Exception.class)
+                .build();
+
+        StepExecution execution = jobRepository.createJobExecution("sanitizeJob", new JobParameters())
+                .createStepExecution("sanitizeStep");
+        step.execute(execution);
+
+        assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+        assertFalse(threads.contains(Thread.currentThread().getName()), "Items are sanitized on the worker pool");
+        assertEquals(7, execution.getProcessSkipCount());
+        assertEquals(0, execution.getWriteSkipCount());
+        assertEquals(43, execution.getWriteCount());
+        assertEquals(LongStream.rangeClosed(1, 50).filter(line -> line % 7 != 0).mapToObj(line -> "s" + line).toList(),
+                written);
+    }
+
+    @Test
+    void shouldReuseResultsUntilTheChunkCommits() throws Exception {
+        AsyncSanitizationProcessor processor = new AsyncSanitizationProcessor(
+                item -> new CsvRecord(item.getLineNumber(), SCHEMA, new String[] { Thread.currentThread().getName() }),
+                workerPool);
+
+        CsvRecord read = record(1);
+        processor.afterRead(read);
+        String worker = processor.process(read).getValues()[0];
+        assertNotEquals(Thread.currentThread().getName(), worker);
+        // Processed again after a rollback
+        assertEquals(worker, processor.process(read).getValues()[0]);
+        // Processed again in a later chunk, as when a failed write is scanned
+        processor.afterChunk(null);
+        assertEquals(Thread.currentThread().getName(), processor.process(read).getValues()[0]);
+    }
+
+    private static CsvRecord record(long line) {
+        return new CsvRecord(line, SCHEMA, new String[] { String.valueOf(line) });
+    }
+}
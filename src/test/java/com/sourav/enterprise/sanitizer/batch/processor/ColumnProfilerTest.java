@@ -0,0 +1,72 @@
+package com.sourav.enterprise.sanitizer.batch.processor;
+
+import com.sourav.enterprise.sanitizer.batch.reader.MappedCsvItemReader;
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.strategy.HashStrategy;
+import com.sourav.enterprise.sanitizer.strategy.MaskStrategy;
+import com.sourav.enterprise.sanitizer.strategy.NullifyStrategy;
+import com.sourav.enterprise.sanitizer.strategy.RandomizeStrategy;
+import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategyFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnProfilerTest {
+    private final SanitizationStrategyFactory strategyFactory = new SanitizationStrategyFactory(
+            new MaskStrategy('*', 4), new HashStrategy("SHA-256"),
+            new NullifyStrategy(""), new RandomizeStrategy());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldInferOneTypePerColumn() throws Exception {
+        Path file = tempDir.resolve("people.csv");
+        Files.writeString(file, "id,name,email,phone,misc,blank\n"
+                + "1,Jane Doe,jane@example.com,555-123-4567,42 Elm Street,\n"
+                + "2,John Smith,,(555) 987-6543,hello world,\n"
+                + "3,Ann Lee,ann@example.org,+1 555 000 1111,7,\n");
+
+        SanitizationPlan plan = profile(file, 100);
+
+        Map<String, SemanticType> expected = new LinkedHashMap<>();
+        expected.put("name", SemanticType.NAME);
+        expected.put("email", SemanticType.EMAIL);
+        expected.put("phone", SemanticType.PHONE);
+        expected.put("misc", SemanticType.MIXED);
+        expected.put("blank", SemanticType.MIXED);
+        assertEquals(expected, plan.getColumnTypes());
+        assertNull(plan.getType(0));
+    }
+
+    @Test
+    void shouldOnlySampleLeadingRows() throws Exception {
+        Path file = tempDir.resolve("late.csv");
+        Files.writeString(file, "name,email,phone,misc,blank\nJane Doe,a@b.com,5551234567,x,\nnot a name,a@b.com,5551234567,y,\n");
+
+        assertEquals(SemanticType.NAME, profile(file, 1).getColumnTypes().get("name"));
+        assertEquals(SemanticType.MIXED, profile(file, 2).getColumnTypes().get("name"));
+    }
+
+    private SanitizationPlan profile(Path file, int sampleRows) throws Exception {
+        Map<String, SanitizationOperation> rules = Map.of(
+                "name", SanitizationOperation.RANDOMIZE,
+                "email", SanitizationOperation.MASK,
+                "phone", SanitizationOperation.MASK,
+                "misc", SanitizationOperation.HASH,
+                "blank", SanitizationOperation.NULLIFY);
+        String header = Files.readAllLines(file).get(0);
+        SanitizationPlan plan = SanitizationPlan.compile(SanitizationConfig.builder().columns(rules).build(),
+                new CsvSchema(header.split(",")), strategyFactory);
+        return ColumnProfiler.profile(plan, new MappedCsvItemReader(file.toString()), sampleRows);
+    }
+}
@@ -0,0 +1,161 @@
+package com.sourav.enterprise.sanitizer.batch.processor;
+
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.exception.InvalidConfigurationException;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import com.sourav.enterprise.sanitizer.strategy.HashStrategy;
+import com.sourav.enterprise.sanitizer.strategy.MaskStrategy;
+import com.sourav.enterprise.sanitizer.strategy.NullifyStrategy;
+import com.sourav.enterprise.sanitizer.strategy.RandomizeStrategy;
+import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategyFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SanitizationProcessorTest {
+    private final SanitizationStrategyFactory strategyFactory = new SanitizationStrategyFactory(
+            new MaskStrategy('*', 4), new HashStrategy("SHA-256"),
+            new NullifyStrategy(""), new RandomizeStrategy());
+    private final CsvSchema schema = new CsvSchema(new String[] { "id", "email", "ssn", "city" });
+
+    @Test
+    void shouldSanitizeOnlyConfiguredPositions() throws Exception {
+        SanitizationPlan plan = compile(Map.of(
+                "ssn", SanitizationOperation.NULLIFY,
+                "email", SanitizationOperation.HASH));
+        assertArrayEquals(new int[] { 1, 2 }, plan.getPositions());
+
+        CsvRecord input = new CsvRecord(7, schema, new String[] { "1", "a@b.com", "123-45-6789", "Paris" });
+        CsvRecord output = new SanitizationProcessor(plan).process(input);
+
+        assertEquals(7, output.getLineNumber());
+        assertEquals("1", output.getValue("id"));
+        assertEquals(64, output.getValue("email").length());
+        assertEquals("", output.getValue("ssn"));
+        assertEquals("Paris", output.getValue("city"));
+        assertEquals("a@b.com", input.getValue("email"));
+    }
+
+    @Test
+    void shouldMemoizeOnlyDeterministicOperations() throws Exception {
+        SanitizationPlan plan = compile(Map.of(
+                "email", SanitizationOperation.HASH,
+                "ssn", SanitizationOperation.MASK));
+        SanitizationProcessor processor = new SanitizationProcessor(plan, 100);
+
+        for (int i = 0; i < 5; i++) {
+            processor.process(new CsvRecord(i + 1, schema, new String[] { "1", "a@b.com", "123-45-6789", "Paris" }));
+        }
+
+        // Only the HASH column goes through the cache
+        assertEquals(4, processor.getCacheStats().hitCount());
+        assertEquals(1, processor.getCacheStats().missCount());
+
+        ExecutionContext context = new ExecutionContext();
+        processor.update(context);
+        assertEquals(4, context.getLong(SanitizationProcessor.CACHE_HITS_KEY));
+    }
+
+    @Test
+    void shouldContinueCacheStatisticsOnRestart() throws Exception {
+        SanitizationPlan plan = compile(Map.of("email", SanitizationOperation.HASH));
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(SanitizationProcessor.CACHE_HITS_KEY, 40);
+        context.putLong(SanitizationProcessor.CACHE_MISSES_KEY, 10);
+        context.putLong(SanitizationProcessor.CACHE_EVICTIONS_KEY, 3);
+
+        SanitizationProcessor processor = new SanitizationProcessor(plan, 100);
+        processor.open(context);
+        for (int i = 0; i < 3; i++) {
+            processor.process(new CsvRecord(i + 1, schema, new String[] { "1", "a@b.com", "", "Paris" }));
+        }
+        processor.update(context);
+
+        assertEquals(42, context.getLong(SanitizationProcessor.CACHE_HITS_KEY));
+        assertEquals(11, context.getLong(SanitizationProcessor.CACHE_MISSES_KEY));
+        assertEquals(3, context.getLong(SanitizationProcessor.CACHE_EVICTIONS_KEY));
+    }
+
+    @Test
+    void shouldSanitizeByteRecordsLikeStringRecords() throws Exception {
+        SanitizationPlan plan = compile(Map.of(
+                "id", SanitizationOperation.RANDOMIZE,
+                "email", SanitizationOperation.HASH,
+                "ssn", SanitizationOperation.MASK));
+        SanitizationProcessor processor = new SanitizationProcessor(plan, 100);
+        String[] values = { "1", "a@b.com", "", "Zürich" };
+
+        FieldBuffer buffer = new FieldBuffer();
+        for (String value : values) {
+            buffer.write(value.getBytes(StandardCharsets.UTF_8));
+            buffer.endField();
+        }
+        CsvRecord bytes = processor.process(new CsvRecord(3, schema, buffer.toByteFields()));
+        CsvRecord strings = processor.process(new CsvRecord(3, schema, values.clone()));
+
+        assertNotNull(bytes.getFields());
+        assertArrayEquals(strings.getValues(), bytes.getValues());
+        assertEquals(4, processor.getSanitizedFieldCount());
+    }
+
+    @Test
+    void shouldPassRawBytesThroughAndRequoteSanitizedColumns() throws Exception {
+        SanitizationPlan plan = compile(Map.of(
+                "email", SanitizationOperation.HASH,
+                "ssn", SanitizationOperation.MASK,
+                "city", SanitizationOperation.NULLIFY));
+        SanitizationProcessor processor = new SanitizationProcessor(plan);
+
+        FieldBuffer buffer = new FieldBuffer();
+        for (String raw : new String[] { "\"0\"\"1\"", "\"a@b.com\"", "\"12\"\"345\"\"6789\"", "" }) {
+            buffer.write(raw.getBytes(StandardCharsets.UTF_8));
+            buffer.endField();
+        }
+        CsvRecord output = processor.process(new CsvRecord(1, schema, buffer.toEncodedFields()));
+        CsvRecord expected = processor.process(new CsvRecord(1, schema, new String[] { "0\"1", "a@b.com", "12\"345\"6789", "" }));
+
+        // The id column keeps its original quoting; sanitized columns are re-quoted
+        assertTrue(output.getFields().isEncoded());
+        assertEquals("\"0\"\"1\"", new String(output.getFields().data(), 0, output.getFields().length(0), StandardCharsets.UTF_8));
+        assertArrayEquals(expected.getValues(), output.getValues());
+        assertEquals(4, processor.getSanitizedFieldCount());
+    }
+
+    @Test
+    void shouldTimeStrategiesOfOneRecordInEachSample() throws Exception {
+        SanitizationPlan plan = compile(Map.of(
+                "email", SanitizationOperation.HASH,
+                "ssn", SanitizationOperation.MASK));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SanitizationProcessor processor = new SanitizationProcessor(plan, 0, new PipelineMetrics(registry, 4));
+
+        for (int i = 0; i < 10; i++) {
+            processor.process(new CsvRecord(i + 1, schema, new String[] { "1", "a@b.com", "123-45-6789", "Paris" }));
+        }
+
+        // Records 4 and 8 are timed, once per sanitized column
+        assertEquals(2, registry.get(PipelineMetrics.STRATEGY_APPLY).tag("operation", "HASH").timer().count());
+        assertEquals(2, registry.get(PipelineMetrics.STRATEGY_APPLY).tag("operation", "MASK").timer().count());
+        assertEquals(0, registry.get(PipelineMetrics.STRATEGY_APPLY).tag("operation", "NULLIFY").timer().count());
+    }
+
+    @Test
+    void shouldFailFastOnUnknownColumn() {
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class,
+                () -> compile(Map.of("e-mail", SanitizationOperation.HASH)));
+        assertTrue(e.getMessage().contains("e-mail"));
+    }
+
+    private SanitizationPlan compile(Map<String, SanitizationOperation> rules) {
+        return SanitizationPlan.compile(SanitizationConfig.builder().columns(rules).build(), schema, strategyFactory);
+    }
+}
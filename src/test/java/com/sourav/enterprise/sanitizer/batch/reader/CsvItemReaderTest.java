@@ -0,0 +1,64 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvItemReaderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldDecompressGzipInputAndResumeFromCheckpointedOffset() throws Exception {
+        String csv = "id,name\r\n1,Zoë\r\n2,\"multi\r\nline\"\r\n3,日本\r\n4,end\r\n";
+        Path plain = tempDir.resolve("input.csv");
+        Files.writeString(plain, csv, StandardCharsets.UTF_8);
+        Path gzip = tempDir.resolve("input.csv.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip))) {
+            out.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(readAll(new CsvItemReader(plain.toString())), readAll(new CsvItemReader(gzip.toString())));
+
+        ExecutionContext context = new ExecutionContext();
+        CsvItemReader first = new CsvItemReader(gzip.toString());
+        first.open(context);
+        first.read();
+        first.read();
+        first.update(context);
+        first.close();
+
+        // Resuming skips the decompressed bytes already read
+        CsvItemReader resumed = new CsvItemReader(gzip.toString());
+        resumed.open(context);
+        CsvRecord record = resumed.read();
+        resumed.close();
+
+        assertEquals(3, record.getLineNumber());
+        assertEquals("日本", record.getValue("name"));
+    }
+
+    private List<CsvRecord> readAll(CsvItemReader reader) throws Exception {
+        List<CsvRecord> records = new ArrayList<>();
+        reader.open(new ExecutionContext());
+        try {
+            CsvRecord record;
+            while ((record = reader.read()) != null) {
+                records.add(record);
+            }
+        } finally {
+            reader.close();
+        }
+        return records;
+    }
+}
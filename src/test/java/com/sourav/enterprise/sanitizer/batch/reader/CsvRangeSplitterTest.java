@@ -0,0 +1,123 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRangeSplitterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldSplitOnRecordBoundariesOnly() throws Exception {
+        Random random = new Random(7);
+        StringBuilder csv = new StringBuilder("id,comment\r\n");
+        for (int i = 0; i < 2000; i++) {
+            // Long quoted fields with embedded newlines make most byte targets land inside a record
+            csv.append(i).append(",\"")
+                    .append("x\n".repeat(random.nextInt(40)))
+                    .append("\"\"q\"\",\r\nend\"\r\n");
+        }
+        Path file = tempDir.resolve("multiline.csv");
+        Files.writeString(file, csv);
+
+        List<CsvByteRange> ranges = CsvRangeSplitter.split(file.toString(), 7);
+
+        assertEquals(7, ranges.size());
+        assertEquals(ranges.get(0).end(), ranges.get(1).start());
+        assertEquals(Files.size(file), ranges.get(ranges.size() - 1).end());
+
+        List<String> expected = readIds(new MappedCsvItemReader(file.toString()));
+        for (CsvReaderEngine engine : CsvReaderEngine.values()) {
+            List<String> ids = new ArrayList<>();
+            for (CsvByteRange range : ranges) {
+                CsvRecordReader reader = engine == CsvReaderEngine.OPENCSV
+                        ? new CsvItemReader(file.toString(), range)
+                        : new MappedCsvItemReader(file.toString(), range);
+                ids.addAll(readIds(reader));
+            }
+            assertEquals(expected, ids, engine.name());
+        }
+    }
+
+    @Test
+    void shouldSplitLikeTheByteTokenizerWhateverTheSegmentsStartIn() throws Exception {
+        // Segments may start inside quotes, after a stray or escaped quote or between CR and LF
+        String[] pieces = { "a", "bc", ",", "\"", "\"\"", "\r", "\n", "\r\n", "\"x\ny\"", "é" };
+        Random random = new Random(11);
+        for (int round = 0; round < 40; round++) {
+            StringBuilder csv = new StringBuilder("h1,h2\n");
+            for (int i = 0; i < 400; i++) {
+                csv.append(pieces[random.nextInt(pieces.length)]);
+            }
+            if (csv.chars().filter(c -> c == '"').count() % 2 == 1) {
+                csv.append('"');
+            }
+            Path file = tempDir.resolve("fuzz.csv");
+            Files.writeString(file, csv);
+            List<String> expected;
+            try {
+                expected = readIds(new MappedCsvItemReader(file.toString()));
+            } catch (Exception unterminated) {
+                continue;
+            }
+
+            for (int parts = 2; parts <= 16; parts += 7) {
+                List<CsvByteRange> ranges = CsvRangeSplitter.split(file.toString(), parts);
+                List<String> ids = new ArrayList<>();
+                for (CsvByteRange range : ranges) {
+                    ids.addAll(readIds(new MappedCsvItemReader(file.toString(), range)));
+                }
+                assertEquals(expected, ids, "Round " + round + " in " + parts + " parts: " + ranges);
+            }
+        }
+    }
+
+    @Test
+    void shouldKeepLineNumbersAbsolute() throws Exception {
+        Path file = tempDir.resolve("small.csv");
+        Files.writeString(file, "a,b\n1,x\n2,y\n3,z\n4,w\n");
+
+        List<CsvByteRange> ranges = CsvRangeSplitter.split(file.toString(), 2);
+        MappedCsvItemReader reader = new MappedCsvItemReader(file.toString(), ranges.get(1));
+        reader.open(new ExecutionContext());
+        CsvRecord record = reader.read();
+        reader.close();
+
+        assertEquals(2, ranges.get(1).linesBefore());
+        assertEquals(3, record.getLineNumber());
+        assertEquals("3", record.getValue("a"));
+    }
+
+    @Test
+    void shouldReturnFewerRangesThanRequestedForTinyFiles() throws Exception {
+        Path file = tempDir.resolve("tiny.csv");
+        Files.writeString(file, "a,b\n1,x\n");
+
+        List<CsvByteRange> ranges = CsvRangeSplitter.split(file.toString(), 8);
+
+        assertEquals(1, ranges.size());
+        assertEquals(4, ranges.get(0).start());
+        assertEquals(0, ranges.get(0).linesBefore());
+    }
+
+    private static List<String> readIds(CsvRecordReader reader) throws Exception {
+        List<String> ids = new ArrayList<>();
+        reader.open(new ExecutionContext());
+        for (CsvRecord record; (record = reader.read()) != null;) {
+            ids.add(record.getLineNumber() + ":" + Arrays.toString(record.getValues()));
+        }
+        reader.close();
+        return ids;
+    }
+}
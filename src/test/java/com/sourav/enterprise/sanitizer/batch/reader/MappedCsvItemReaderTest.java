@@ -0,0 +1,148 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedCsvItemReaderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMatchOpenCsvOnSampleData() throws Exception {
+        assertSameRecords(Path.of("samples/sample_data.csv"), 64 * 1024);
+    }
+
+    @Test
+    void shouldHandleQuotesAndEmbeddedNewlines() throws Exception {
+        Path file = write("id,name,note\r\n"
+                + "1,\"Smith, John\",\"said \"\"hi\"\"\"\r\n"
+                + "2,Jane,\"line one\nline two\"\r\n"
+                + "3,,\"crlf\r\ninside\"\n"
+                + "4,\"\",\n"
+                + "\n"
+                + "5,Zoë,\"ünïcödé\"");
+        List<CsvRecord> records = readAll(new MappedCsvItemReader(file.toString()));
+
+        assertEquals(6, records.size());
+        assertEquals("Smith, John", records.get(0).getValue("name"));
+        assertEquals("said \"hi\"", records.get(0).getValue("note"));
+        assertEquals("line one\nline two", records.get(1).getValue("note"));
+        assertEquals("crlf\ninside", records.get(2).getValue("note"));
+        assertEquals("", records.get(3).getValue("name"));
+        assertEquals("", records.get(4).getValue("id"));
+        assertEquals("ünïcödé", records.get(5).getValue("note"));
+        assertEquals(6, records.get(5).getLineNumber());
+        assertSameRecords(file, 64 * 1024);
+    }
+
+    @Test
+    void shouldMatchOpenCsvAcrossWindowBoundaries() throws Exception {
+        Random random = new Random(42);
+        StringBuilder csv = new StringBuilder("id,email,comment,amount\n");
+        for (int i = 0; i < 5000; i++) {
+            csv.append(i).append(',')
+                    .append("user").append(random.nextInt(1000)).append("@example.com,")
+                    .append(random.nextBoolean() ? "\"multi\nline, \"\"quoted\"\"\"" : "plain text")
+                    .append(',').append(random.nextInt(100000)).append('\n');
+        }
+        // A tiny window forces records to straddle mappings
+        assertSameRecords(write(csv.toString()), 256);
+    }
+
+    @Test
+    void shouldRestoreLinePosition() throws Exception {
+        Path file = write("a,b\n1,x\n2,y\n3,z\n");
+        ExecutionContext context = new ExecutionContext();
+        context.putLong("current.line", 2);
+
+        MappedCsvItemReader reader = new MappedCsvItemReader(file.toString());
+        reader.open(context);
+        CsvRecord record = reader.read();
+        reader.close();
+
+        assertEquals(3, record.getLineNumber());
+        assertEquals("z", record.getValue("b"));
+    }
+
+    @Test
+    void shouldResumeFromCheckpointedOffset() throws Exception {
+        Path file = write("id,name\r\n1,Zoë\r\n2,\"multi\r\nline\"\r\n3,日本\r\n4,end\r\n");
+        for (boolean mapped : new boolean[] { false, true }) {
+            ExecutionContext context = new ExecutionContext();
+            CsvRecordReader first = mapped ? new MappedCsvItemReader(file.toString()) : new CsvItemReader(file.toString());
+            first.open(context);
+            first.read();
+            first.read();
+            first.update(context);
+            first.close();
+
+            assertTrue(context.containsKey("current.offset"));
+            CsvRecordReader resumed = mapped ? new MappedCsvItemReader(file.toString()) : new CsvItemReader(file.toString());
+            List<CsvRecord> rest = new ArrayList<>();
+            resumed.open(context);
+            CsvRecord record;
+            while ((record = resumed.read()) != null) {
+                rest.add(record);
+            }
+            resumed.close();
+
+            assertEquals(2, rest.size());
+            assertEquals("日本", rest.get(0).getValue("name"));
+            assertEquals(3, rest.get(0).getLineNumber());
+            assertEquals("end", rest.get(1).getValue("name"));
+        }
+    }
+
+    private void assertSameRecords(Path file, int windowSize) throws Exception {
+        List<CsvRecord> expected = readAll(new CsvItemReader(file.toString()));
+        List<CsvRecord> actual = readAll(new MappedCsvItemReader(file.toString(), windowSize));
+        assertEquals(expected, actual);
+        List<CsvRecord> indexed = readAll(
+                new MappedCsvItemReader(file.toString(), windowSize, CsvByteRange.WHOLE_FILE, true));
+        assertEquals(expected, indexed);
+
+        for (boolean passthrough : new boolean[] { false, true }) {
+            MappedCsvItemReader bytesReader = new MappedCsvItemReader(file.toString(), windowSize);
+            bytesReader.setByteFields(true);
+            bytesReader.setPassthrough(passthrough);
+            List<CsvRecord> bytes = readAll(bytesReader);
+            assertEquals(expected.size(), bytes.size());
+            for (int i = 0; i < bytes.size(); i++) {
+                assertEquals(passthrough, bytes.get(i).getFields().isEncoded());
+                assertEquals(expected.get(i).getLineNumber(), bytes.get(i).getLineNumber());
+                assertArrayEquals(expected.get(i).getValues(), bytes.get(i).getValues());
+            }
+        }
+    }
+
+    private List<CsvRecord> readAll(CsvRecordReader reader) throws Exception {
+        List<CsvRecord> records = new ArrayList<>();
+        reader.open(new ExecutionContext());
+        try {
+            CsvRecord record;
+            while ((record = reader.read()) != null) {
+                records.add(record);
+            }
+        } finally {
+            reader.close();
+        }
+        return records;
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = tempDir.resolve("input.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,97 @@
+package com.sourav.enterprise.sanitizer.batch.reader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructuralIndexTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMarkQuotedRegionsWithPrefixXor() {
+        // Quotes at bits 1 and 4: bits 1..3 are inside
+        assertEquals(0b01110L, StructuralIndex.prefixXor(0b10010L));
+        // An opening quote in bit 63 leaves the block inside quotes
+        assertEquals(Long.MIN_VALUE, StructuralIndex.prefixXor(Long.MIN_VALUE));
+    }
+
+    @Test
+    void shouldBuildSameMasksWithVectorAndScalarScanners() {
+        Random random = new Random(3);
+        byte[] chunk = new byte[64 * 32];
+        byte[] alphabet = "a,\"\n\r\u0000".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+
+        long[][] scalar = scan(new ScalarBlockScanner(), chunk);
+        long[][] vector = scan(new VectorBlockScanner(), chunk);
+        for (int mask = 0; mask < scalar.length; mask++) {
+            assertArrayEquals(scalar[mask], vector[mask]);
+        }
+    }
+
+    @Test
+    void shouldTokenizeLikeTheByteScanOnIrregularInput() throws Exception {
+        Random random = new Random(11);
+        String[] pieces = { "abc", "é", ",", ",", "\n", "\r\n", "\r", "\"", "\"\"", "\"q,\nx\"", "\"\"\"" };
+        for (int round = 0; round < 200; round++) {
+            StringBuilder csv = new StringBuilder("h1,h2\n");
+            for (int i = 0, n = random.nextInt(300); i < n; i++) {
+                csv.append(pieces[random.nextInt(pieces.length)]);
+            }
+            Path file = tempDir.resolve("fuzz-" + round + ".csv");
+            Files.writeString(file, csv, StandardCharsets.UTF_8);
+
+            List<String> expected = tokenize(file, null);
+            assertEquals(expected, tokenize(file, new ScalarBlockScanner()), csv.toString());
+            assertEquals(expected, tokenize(file, new VectorBlockScanner()), csv.toString());
+        }
+    }
+
+    private long[][] scan(BlockScanner scanner, byte[] chunk) {
+        int blocks = chunk.length / BlockScanner.BLOCK_SIZE;
+        long[][] masks = new long[4][blocks];
+        scanner.scan(chunk, blocks, masks[0], masks[1], masks[2], masks[3]);
+        return masks;
+    }
+
+    /**
+     * Lists records as their fields and end offsets, or the parse error.
+     */
+    private List<String> tokenize(Path file, BlockScanner scanner) throws IOException {
+        List<String> records = new ArrayList<>();
+        // Small windows and chunks put records across mappings and index chunks
+        try (MappedFileWindow window = new MappedFileWindow(file, 64)) {
+            CsvByteTokenizer tokenizer = scanner == null
+                    ? new CsvByteTokenizer(window)
+                    : new CsvByteTokenizer(window, new StructuralIndex(scanner, 128));
+            while (true) {
+                try {
+                    if (!tokenizer.nextRecord()) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    records.add("error: " + e.getMessage());
+                    break;
+                }
+                List<String> fields = new ArrayList<>();
+                for (int i = 0; i < tokenizer.fieldCount(); i++) {
+                    fields.add(tokenizer.field(i));
+                }
+                records.add(fields + " @" + tokenizer.position());
+            }
+        }
+        return records;
+    }
+}
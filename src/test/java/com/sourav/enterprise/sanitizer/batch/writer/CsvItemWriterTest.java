@@ -0,0 +1,96 @@
+package com.sourav.enterprise.sanitizer.batch.writer;
+
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvItemWriterTest {
+    private static final String[] HEADERS = { "id", "name" };
+    private static final CsvSchema SCHEMA = new CsvSchema(HEADERS);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldTruncateUncommittedRowsOnRestart() throws Exception {
+        Path output = tempDir.resolve("out.csv");
+        ExecutionContext context = new ExecutionContext();
+
+        CsvItemWriter writer = new CsvItemWriter(output.toString(), HEADERS);
+        writer.open(context);
+        writer.write(chunk(1, 2));
+        writer.update(context);
+        // Written but never committed before the crash
+        writer.write(chunk(3, 4));
+        writer.close();
+
+        CsvItemWriter restarted = new CsvItemWriter(output.toString(), HEADERS);
+        restarted.open(context);
+        restarted.write(chunk(3, 4));
+        restarted.update(context);
+        restarted.close();
+
+        assertEquals(String.join("\n",
+                "\"id\",\"name\"",
+                "\"1\",\"name1\"",
+                "\"2\",\"name2\"",
+                "\"3\",\"name3\"",
+                "\"4\",\"name4\"", ""), Files.readString(output));
+        assertEquals(Files.size(output), context.getLong("output.offset"));
+    }
+
+    @Test
+    void shouldStartFreshWithoutCheckpoint() throws Exception {
+        Path output = tempDir.resolve("out.csv");
+        Files.writeString(output, "stale content from a previous run\n".repeat(10));
+
+        CsvItemWriter writer = new CsvItemWriter(output.toString(), HEADERS);
+        writer.open(new ExecutionContext());
+        writer.write(chunk(1, 1));
+        writer.close();
+
+        assertEquals("\"id\",\"name\"\n\"1\",\"name1\"\n", Files.readString(output));
+    }
+
+    @Test
+    void shouldCopyEncodedRecordsInOrder() throws Exception {
+        Path output = tempDir.resolve("out.csv");
+        FieldBuffer buffer = new FieldBuffer();
+        for (String raw : new String[] { "2", "\"Smith, \"\"J\"\"\"" }) {
+            buffer.write(raw.getBytes(StandardCharsets.UTF_8));
+            buffer.endField();
+        }
+        Chunk<CsvRecord> chunk = chunk(1, 1);
+        chunk.add(new CsvRecord(2, SCHEMA, buffer.toEncodedFields()));
+        chunk.addAll(chunk(3, 3).getItems());
+
+        CsvItemWriter writer = new CsvItemWriter(output.toString(), HEADERS);
+        writer.open(new ExecutionContext());
+        writer.write(chunk);
+        writer.close();
+
+        assertEquals(String.join("\n",
+                "\"id\",\"name\"",
+                "\"1\",\"name1\"",
+                "2,\"Smith, \"\"J\"\"\"",
+                "\"3\",\"name3\"", ""), Files.readString(output));
+    }
+
+    private Chunk<CsvRecord> chunk(int from, int to) {
+        Chunk<CsvRecord> chunk = new Chunk<>();
+        for (int i = from; i <= to; i++) {
+            chunk.add(new CsvRecord(i, SCHEMA, new String[] { String.valueOf(i), "name" + i }));
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,111 @@
+package com.sourav.enterprise.sanitizer.batch.writer;
+
+import com.sourav.enterprise.sanitizer.domain.model.CsvRecord;
+import com.sourav.enterprise.sanitizer.domain.model.CsvSchema;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NioCsvItemWriterTest {
+    private static final String[] HEADERS = { "id", "name", "note" };
+    private static final CsvSchema SCHEMA = new CsvSchema(HEADERS);
+    private static final String[][] ROWS = {
+            { "1", "Smith, John", "said \"hi\"" },
+            { "2", "Zoë Ångström", "line one\nline two" },
+            { "3", null, "" },
+            { "4", "日本 🎉", "tab\tand\r\ncrlf" },
+            { "5", "x".repeat(300), "\"" },
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteSameBytesAsOpenCsvForEveryPolicy() throws Exception {
+        Path expected = tempDir.resolve("opencsv.csv");
+        writeAll(new CsvItemWriter(expected.toString(), HEADERS), stringRecords());
+
+        for (FlushPolicy policy : FlushPolicy.values()) {
+            // A tiny buffer forces drains mid-chunk and a line larger than the buffer
+            Path actual = tempDir.resolve(policy + ".csv");
+            writeAll(new NioCsvItemWriter(actual.toString(), HEADERS, true, policy, 64), stringRecords());
+            assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(actual), policy.name());
+
+            Path bytes = tempDir.resolve(policy + "-bytes.csv");
+            writeAll(new NioCsvItemWriter(bytes.toString(), HEADERS, true, policy, 64), byteRecords());
+            assertEquals(Files.readString(expected).replace("\"3\",,", "\"3\",\"\","), Files.readString(bytes), policy.name());
+        }
+    }
+
+    @Test
+    void shouldTruncateUncommittedRowsOnRestart() throws Exception {
+        Path output = tempDir.resolve("out.csv");
+        ExecutionContext context = new ExecutionContext();
+
+        NioCsvItemWriter writer = new NioCsvItemWriter(output.toString(), HEADERS, true, FlushPolicy.CHUNK_COMMIT, 1024);
+        writer.open(context);
+        writer.write(new Chunk<>(stringRecords().getItems().subList(0, 2)));
+        writer.update(context);
+        // Written but never committed before the crash
+        writer.write(new Chunk<>(stringRecords().getItems().subList(2, 5)));
+        writer.close();
+
+        NioCsvItemWriter restarted = new NioCsvItemWriter(output.toString(), HEADERS, true, FlushPolicy.CHUNK_COMMIT, 1024);
+        restarted.open(context);
+        restarted.write(new Chunk<>(stringRecords().getItems().subList(2, 5)));
+        restarted.update(context);
+        restarted.close();
+
+        Path expected = tempDir.resolve("expected.csv");
+        writeAll(new CsvItemWriter(expected.toString(), HEADERS), stringRecords());
+        assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(output));
+        assertEquals(Files.size(output), context.getLong("output.offset"));
+    }
+
+    @Test
+    void shouldReplaceUnpairedSurrogates() throws Exception {
+        Path output = tempDir.resolve("out.csv");
+        Chunk<CsvRecord> chunk = new Chunk<>(new CsvRecord(1, SCHEMA, new String[] { "1", "a\uD800b", "\uDC00" }));
+        writeAll(new NioCsvItemWriter(output.toString(), HEADERS, false, FlushPolicy.CHUNK_COMMIT, 64), chunk);
+
+        assertEquals("\"1\",\"a?b\",\"?\"\n", Files.readString(output));
+    }
+
+    private static Chunk<CsvRecord> stringRecords() {
+        Chunk<CsvRecord> chunk = new Chunk<>();
+        for (String[] row : ROWS) {
+            chunk.add(new CsvRecord(Long.parseLong(row[0]), SCHEMA, row.clone()));
+        }
+        return chunk;
+    }
+
+    private static Chunk<CsvRecord> byteRecords() {
+        Chunk<CsvRecord> chunk = new Chunk<>();
+        for (String[] row : ROWS) {
+            FieldBuffer buffer = new FieldBuffer();
+            for (String value : row) {
+                if (value != null) {
+                    buffer.write(value.getBytes(StandardCharsets.UTF_8));
+                }
+                buffer.endField();
+            }
+            chunk.add(new CsvRecord(Long.parseLong(row[0]), SCHEMA, buffer.toByteFields()));
+        }
+        return chunk;
+    }
+
+    private static void writeAll(ItemStreamWriter<CsvRecord> writer, Chunk<CsvRecord> records) throws Exception {
+        writer.open(new ExecutionContext());
+        writer.write(records);
+        writer.close();
+    }
+}
@@ -0,0 +1,58 @@
+package com.sourav.enterprise.sanitizer.batch.writer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelGzipOutputStreamTest {
+    private final ExecutorService pool = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void shouldDecompressToTheOriginalBytesAcrossBlocks() throws Exception {
+        Random random = new Random(7);
+        byte[] data = new byte[100_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ('a' + random.nextInt(8));
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        // Blocks of 1000 bytes, written in uneven pieces and single bytes
+        try (OutputStream out = new ParallelGzipOutputStream(compressed, pool, 3, 1000)) {
+            out.write(data, 0, 1);
+            out.write(data, 1, 2999);
+            for (int i = 3000; i < 3500; i++) {
+                out.write(data[i]);
+            }
+            out.write(data, 3500, data.length - 3500);
+        }
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldWriteAValidStreamForEmptyInput() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new ParallelGzipOutputStream(compressed, pool, 3, 1000).close();
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertEquals(0, in.readAllBytes().length);
+        }
+    }
+}
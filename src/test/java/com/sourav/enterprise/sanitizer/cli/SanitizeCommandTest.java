@@ -0,0 +1,103 @@
+package com.sourav.enterprise.sanitizer.cli;
+
+import com.sourav.enterprise.sanitizer.dto.JobProgress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SanitizeCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final SanitizeCommand command = new SanitizeCommand(
+            new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+    @Test
+    void shouldParseOptionsInBothFormsAndPassPropertiesOn() {
+        SanitizeCommand.Options options = SanitizeCommand.Options.parse(new String[] {
+                "--input", "in.csv", "--output=out.csv", "--rules", "{\"columns\":{}}",
+                "--progress-interval=0.5", "--sanitizer.batch.reader-engine=mapped" });
+
+        assertEquals("in.csv", options.input());
+        assertEquals("out.csv", options.output());
+        assertEquals("{\"columns\":{}}", options.rules());
+        assertEquals(Duration.ofMillis(500), options.progressInterval());
+        assertEquals(List.of("--sanitizer.batch.reader-engine=mapped"), options.springArgs());
+        assertEquals(Duration.ofSeconds(2), SanitizeCommand.Options.parse(new String[] {
+                "--input", "a", "--output", "b", "--rules", "c" }).progressInterval());
+    }
+
+    @Test
+    void shouldRejectBadArgumentsWithUsageExitCode() {
+        assertEquals(SanitizeCommand.EXIT_USAGE, command.execute(new String[] { "--input", "in.csv" }));
+        assertEquals(SanitizeCommand.EXIT_USAGE, command.execute(new String[] { "--input", "a", "--output", "b",
+                "--rules", "c", "--verbose" }));
+        assertEquals(SanitizeCommand.EXIT_USAGE, command.execute(new String[] { "--input", "a", "--output", "b",
+                "--rules", "c", "--progress-interval", "soon" }));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage: sanitize"));
+        assertEquals(SanitizeCommand.EXIT_OK, command.execute(new String[] { "--help" }));
+    }
+
+    @Test
+    void shouldFailFastOnMissingInputAndInvalidRules() throws Exception {
+        Path input = Files.writeString(tempDir.resolve("in.csv"), "id,email\n1,a@b.com\n");
+        String output = tempDir.resolve("out.csv").toString();
+
+        assertEquals(SanitizeCommand.EXIT_NO_INPUT, command.execute(new String[] {
+                "--input", tempDir.resolve("missing.csv").toString(), "--output", output,
+                "--rules", "{\"columns\":{\"email\":\"HASH\"}}" }));
+        assertEquals(SanitizeCommand.EXIT_INVALID_RULES, command.execute(new String[] {
+                "--input", input.toString(), "--output", output, "--rules", "{\"columns\":{\"email\":\"SCRAMBLE\"}}" }));
+        assertEquals(SanitizeCommand.EXIT_INVALID_RULES, command.execute(new String[] {
+                "--input", input.toString(), "--output", output, "--rules", "{\"columns\":{}}" }));
+        assertFalse(Files.exists(Path.of(output)));
+    }
+
+    @Test
+    void shouldSanitizeFileWithoutWebStack() throws Exception {
+        Path input = Files.writeString(tempDir.resolve("in.csv"),
+                "id,email,ssn\n1,john@example.com,123-45-6789\n2,jane@example.com,234-56-7890\n");
+        Path rules = Files.writeString(tempDir.resolve("rules.json"),
+                "{\"columns\":{\"email\":\"HASH\",\"ssn\":\"NULLIFY\"}}");
+        Path output = tempDir.resolve("result/out.csv");
+
+        int exitCode = command.execute(new String[] { "--input", input.toString(), "--output", output.toString(),
+                "--rules", rules.toString(), "--progress-interval", "0" });
+
+        assertEquals(SanitizeCommand.EXIT_OK, exitCode, err.toString(StandardCharsets.UTF_8));
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(3, lines.size());
+        assertFalse(lines.get(1).contains("john@example.com"));
+        assertFalse(lines.get(1).contains("123-45-6789"));
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("2 rows written, 0 skipped"));
+
+        // A rule for a column the input does not have fails before the job starts
+        assertEquals(SanitizeCommand.EXIT_INVALID_RULES, command.execute(new String[] { "--input", input.toString(),
+                "--output", output.toString(), "--rules", "{\"columns\":{\"phone\":\"MASK\"}}" }));
+    }
+
+    @Test
+    void shouldDescribeProgressWithKnownFiguresOnly() {
+        JobProgress progress = JobProgress.builder().phase("SANITIZING").rowsProcessed(12_345L)
+                .rowsPerSecond(4_000.0).rowsSkipped(0L).build();
+        assertTrue(SanitizeCommand.describe(progress).matches("⏳ SANITIZING +12,345 rows  4,000 rows/s"),
+                SanitizeCommand.describe(progress));
+
+        progress.setPercentComplete(50.0);
+        progress.setEtaSeconds(3L);
+        progress.setRowsSkipped(2L);
+        assertTrue(SanitizeCommand.describe(progress).endsWith("50.0%  4,000 rows/s  ETA 3 s  2 skipped"));
+    }
+}
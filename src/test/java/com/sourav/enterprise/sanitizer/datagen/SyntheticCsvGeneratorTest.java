@@ -0,0 +1,96 @@
+package com.sourav.enterprise.sanitizer.datagen;
+
+import com.opencsv.CSVReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticCsvGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteParseableRowsOfTheSpecShape() throws Exception {
+        SyntheticCsvSpec spec = SyntheticCsvSpec.builder().rows(2000).columns(10).quotedRate(0.5).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SyntheticCsvGenerator.Result result = new SyntheticCsvGenerator(spec).write(out);
+
+        List<String[]> rows = parse(out);
+        assertArrayEquals(new String[] { "id", "name", "email", "phone", "address", "ssn", "number", "text",
+                "number_2", "text_2" }, rows.get(0));
+        assertEquals(2001, rows.size(), "Quoted newlines stay inside their rows");
+        assertTrue(rows.stream().allMatch(row -> row.length == 10));
+        assertEquals(2000, result.rows());
+        assertEquals(out.size(), result.bytes());
+        assertTrue(rows.stream().anyMatch(row -> row[7].contains("\n")));
+        assertTrue(rows.get(1)[2].matches("[a-z.]+\\d+@[a-z.]+"), rows.get(1)[2]);
+        assertTrue(rows.get(1)[5].matches("\\d{3}-\\d{2}-\\d{4}"), rows.get(1)[5]);
+
+        ByteArrayOutputStream again = new ByteArrayOutputStream();
+        new SyntheticCsvGenerator(spec).write(again);
+        assertArrayEquals(out.toByteArray(), again.toByteArray(), "Same spec, same file");
+    }
+
+    @Test
+    void shouldBoundAndSkewColumnValues() throws Exception {
+        List<String[]> uniform = generate(SyntheticCsvSpec.builder().rows(20_000).cardinality(50).build());
+        List<String[]> skewed = generate(SyntheticCsvSpec.builder().rows(20_000).cardinality(50_000).skew(1.2).build());
+
+        Set<String> emails = new HashSet<>();
+        uniform.forEach(row -> emails.add(row[2]));
+        assertEquals(50, emails.size());
+
+        Map<String, Integer> counts = new HashMap<>();
+        skewed.forEach(row -> counts.merge(row[5], 1, Integer::sum));
+        int top = counts.values().stream().max(Integer::compare).orElseThrow();
+        assertTrue(top > 2000, "The most frequent SSN of a Zipf(1.2) column takes about a fifth of rows, got " + top);
+    }
+
+    @Test
+    void shouldWriteMalformedRowsAtTheirRate() throws Exception {
+        SyntheticCsvSpec spec = SyntheticCsvSpec.builder().rows(10_000).malformedRate(0.1).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SyntheticCsvGenerator.Result result = new SyntheticCsvGenerator(spec).write(out);
+
+        List<String[]> rows = parse(out);
+        long malformed = rows.stream().filter(row -> row.length != 8).count();
+        assertEquals(result.malformedRows(), malformed);
+        assertTrue(malformed > 800 && malformed < 1200, "About 10%, got " + malformed);
+    }
+
+    @Test
+    void shouldStopAtTheTargetSize() throws Exception {
+        Path file = tempDir.resolve("target.csv");
+        SyntheticCsvGenerator.Result result = new SyntheticCsvGenerator(
+                SyntheticCsvSpec.builder().targetBytes(1_000_000).build()).write(file);
+
+        assertEquals(Files.size(file), result.bytes());
+        assertTrue(result.bytes() >= 1_000_000 && result.bytes() < 1_100_000, "Got " + result.bytes());
+    }
+
+    private static List<String[]> generate(SyntheticCsvSpec spec) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SyntheticCsvGenerator(spec).write(out);
+        List<String[]> rows = parse(out);
+        return rows.subList(1, rows.size());
+    }
+
+    private static List<String[]> parse(ByteArrayOutputStream out) throws Exception {
+        try (CSVReader reader = new CSVReader(new StringReader(out.toString(StandardCharsets.UTF_8)))) {
+            return reader.readAll();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.domain.entity.QueuedJob;
+import com.sourav.enterprise.sanitizer.domain.enums.JobPriority;
+import com.sourav.enterprise.sanitizer.exception.JobQueueFullException;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import com.sourav.enterprise.sanitizer.repository.QueuedJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:job-queue-test;DB_CLOSE_DELAY=-1")
+class JobQueueServiceTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    private QueuedJobRepository queuedJobRepository;
+
+    @Autowired
+    private LiveJobRegistry liveJobRegistry;
+
+    private final List<JobQueueService> services = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private Job job;
+    private Job blocker;
+
+    @BeforeEach
+    void setUp() {
+        queuedJobRepository.deleteAll();
+        job = job("queue-test-job", () -> {
+        });
+        blocker = job("queue-test-blocker", () -> release.await(30, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        services.forEach(JobQueueService::shutdown);
+    }
+
+    @Test
+    void shouldRejectSubmissionsWithARetryAfterHintOnceFull() throws Exception {
+        JobQueueService service = service(2);
+        service.submit(blocker, parameters(), JobPriority.NORMAL);
+        service.submit(job, parameters(), JobPriority.NORMAL);
+        service.submit(job, parameters(), JobPriority.NORMAL);
+
+        JobQueueFullException full = assertThrows(JobQueueFullException.class,
+                () -> service.submit(job, parameters(), JobPriority.HIGH));
+
+        assertEquals(42, full.getRetryAfterSeconds());
+        assertTrue(full.getMessage().contains("retry after 42 seconds"), full.getMessage());
+        // The running blocker's row is removed when it starts; the rejected job gets none
+        assertEquals(2, queuedJobRepository.count());
+    }
+
+    @Test
+    void shouldRequeueWaitingExecutionsAndDeleteStaleRows() throws Exception {
+        JobExecution waiting = jobRepository.createJobExecution(job.getName(), parameters());
+        JobExecution completed = jobRepository.createJobExecution(job.getName(), parameters());
+        completed.setStatus(BatchStatus.COMPLETED);
+        completed.setEndTime(LocalDateTime.now());
+        jobRepository.update(completed);
+        queue(waiting.getId(), JobPriority.HIGH);
+        queue(completed.getId(), JobPriority.NORMAL);
+        queue(Long.MAX_VALUE, JobPriority.NORMAL);
+
+        JobQueueService service = service(10);
+        service.submit(blocker, parameters(), JobPriority.NORMAL);
+        service.recover(parameters -> job);
+
+        assertEquals(1, service.getQueuePosition(waiting.getId()));
+        assertNull(service.getQueuePosition(completed.getId()));
+        assertEquals(List.of(waiting.getId()),
+                queuedJobRepository.findAll().stream().map(QueuedJob::getJobExecutionId).toList());
+    }
+
+    @Test
+    void shouldStopACancelledWaitingJobWithoutStartingIt() throws Exception {
+        JobQueueService service = service(10);
+        service.submit(blocker, parameters(), JobPriority.NORMAL);
+        JobExecution execution = service.submit(job, parameters(), JobPriority.NORMAL);
+        assertTrue(queuedJobRepository.existsById(execution.getId()));
+
+        assertTrue(service.cancel(execution.getId()));
+
+        JobExecution stopped = jobExplorer.getJobExecution(execution.getId());
+        assertEquals(BatchStatus.STOPPED, stopped.getStatus());
+        assertNotNull(stopped.getEndTime());
+        assertTrue(stopped.getStepExecutions().isEmpty());
+        assertFalse(queuedJobRepository.existsById(execution.getId()));
+        assertNull(service.getQueuePosition(execution.getId()));
+        assertFalse(service.cancel(execution.getId()), "Only waiting jobs can be cancelled");
+    }
+
+    /**
+     * Creates a queue running one job at a time. Submitting the blocker first
+     * takes that slot until the test ends, so later jobs stay waiting.
+     */
+    private JobQueueService service(int capacity) {
+        JobQueueService service = new JobQueueService(jobRepository, jobExplorer, queuedJobRepository,
+                liveJobRegistry, new PipelineMetrics(new SimpleMeterRegistry(), 0), 1, capacity, 42);
+        services.add(service);
+        return service;
+    }
+
+    private Job job(String name, Body body) {
+        return new JobBuilder(name, jobRepository)
+                .start(new StepBuilder(name + "-step", jobRepository)
+                        .tasklet((contribution, context) -> {
+                            body.run();
+                            return RepeatStatus.FINISHED;
+                        }, new ResourcelessTransactionManager())
+                        .build())
+                .build();
+    }
+
+    private void queue(Long jobExecutionId, JobPriority priority) {
+        queuedJobRepository.save(QueuedJob.builder()
+                .jobExecutionId(jobExecutionId)
+                .priority(priority)
+                .enqueuedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static JobParameters parameters() {
+        return new JobParametersBuilder().addString("run", UUID.randomUUID().toString()).toJobParameters();
+    }
+
+    private interface Body {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.domain.enums.JobPriority;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobQueueTest {
+
+    @Test
+    void shouldStartHigherPrioritiesFirstAndEqualPrioritiesInSubmissionOrder() {
+        JobQueue<String> queue = new JobQueue<>(10, 10);
+        queue.offer(1, JobPriority.NORMAL, "normal-1");
+        queue.offer(2, JobPriority.LOW, "low");
+        queue.offer(3, JobPriority.HIGH, "high");
+        queue.offer(4, JobPriority.NORMAL, "normal-2");
+
+        assertEquals(1, queue.position(3));
+        assertEquals(2, queue.position(1));
+        assertEquals(3, queue.position(4));
+        assertEquals(4, queue.position(2));
+
+        assertEquals("high", queue.startNext());
+        assertEquals("normal-1", queue.startNext());
+        assertEquals("normal-2", queue.startNext());
+        assertEquals("low", queue.startNext());
+        assertNull(queue.startNext());
+    }
+
+    @Test
+    void shouldLimitRunningEntries() {
+        JobQueue<String> queue = new JobQueue<>(10, 2);
+        queue.offer(1, JobPriority.NORMAL, "a");
+        queue.offer(2, JobPriority.NORMAL, "b");
+        queue.offer(3, JobPriority.NORMAL, "c");
+
+        assertEquals("a", queue.startNext());
+        assertEquals("b", queue.startNext());
+        assertNull(queue.startNext(), "Both running slots are taken");
+        assertEquals(1, queue.position(3));
+
+        queue.finished();
+        assertEquals("c", queue.startNext());
+        assertNull(queue.position(3));
+        assertEquals(2, queue.runningCount());
+    }
+
+    @Test
+    void shouldRejectOffersWhenFull() {
+        JobQueue<String> queue = new JobQueue<>(2, 1);
+        assertTrue(queue.offer(1, JobPriority.NORMAL, "a"));
+        assertTrue(queue.offer(2, JobPriority.NORMAL, "b"));
+        assertTrue(queue.isFull());
+        assertFalse(queue.offer(3, JobPriority.HIGH, "c"));
+
+        // Running entries don't count against the capacity
+        queue.startNext();
+        assertTrue(queue.offer(3, JobPriority.HIGH, "c"));
+        assertEquals(2, queue.waitingCount());
+    }
+
+    @Test
+    void shouldRemoveWaitingEntries() {
+        JobQueue<String> queue = new JobQueue<>(10, 1);
+        queue.offer(1, JobPriority.NORMAL, "a");
+        queue.offer(2, JobPriority.NORMAL, "b");
+        queue.offer(3, JobPriority.NORMAL, "c");
+
+        assertEquals("b", queue.remove(2));
+        assertNull(queue.remove(2));
+        assertEquals(2, queue.position(3));
+
+        assertEquals("a", queue.startNext());
+        assertNull(queue.remove(1), "Started entries are no longer waiting");
+    }
+}
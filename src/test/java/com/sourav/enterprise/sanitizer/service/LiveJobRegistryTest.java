@@ -0,0 +1,150 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.batch.reader.CsvRecordReader;
+import com.sourav.enterprise.sanitizer.dto.JobProgress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveJobRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldFollowAJobFromTheQueueToItsEnd() throws Exception {
+        LiveJobRegistry registry = new LiveJobRegistry(60);
+        JobExecution execution = execution(7L, input(1000));
+
+        registry.queued(execution);
+        assertEquals("PENDING", registry.get(7L).orElseThrow().getStatus());
+        assertEquals("QUEUED", registry.get(7L).orElseThrow().getPhase());
+
+        execution.setStatus(BatchStatus.STARTED);
+        execution.setStartTime(LocalDateTime.now());
+        registry.beforeJob(execution);
+        StepExecution step = execution.createStepExecution("sanitizeStep-1");
+        step.setId(1L);
+        registry.beforeStep(step);
+
+        step.setReadCount(50);
+        step.setWriteCount(48);
+        step.setProcessSkipCount(2);
+        step.getExecutionContext().putLong(CsvRecordReader.CURRENT_OFFSET_KEY, 250);
+        registry.chunkCommitted(step);
+
+        JobProgress running = registry.get(7L).orElseThrow();
+        assertEquals("STARTED", running.getStatus());
+        assertEquals("SANITIZING", running.getPhase());
+        assertEquals(50, running.getRowsProcessed());
+        assertEquals(48, running.getRowsWritten());
+        assertEquals(2, running.getRowsSkipped());
+        assertEquals(25.0, running.getPercentComplete(), 0.001, "250 of 1000 input bytes");
+        assertNotNull(running.getEtaSeconds());
+
+        execution.setStatus(BatchStatus.COMPLETED);
+        execution.setExitStatus(ExitStatus.COMPLETED);
+        execution.setEndTime(LocalDateTime.now());
+        registry.afterJob(execution);
+
+        JobProgress finished = registry.get(7L).orElseThrow();
+        assertEquals("COMPLETED", finished.getStatus());
+        assertEquals("FINISHED", finished.getPhase());
+        assertEquals(50, finished.getRowsProcessed());
+        assertNull(finished.getEtaSeconds());
+        assertTrue(finished.getVersion() > running.getVersion());
+    }
+
+    @Test
+    void shouldSumPartitionWorkersWithoutTheirManager() throws Exception {
+        LiveJobRegistry registry = new LiveJobRegistry(60);
+        JobExecution execution = execution(8L, input(1000));
+        execution.setStatus(BatchStatus.STARTED);
+        registry.beforeJob(execution);
+
+        StepExecution manager = execution.createStepExecution("sanitizeStep-1");
+        manager.setId(1L);
+        registry.beforeStep(manager);
+        for (int i = 0; i < 2; i++) {
+            StepExecution worker = execution.createStepExecution("sanitizeStep-1:partition-000" + i);
+            worker.setId(2L + i);
+            worker.getExecutionContext().putLong("partition.start", i * 500L);
+            registry.beforeStep(worker);
+            worker.setReadCount(30);
+            worker.getExecutionContext().putLong(CsvRecordReader.CURRENT_OFFSET_KEY, i * 500L + 200);
+            registry.chunkCommitted(worker);
+        }
+
+        JobProgress progress = registry.get(8L).orElseThrow();
+        assertEquals(60, progress.getRowsProcessed());
+        assertEquals(40.0, progress.getPercentComplete(), 0.001, "200 bytes into each half");
+
+        // The manager rolls up its workers' counts when it ends
+        manager.setReadCount(60);
+        registry.afterStep(manager);
+        assertEquals(60, registry.get(8L).orElseThrow().getRowsProcessed());
+
+        StepExecution stitch = execution.createStepExecution("stitchStep-1");
+        stitch.setId(9L);
+        registry.beforeStep(stitch);
+        assertEquals("STITCHING", registry.get(8L).orElseThrow().getPhase());
+
+        execution.setStatus(BatchStatus.COMPLETED);
+        registry.afterJob(execution);
+        assertEquals(60, registry.get(8L).orElseThrow().getRowsProcessed(), "Exact counts at the end");
+    }
+
+    @Test
+    void shouldEvictFinishedJobsAfterTheirRetention() throws Exception {
+        LiveJobRegistry registry = new LiveJobRegistry(0);
+        JobExecution running = execution(1L, input(10));
+        JobExecution stopped = execution(2L, input(10));
+        registry.queued(running);
+        registry.queued(stopped);
+
+        stopped.setStatus(BatchStatus.STOPPED);
+        registry.finished(stopped);
+        Thread.sleep(1);
+        registry.evictFinished();
+
+        assertEquals(List.of(1L), registry.getAll().stream().map(JobProgress::getJobExecutionId).toList());
+    }
+
+    @Test
+    void shouldDescribeStoredExecutionsLikeLiveOnes() throws Exception {
+        JobExecution execution = execution(3L, input(10));
+        StepExecution step = execution.createStepExecution("sanitizeStep-1");
+        step.setReadCount(5);
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED.addExitDescription("boom"));
+
+        JobProgress progress = LiveJobRegistry.snapshotOf(execution);
+        assertEquals("FAILED", progress.getStatus());
+        assertEquals("FINISHED", progress.getPhase());
+        assertEquals(5, progress.getRowsProcessed());
+        assertEquals("boom", progress.getExitDescription());
+    }
+
+    private Path input(int bytes) throws Exception {
+        Path input = Files.createTempFile(tempDir, "input", ".csv");
+        Files.write(input, new byte[bytes]);
+        return input;
+    }
+
+    private static JobExecution execution(long id, Path input) {
+        return new JobExecution(new JobInstance(id, "SANITIZE-" + id), id,
+                new JobParametersBuilder().addString("inputFile", input.toString()).toJobParameters());
+    }
+}
@@ -0,0 +1,76 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.batch.config.SanitizationJobFactory;
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:warmup-test;DB_CLOSE_DELAY=-1",
+        "sanitizer.warmup.enabled=true",
+        "sanitizer.warmup.rows=5000" })
+class StartupWarmupTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private SanitizationJobFactory jobFactory;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LiveJobRegistry liveJobRegistry;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private StartupWarmup startupWarmup;
+
+    @Test
+    void shouldWarmUpBeforeReadinessWithoutRecordingJobs() {
+        assertEquals(5000, startupWarmup.getWarmedUpRows());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+        assertTrue(jobExplorer.getJobNames().isEmpty());
+        assertTrue(liveJobRegistry.getAll().isEmpty());
+        assertEquals(0, meterRegistry.find(PipelineMetrics.ROWS).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    void shouldRunTheSanitizationPathOverAFile() throws Exception {
+        Path input = Files.writeString(tempDir.resolve("in.csv"),
+                "id,email,ssn\n1,john@example.com,123-45-6789\n2,jane@example.com,234-56-7890\n3,,345-67-8901\n");
+        Path output = tempDir.resolve("out.csv");
+        SanitizationConfig config = SanitizationConfig.builder()
+                .columns(Map.of("email", SanitizationOperation.HASH, "ssn", SanitizationOperation.NULLIFY))
+                .build();
+
+        assertEquals(3, jobFactory.warmUp(input.toString(), output.toString(), config, 2));
+
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(4, lines.size());
+        assertFalse(String.join("\n", lines).contains("john@example.com"));
+        assertFalse(String.join("\n", lines).contains("123-45-6789"));
+    }
+}
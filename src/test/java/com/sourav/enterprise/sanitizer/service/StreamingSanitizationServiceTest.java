@@ -0,0 +1,162 @@
+package com.sourav.enterprise.sanitizer.service;
+
+import com.sourav.enterprise.sanitizer.domain.enums.SanitizationOperation;
+import com.sourav.enterprise.sanitizer.domain.model.SanitizationConfig;
+import com.sourav.enterprise.sanitizer.exception.InvalidConfigurationException;
+import com.sourav.enterprise.sanitizer.metrics.PipelineMetrics;
+import com.sourav.enterprise.sanitizer.strategy.HashStrategy;
+import com.sourav.enterprise.sanitizer.strategy.MaskStrategy;
+import com.sourav.enterprise.sanitizer.strategy.NullifyStrategy;
+import com.sourav.enterprise.sanitizer.strategy.RandomizeStrategy;
+import com.sourav.enterprise.sanitizer.strategy.SanitizationStrategyFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingSanitizationServiceTest {
+    private static final SanitizationConfig RULES = SanitizationConfig.builder()
+            .columns(Map.of("email", SanitizationOperation.HASH, "ssn", SanitizationOperation.NULLIFY))
+            .build();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SanitizationStrategyFactory strategyFactory = new SanitizationStrategyFactory(
+            new MaskStrategy('*', 4), new HashStrategy("SHA-256"),
+            new NullifyStrategy(""), new RandomizeStrategy());
+
+    private StreamingSanitizationService service(int flushRows, int skipLimit) {
+        return new StreamingSanitizationService(strategyFactory, new PipelineMetrics(registry, 64),
+                2, 100, flushRows, skipLimit, 100_000);
+    }
+
+    @Test
+    void shouldSanitizeStreamRowByRow() throws Exception {
+        String csv = "id,email,ssn\n1,john@example.com,123-45-6789\n2,jane@example.com,234-56-7890\n"
+                + "3,,345-67-8901\n4,john@example.com\n";
+
+        String output = sanitize(service(2, 0), csv, RULES);
+
+        String[] lines = output.split("\n");
+        assertEquals(5, lines.length);
+        assertEquals("\"id\",\"email\",\"ssn\"", lines[0]);
+        assertFalse(output.contains("john@example.com"));
+        assertFalse(output.contains("123-45-6789"));
+        assertTrue(lines[1].startsWith("\"1\","));
+        assertTrue(lines[4].startsWith("\"4\","));
+        // Equal inputs hash to equal outputs, and short rows are padded
+        assertEquals(lines[1].split(",")[1], lines[4].split(",")[1]);
+        assertTrue(lines[4].endsWith(",\"\""));
+        assertEquals(4, registry.find(PipelineMetrics.ROWS).counters().stream()
+                .filter(counter -> "written".equals(counter.getId().getTag("outcome")))
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    void shouldRejectInvalidRulesBeforeWritingAnything() {
+        StreamingSanitizationService service = service(2, 0);
+        SanitizationConfig unknownColumn = SanitizationConfig.builder()
+                .columns(Map.of("phone", SanitizationOperation.MASK))
+                .build();
+
+        assertThrows(InvalidConfigurationException.class,
+                () -> service.open(input("id,email\n1,a@b.com\n"), unknownColumn));
+        assertThrows(InvalidConfigurationException.class, () -> service.open(input(""), RULES));
+        assertThrows(InvalidConfigurationException.class,
+                () -> service.open(input("id,email\n"), SanitizationConfig.builder().columns(Map.of()).build()));
+    }
+
+    @Test
+    void shouldSkipUnparseableRowsUpToTheSkipLimit() throws Exception {
+        String csv = "id,email,ssn\n1,john@example.com,123-45-6789\n2,jane@example.com,234\n3,\"broken,x\n";
+
+        String output = sanitize(service(1000, 1), csv, RULES);
+        assertEquals(3, output.split("\n").length);
+        assertTrue(output.contains("\"2\","));
+        assertFalse(output.contains("broken"));
+
+        assertThrows(IOException.class, () -> sanitize(service(1000, 0), csv, RULES));
+    }
+
+    @Test
+    void shouldStopAtARecordLongerThanTheLimit() throws Exception {
+        // An unterminated quote would otherwise pull every following line into one field
+        StringBuilder csv = new StringBuilder("id,email,ssn\n1,john@example.com,123-45-6789\n2,\"unterminated\n");
+        for (int i = 3; i < 50_000; i++) {
+            csv.append(i).append(",user").append(i).append("@example.com,123-45-6789\n");
+        }
+
+        StreamingSanitizationService oneRowSample = new StreamingSanitizationService(strategyFactory,
+                new PipelineMetrics(registry, 64), 1, 100, 1, 100, 100_000);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        IOException failure = assertThrows(IOException.class,
+                () -> oneRowSample.open(input(csv.toString()), RULES).writeTo(output));
+        assertTrue(failure.getMessage().contains("longer than 100000 characters"), failure.getMessage());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("\"1\","));
+
+        // In the profiling sample it is rejected before any output
+        assertThrows(InvalidConfigurationException.class, () -> service(1000, 100).open(input(csv.toString()), RULES));
+    }
+
+    @Test
+    void shouldBoundTheProfilingSampleByCharacters() throws Exception {
+        // 1000 sampled rows of 90,000 characters would hold about 90 MB before the response starts
+        int rows = 1000;
+        String note = "x".repeat(90_000);
+        Enumeration<InputStream> lines = new Enumeration<>() {
+            private int row;
+
+            @Override
+            public boolean hasMoreElements() {
+                return row <= rows;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                String line = row == 0 ? "id,email,ssn,note\n" : row + ",user" + row + "@example.com,123-45-6789," + note + "\n";
+                row++;
+                return input(line);
+            }
+        };
+        StreamingSanitizationService service = new StreamingSanitizationService(strategyFactory,
+                new PipelineMetrics(registry, 64), 1000, 100, 100, 0, 100_000);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        StreamingSanitizationService.SanitizingStream stream = service.open(new SequenceInputStream(lines), RULES);
+        System.gc();
+        long heapRetained = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+
+        assertTrue(stream.getSampleChars() <= StreamingSanitizationService.MAX_SAMPLE_CHARS + 100_000,
+                "Sampled " + stream.getSampleChars() + " characters");
+        assertTrue(heapRetained < 32 * 1024 * 1024, "Retained " + heapRetained + " bytes");
+
+        stream.writeTo(OutputStream.nullOutputStream());
+        assertEquals(rows, registry.find(PipelineMetrics.ROWS).counters().stream()
+                .filter(counter -> "written".equals(counter.getId().getTag("outcome")))
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    private static String sanitize(StreamingSanitizationService service, String csv, SanitizationConfig config)
+            throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.open(input(csv), config).writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream input(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,8 @@
 package com.sourav.enterprise.sanitizer.strategy;
 
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
 import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
 import static org.junit.jupiter.api.Assertions.*;
 
 class HashStrategyTest {
@@ -22,6 +24,17 @@ class HashStrategyTest {
         assertEquals(64, strategy.apply("test").length());
     }
 
+    @Test
+    void shouldMatchStringPathOnBytes() {
+        FieldBuffer out = new FieldBuffer();
+        for (String value : new String[] { "test@example.com", "Zoë", "x" }) {
+            byte[] bytes = ("--" + value).getBytes(StandardCharsets.UTF_8);
+            out.reset();
+            strategy.apply(bytes, 2, bytes.length - 2, null, out);
+            assertEquals(strategy.apply(value), new String(out.array(), 0, out.length(), StandardCharsets.US_ASCII));
+        }
+    }
+
     @Test
     void shouldHandleNull() {
         assertNull(strategy.apply(null));
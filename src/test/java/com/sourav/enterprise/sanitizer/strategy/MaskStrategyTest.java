@@ -1,6 +1,9 @@
 package com.sourav.enterprise.sanitizer.strategy;
 
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
+import com.sourav.enterprise.sanitizer.domain.model.FieldBuffer;
 import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
 import static org.junit.jupiter.api.Assertions.*;
 
 class MaskStrategyTest {
@@ -21,6 +24,52 @@ class MaskStrategyTest {
         assertTrue(result.contains("*"));
     }
 
+    @Test
+    void shouldMatchPerValueDetectionOnTypedPath() {
+        String[] values = { "john.doe@example.com", "(555) 123-4567", "Jane Doe", "42 Elm Street", "123456", "ab@cd" };
+        for (String value : values) {
+            SemanticType type = ValueClassifier.classify(value);
+            assertEquals(strategy.apply(value), strategy.apply(value, type), value);
+            assertEquals(strategy.apply(value), strategy.apply(value, SemanticType.MIXED), value);
+        }
+    }
+
+    @Test
+    void shouldMatchStringPathOnBytes() {
+        String[] values = { "john.doe@example.com", "ab@cd", "@example.com", "x@localhost", "(555) 123-4567",
+                "Jane Doe", "42 Elm Street", "123456", "abc", "Zoë Ångström", "名前@例え.jp" };
+        FieldBuffer out = new FieldBuffer(4);
+        for (String value : values) {
+            byte[] padded = ("|" + value + "|").getBytes(StandardCharsets.UTF_8);
+            int length = padded.length - 2;
+            for (SemanticType type : new SemanticType[] { null, ValueClassifier.classify(value), SemanticType.MIXED }) {
+                out.reset();
+                strategy.apply(padded, 1, length, type, out);
+                assertEquals(strategy.apply(value, type),
+                        new String(out.array(), 0, out.length(), StandardCharsets.UTF_8), value + " as " + type);
+            }
+        }
+    }
+
+    @Test
+    void shouldNotTrustProfiledTypeForValuesThatDoNotMatchIt() {
+        // A column profiled as PHONE or EMAIL from its first rows may hold other values later
+        String[] values = { "John Smith, call me", "42 Elm Street", "jane.doe" };
+        FieldBuffer out = new FieldBuffer(4);
+        for (String value : values) {
+            for (SemanticType type : new SemanticType[] { SemanticType.PHONE, SemanticType.EMAIL }) {
+                String masked = strategy.apply(value, type);
+                assertEquals(strategy.apply(value), masked, value + " as " + type);
+                assertNotEquals(value, masked);
+
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.reset();
+                strategy.apply(bytes, 0, bytes.length, type, out);
+                assertEquals(masked, new String(out.array(), 0, out.length(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
     @Test
     void shouldHandleNull() {
         assertNull(strategy.apply(null));
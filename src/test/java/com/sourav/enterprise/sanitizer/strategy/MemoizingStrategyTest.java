@@ -0,0 +1,59 @@
+package com.sourav.enterprise.sanitizer.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizingStrategyTest {
+
+    @Test
+    void shouldComputeRepeatedValuesOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizingStrategy strategy = new MemoizingStrategy(counting(calls), 100);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("h(a@b.com)", strategy.apply("a@b.com"));
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(9, strategy.stats().hitCount());
+        assertEquals(1, strategy.stats().missCount());
+    }
+
+    @Test
+    void shouldStayBoundedAndCountEvictions() {
+        MemoizingStrategy strategy = new MemoizingStrategy(counting(new AtomicInteger()), 10);
+
+        for (int i = 0; i < 1000; i++) {
+            strategy.apply("value-" + i);
+        }
+
+        assertTrue(strategy.stats().evictionCount() >= 990 - 10);
+    }
+
+    @Test
+    void shouldNotCacheEmptyValues() {
+        MemoizingStrategy strategy = new MemoizingStrategy(counting(new AtomicInteger()), 10);
+
+        assertNull(strategy.apply(null));
+        assertEquals("", strategy.apply(""));
+        assertEquals(0, strategy.stats().requestCount());
+    }
+
+    private static SanitizationStrategy counting(AtomicInteger calls) {
+        return new SanitizationStrategy() {
+            @Override
+            public String apply(String value) {
+                calls.incrementAndGet();
+                return "h(" + value + ")";
+            }
+
+            @Override
+            public String getStrategyName() {
+                return "COUNTING";
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.sourav.enterprise.sanitizer.strategy;
 
+import com.sourav.enterprise.sanitizer.domain.enums.SemanticType;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,6 +20,34 @@ class RandomizeStrategyTest {
         assertEquals(strategy.apply(input), strategy.apply(input));
     }
 
+    @Test
+    void shouldBeDeterministicAcrossInstances() {
+        RandomizeStrategy other = new RandomizeStrategy();
+        for (String input : new String[] { "Jane Doe", "555-123-4567", "42 Elm Street", "1234", "some free text" }) {
+            assertEquals(strategy.apply(input), other.apply(input));
+        }
+    }
+
+    @Test
+    void shouldKeepValueKind() {
+        assertEquals(2, strategy.apply("Jane Doe").split(" ").length);
+        assertTrue(strategy.apply("1234").matches("\\d{4}"));
+        assertEquals(3, strategy.apply("three little words").split(" ").length);
+    }
+
+    @Test
+    void shouldMatchPerValueDetectionOnTypedPath() {
+        for (String value : new String[] { "a@b.com", "555 123 4567", "Jane Doe", "42 Elm Street", "-3.5", "free text" }) {
+            assertEquals(strategy.apply(value), strategy.apply(value, ValueClassifier.classify(value)), value);
+        }
+    }
+
+    @Test
+    void shouldDependOnSeed() {
+        RandomizeStrategy reseeded = new RandomizeStrategy(7, 4096, "en");
+        assertNotEquals(strategy.apply("john@example.com"), reseeded.apply("john@example.com"));
+    }
+
     @Test
     void shouldHandleNull() {
         assertNull(strategy.apply(null));